@@ -6,6 +6,7 @@ package io.airbyte.commons.jackson;
 
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 
@@ -23,6 +24,16 @@ public class MoreMappers {
     return result;
   }
 
+  /**
+   * Same configuration as {@link #initMapper()}, but reads and writes Smile, the binary encoding of
+   * json.
+   */
+  public static ObjectMapper initSmileMapper() {
+    final ObjectMapper result = new ObjectMapper(new SmileFactory()).registerModule(new JavaTimeModule());
+    result.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    return result;
+  }
+
   public static ObjectMapper initYamlMapper(YAMLFactory factory) {
     return new ObjectMapper(factory).registerModule(new JavaTimeModule());
   }
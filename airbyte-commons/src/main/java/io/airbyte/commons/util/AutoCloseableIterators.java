@@ -129,4 +129,18 @@ public class AutoCloseableIterators {
     return new CompositeIterator<>(iterators);
   }
 
+  /**
+   * Like {@link #concatWithEagerClose(List)}, but consumes up to parallelism iterators at once. The
+   * elements of each iterator keep their order, the elements of different iterators are interleaved.
+   *
+   * @param iterators iterators to compose
+   * @param parallelism max number of iterators consumed at once
+   * @param queueCapacity max number of elements read ahead of the consumer
+   * @param <T> type
+   * @return composite iterator
+   */
+  public static <T> ParallelCompositeIterator<T> concatInParallel(List<AutoCloseableIterator<T>> iterators, int parallelism, int queueCapacity) {
+    return new ParallelCompositeIterator<>(iterators, parallelism, queueCapacity);
+  }
+
 }
@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.util;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.AbstractIterator;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Composes multiple {@link AutoCloseableIterator}s like {@link CompositeIterator}, but consumes up
+ * to parallelism of them at once, each on its own thread, and merges their elements through a
+ * bounded queue.
+ *
+ * <p>
+ * Elements of different internal iterators are interleaved, but the elements of each internal
+ * iterator keep their order. Each internal iterator is closed by its thread as soon as it has no
+ * more elements or fails. The first exception or error thrown by an internal iterator is rethrown by
+ * this iterator.
+ * </p>
+ * <p>
+ * {@link ParallelCompositeIterator#close()} stops the threads and then closes the internal iterators
+ * their threads did not close, rethrowing the _first_ exception encountered like
+ * {@link CompositeIterator#close()}. Each internal iterator is closed once.
+ * </p>
+ *
+ * @param <T> type
+ */
+public final class ParallelCompositeIterator<T> extends AbstractIterator<T> implements AutoCloseableIterator<T> {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ParallelCompositeIterator.class);
+
+  private static final long POLL_INTERVAL_MS = 100;
+  private static final long THREAD_TERMINATION_TIMEOUT_SECONDS = 60;
+  private static final Object END_OF_DATA = new Object();
+
+  private final List<AutoCloseableIterator<T>> iterators;
+  private final int parallelism;
+  private final BlockingQueue<Object> queue;
+  private final AtomicInteger runningIterators;
+  private final Set<AutoCloseableIterator<T>> closedIterators;
+
+  private ExecutorService executor;
+  private volatile boolean hasClosed;
+
+  ParallelCompositeIterator(List<AutoCloseableIterator<T>> iterators, int parallelism, int queueCapacity) {
+    Preconditions.checkNotNull(iterators);
+    Preconditions.checkArgument(parallelism > 0, "parallelism must be positive");
+
+    this.iterators = iterators;
+    this.parallelism = parallelism;
+    this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    this.runningIterators = new AtomicInteger(iterators.size());
+    this.closedIterators = ConcurrentHashMap.newKeySet();
+    this.hasClosed = false;
+  }
+
+  @Override
+  protected T computeNext() {
+    Preconditions.checkState(!hasClosed);
+
+    if (iterators.isEmpty()) {
+      return endOfData();
+    }
+    if (executor == null) {
+      start();
+    }
+
+    final Object element;
+    try {
+      element = queue.take();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException(e);
+    }
+
+    if (element == END_OF_DATA) {
+      return endOfData();
+    }
+    if (element instanceof Failure) {
+      final Throwable cause = ((Failure) element).cause;
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw new RuntimeException(cause);
+    }
+    @SuppressWarnings("unchecked")
+    final T value = (T) element;
+    return value;
+  }
+
+  private void start() {
+    executor = Executors.newFixedThreadPool(
+        Math.min(parallelism, iterators.size()),
+        new ThreadFactoryBuilder().setNameFormat("parallel-iterator-%d").setDaemon(true).build());
+    for (final AutoCloseableIterator<T> iterator : iterators) {
+      executor.submit(() -> consume(iterator));
+    }
+    executor.shutdown();
+  }
+
+  private void consume(AutoCloseableIterator<T> iterator) {
+    try {
+      try {
+        while (!hasClosed && iterator.hasNext()) {
+          if (!put(iterator.next())) {
+            break;
+          }
+        }
+      } finally {
+        closeOnce(iterator);
+      }
+    } catch (Throwable t) {
+      LOGGER.error("exception while reading", t);
+      put(new Failure(t));
+    } finally {
+      // also after a failure, so that the consumer never waits for elements that will not come.
+      if (runningIterators.decrementAndGet() == 0) {
+        put(END_OF_DATA);
+      }
+    }
+  }
+
+  private void closeOnce(AutoCloseableIterator<T> iterator) throws Exception {
+    if (closedIterators.add(iterator)) {
+      iterator.close();
+    }
+  }
+
+  /**
+   * @return false if the element could not be queued because this iterator was closed.
+   */
+  private boolean put(Object element) {
+    try {
+      while (!hasClosed) {
+        if (queue.offer(element, POLL_INTERVAL_MS, TimeUnit.MILLISECONDS)) {
+          return true;
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    return false;
+  }
+
+  @Override
+  public void close() throws Exception {
+    hasClosed = true;
+
+    if (executor != null) {
+      executor.shutdownNow();
+      if (!executor.awaitTermination(THREAD_TERMINATION_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+        LOGGER.warn("Threads reading internal iterators did not terminate, closing the iterators anyway.");
+      }
+    }
+
+    final List<Exception> exceptions = new ArrayList<>();
+    for (AutoCloseableIterator<T> iterator : iterators) {
+      try {
+        closeOnce(iterator);
+      } catch (Exception e) {
+        LOGGER.error("exception while closing", e);
+        exceptions.add(e);
+      }
+    }
+
+    if (!exceptions.isEmpty()) {
+      throw exceptions.get(0);
+    }
+  }
+
+  private static class Failure {
+
+    private final Throwable cause;
+
+    private Failure(Throwable cause) {
+      this.cause = cause;
+    }
+
+  }
+
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.google.common.collect.ImmutableList;
+import io.airbyte.commons.concurrency.VoidCallable;
+import java.util.Collections;
+import java.util.Iterator;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+class ParallelCompositeIteratorTest {
+
+  @Test
+  void testEmptyInput() {
+    final AutoCloseableIterator<String> iterator = new ParallelCompositeIterator<>(Collections.emptyList(), 2, 10);
+    assertFalse(iterator.hasNext());
+  }
+
+  @Test
+  void testKeepsOrderOfEachIterator() throws Exception {
+    final VoidCallable onClose1 = mock(VoidCallable.class);
+    final VoidCallable onClose2 = mock(VoidCallable.class);
+    final VoidCallable onClose3 = mock(VoidCallable.class);
+    final AutoCloseableIterator<String> iterator = new ParallelCompositeIterator<>(ImmutableList.of(
+        AutoCloseableIterators.fromIterator(MoreIterators.of("a1", "a2", "a3"), onClose1),
+        AutoCloseableIterators.fromIterator(MoreIterators.of("b1", "b2", "b3"), onClose2),
+        AutoCloseableIterators.fromIterator(MoreIterators.of("c1", "c2", "c3"), onClose3)), 2, 1);
+
+    final List<String> elements = MoreIterators.toList(iterator);
+    iterator.close();
+
+    assertEquals(9, elements.size());
+    for (final String prefix : List.of("a", "b", "c")) {
+      assertEquals(
+          List.of(prefix + "1", prefix + "2", prefix + "3"),
+          elements.stream().filter(e -> e.startsWith(prefix)).collect(Collectors.toList()));
+    }
+    verify(onClose1, times(1)).call();
+    verify(onClose2, times(1)).call();
+    verify(onClose3, times(1)).call();
+  }
+
+  @Test
+  void testRethrowsExceptionOfIterator() throws Exception {
+    final Iterator<String> failingIterator = new Iterator<>() {
+
+      @Override
+      public boolean hasNext() {
+        return true;
+      }
+
+      @Override
+      public String next() {
+        throw new IllegalStateException("read failed");
+      }
+
+    };
+    final AutoCloseableIterator<String> iterator = new ParallelCompositeIterator<>(ImmutableList.of(
+        AutoCloseableIterators.fromIterator(MoreIterators.of("a1", "a2")),
+        AutoCloseableIterators.fromIterator(failingIterator)), 2, 10);
+
+    assertThrows(RuntimeException.class, () -> MoreIterators.toList(iterator));
+    iterator.close();
+  }
+
+  @Test
+  void testRethrowsErrorOfIterator() throws Exception {
+    final VoidCallable onClose = mock(VoidCallable.class);
+    final Iterator<String> failingIterator = new Iterator<>() {
+
+      @Override
+      public boolean hasNext() {
+        return true;
+      }
+
+      @Override
+      public String next() {
+        throw new AssertionError("read failed");
+      }
+
+    };
+    final AutoCloseableIterator<String> iterator = new ParallelCompositeIterator<>(ImmutableList.of(
+        AutoCloseableIterators.fromIterator(MoreIterators.of("a1", "a2")),
+        AutoCloseableIterators.fromIterator(failingIterator, onClose)), 2, 10);
+
+    // an error used to leave the consumer waiting for the end of the failed iterator forever.
+    final AssertionError error =
+        assertThrows(AssertionError.class, () -> assertTimeoutPreemptively(Duration.ofSeconds(30), () -> MoreIterators.toList(iterator)));
+    assertEquals("read failed", error.getMessage());
+    iterator.close();
+    verify(onClose, times(1)).call();
+  }
+
+}
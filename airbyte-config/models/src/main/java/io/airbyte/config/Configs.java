@@ -39,6 +39,8 @@ public interface Configs {
 
   String getConfigDatabaseUrl();
 
+  int getConfigCacheMaximumSize();
+
   String getSecretStoreGcpProjectId();
 
   String getSecretStoreGcpCredentials();
@@ -49,6 +51,10 @@ public interface Configs {
 
   int getMaxSyncTimeoutDays();
 
+  int getReplicationPipelineBufferSize();
+
+  boolean getRequestFramedSourceOutput();
+
   String getWebappUrl();
 
   String getWorkspaceDockerMount();
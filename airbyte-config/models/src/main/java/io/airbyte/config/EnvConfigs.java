@@ -53,6 +53,9 @@ public class EnvConfigs implements Configs {
   public static final String WORKER_POD_NODE_SELECTORS = "WORKER_POD_NODE_SELECTORS";
   public static final String MAX_SYNC_JOB_ATTEMPTS = "MAX_SYNC_JOB_ATTEMPTS";
   public static final String MAX_SYNC_TIMEOUT_DAYS = "MAX_SYNC_TIMEOUT_DAYS";
+  public static final String REPLICATION_PIPELINE_BUFFER_SIZE = "REPLICATION_PIPELINE_BUFFER_SIZE";
+  public static final String REQUEST_FRAMED_SOURCE_OUTPUT = "REQUEST_FRAMED_SOURCE_OUTPUT";
+  public static final String CONFIG_CACHE_MAXIMUM_SIZE = "CONFIG_CACHE_MAXIMUM_SIZE";
   private static final String MINIMUM_WORKSPACE_RETENTION_DAYS = "MINIMUM_WORKSPACE_RETENTION_DAYS";
   private static final String MAXIMUM_WORKSPACE_RETENTION_DAYS = "MAXIMUM_WORKSPACE_RETENTION_DAYS";
   private static final String MAXIMUM_WORKSPACE_SIZE_MB = "MAXIMUM_WORKSPACE_SIZE_MB";
@@ -166,6 +169,24 @@ public class EnvConfigs implements Configs {
     return Integer.parseInt(getEnvOrDefault(MAX_SYNC_TIMEOUT_DAYS, "3"));
   }
 
+  /**
+   * Number of messages buffered between each stage of the replication pipeline. 0 disables the
+   * pipeline and replicates on a single thread.
+   */
+  @Override
+  public int getReplicationPipelineBufferSize() {
+    return Integer.parseInt(getEnvOrDefault(REPLICATION_PIPELINE_BUFFER_SIZE, "0"));
+  }
+
+  /**
+   * Whether sources are asked to write binary framed messages instead of json lines. Sources that do
+   * not support it ignore the request.
+   */
+  @Override
+  public boolean getRequestFramedSourceOutput() {
+    return getEnvOrDefault(REQUEST_FRAMED_SOURCE_OUTPUT, false);
+  }
+
   @Override
   public String getConfigDatabaseUser() {
     // Default to reuse the job database
@@ -184,6 +205,14 @@ public class EnvConfigs implements Configs {
     return getEnvOrDefault(CONFIG_DATABASE_URL, getDatabaseUrl());
   }
 
+  /**
+   * Number of config objects the server keeps in memory. 0 disables the cache.
+   */
+  @Override
+  public int getConfigCacheMaximumSize() {
+    return Integer.parseInt(getEnvOrDefault(CONFIG_CACHE_MAXIMUM_SIZE, "10000"));
+  }
+
   @Override
   public String getSecretStoreGcpCredentials() {
     return getEnv(SECRET_STORE_GCP_CREDENTIALS);
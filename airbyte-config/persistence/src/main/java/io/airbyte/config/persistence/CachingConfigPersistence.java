@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.persistence;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.config.AirbyteConfig;
+import io.airbyte.validation.json.JsonValidationException;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Keeps the configs read from the decorated persistence in memory, so that repeated reads do not go
+ * to the database, nor get validated again when the decorated persistence is a
+ * {@link ValidatingConfigPersistence}. Writes go straight to the decorated persistence and evict
+ * the configs of their type.
+ * <p/>
+ * The cache only sees writes that go through it, so it must not be used in a process that reads
+ * configs written by another process.
+ * <p/>
+ * Config objects are mutable, so callers get a copy of the cached object.
+ */
+public class CachingConfigPersistence implements ConfigPersistence {
+
+  private final ConfigPersistence decoratedPersistence;
+  private final Cache<ConfigKey, Object> configCache;
+  // the list of each config type, weighed by its number of configs.
+  private final Cache<AirbyteConfig, List<Object>> listCache;
+  // bumped on every eviction, so that a read which started before a write does not cache what it
+  // read once the write has evicted it.
+  private long version;
+
+  /**
+   * @param maximumSize maximum number of configs held by the config cache, and by the list cache.
+   */
+  public CachingConfigPersistence(final ConfigPersistence decoratedPersistence, final long maximumSize) {
+    this.decoratedPersistence = decoratedPersistence;
+    this.configCache = CacheBuilder.newBuilder()
+        .maximumSize(maximumSize)
+        .recordStats()
+        .build();
+    this.listCache = CacheBuilder.newBuilder()
+        .maximumWeight(maximumSize)
+        .<AirbyteConfig, List<Object>>weigher((configType, configs) -> configs.size())
+        .recordStats()
+        .build();
+  }
+
+  @Override
+  public <T> T getConfig(final AirbyteConfig configType, final String configId, final Class<T> clazz)
+      throws ConfigNotFoundException, JsonValidationException, IOException {
+    final ConfigKey key = new ConfigKey(configType, configId);
+    final Object cachedConfig = configCache.getIfPresent(key);
+    if (cachedConfig != null) {
+      return clazz.cast(Jsons.clone(cachedConfig));
+    }
+
+    final long versionBeforeRead = getVersion();
+    final T config = decoratedPersistence.getConfig(configType, configId, clazz);
+    synchronized (this) {
+      if (version == versionBeforeRead) {
+        configCache.put(key, Jsons.clone(config));
+      }
+    }
+    return config;
+  }
+
+  @Override
+  public <T> List<T> listConfigs(final AirbyteConfig configType, final Class<T> clazz) throws JsonValidationException, IOException {
+    final List<Object> cachedConfigs = listCache.getIfPresent(configType);
+    if (cachedConfigs != null) {
+      return cachedConfigs.stream().map(config -> clazz.cast(Jsons.clone(config))).collect(Collectors.toList());
+    }
+
+    final long versionBeforeRead = getVersion();
+    final List<T> configs = decoratedPersistence.listConfigs(configType, clazz);
+    final List<Object> copies = configs.stream().<Object>map(Jsons::clone).collect(Collectors.toList());
+    synchronized (this) {
+      if (version == versionBeforeRead) {
+        listCache.put(configType, copies);
+        for (final Object config : copies) {
+          configCache.put(new ConfigKey(configType, configType.getId(config)), config);
+        }
+      }
+    }
+    return configs;
+  }
+
+  @Override
+  public <T> void writeConfig(final AirbyteConfig configType, final String configId, final T config) throws JsonValidationException, IOException {
+    try {
+      decoratedPersistence.writeConfig(configType, configId, config);
+    } finally {
+      evict(configType, configId);
+    }
+  }
+
+  @Override
+  public void deleteConfig(final AirbyteConfig configType, final String configId) throws ConfigNotFoundException, IOException {
+    try {
+      decoratedPersistence.deleteConfig(configType, configId);
+    } finally {
+      evict(configType, configId);
+    }
+  }
+
+  @Override
+  public void replaceAllConfigs(final Map<AirbyteConfig, Stream<?>> configs, final boolean dryRun) throws IOException {
+    try {
+      decoratedPersistence.replaceAllConfigs(configs, dryRun);
+    } finally {
+      evictAll();
+    }
+  }
+
+  @Override
+  public Map<String, Stream<JsonNode>> dumpConfigs() throws IOException {
+    return decoratedPersistence.dumpConfigs();
+  }
+
+  @Override
+  public void loadData(final ConfigPersistence seedPersistence) throws IOException {
+    try {
+      decoratedPersistence.loadData(seedPersistence);
+    } finally {
+      evictAll();
+    }
+  }
+
+  public CacheStats getConfigCacheStats() {
+    return configCache.stats();
+  }
+
+  public CacheStats getListCacheStats() {
+    return listCache.stats();
+  }
+
+  private synchronized long getVersion() {
+    return version;
+  }
+
+  private synchronized void evict(final AirbyteConfig configType, final String configId) {
+    version++;
+    configCache.invalidate(new ConfigKey(configType, configId));
+    listCache.invalidate(configType);
+  }
+
+  private synchronized void evictAll() {
+    version++;
+    configCache.invalidateAll();
+    listCache.invalidateAll();
+  }
+
+  private static class ConfigKey {
+
+    private final AirbyteConfig configType;
+    private final String configId;
+
+    private ConfigKey(final AirbyteConfig configType, final String configId) {
+      this.configType = configType;
+      this.configId = configId;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      final ConfigKey configKey = (ConfigKey) o;
+      return configType.equals(configKey.configType) && configId.equals(configKey.configId);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(configType, configId);
+    }
+
+  }
+
+}
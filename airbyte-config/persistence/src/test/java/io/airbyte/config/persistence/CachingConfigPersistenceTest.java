@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.airbyte.config.ConfigSchema;
+import io.airbyte.config.StandardSourceDefinition;
+import io.airbyte.validation.json.JsonValidationException;
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CachingConfigPersistenceTest {
+
+  private static final UUID UUID_1 = new UUID(0, 1);
+  private static final StandardSourceDefinition SOURCE_1 = new StandardSourceDefinition()
+      .withSourceDefinitionId(UUID_1)
+      .withName("apache storm");
+
+  private static final UUID UUID_2 = new UUID(0, 2);
+  private static final StandardSourceDefinition SOURCE_2 = new StandardSourceDefinition()
+      .withSourceDefinitionId(UUID_2)
+      .withName("apache storm");
+
+  private ConfigPersistence decoratedConfigPersistence;
+  private CachingConfigPersistence configPersistence;
+
+  @BeforeEach
+  void setUp() {
+    decoratedConfigPersistence = mock(ConfigPersistence.class);
+    configPersistence = new CachingConfigPersistence(decoratedConfigPersistence, 100);
+  }
+
+  @Test
+  void testGetConfigIsCached() throws IOException, JsonValidationException, ConfigNotFoundException {
+    when(decoratedConfigPersistence.getConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, UUID_1.toString(), StandardSourceDefinition.class))
+        .thenReturn(SOURCE_1);
+
+    assertEquals(SOURCE_1, getSource1());
+    final StandardSourceDefinition cachedConfig = getSource1();
+    assertEquals(SOURCE_1, cachedConfig);
+    assertNotSame(SOURCE_1, cachedConfig);
+
+    verify(decoratedConfigPersistence).getConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, UUID_1.toString(), StandardSourceDefinition.class);
+    assertEquals(1, configPersistence.getConfigCacheStats().hitCount());
+  }
+
+  @Test
+  void testCachedConfigIsNotChangedByCaller() throws IOException, JsonValidationException, ConfigNotFoundException {
+    when(decoratedConfigPersistence.getConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, UUID_1.toString(), StandardSourceDefinition.class))
+        .thenReturn(new StandardSourceDefinition().withSourceDefinitionId(UUID_1).withName("apache storm"));
+
+    getSource1().withName("changed");
+    getSource1().withName("changed");
+
+    assertEquals(SOURCE_1, getSource1());
+  }
+
+  @Test
+  void testListConfigsIsCached() throws IOException, JsonValidationException, ConfigNotFoundException {
+    when(decoratedConfigPersistence.listConfigs(ConfigSchema.STANDARD_SOURCE_DEFINITION, StandardSourceDefinition.class))
+        .thenReturn(List.of(SOURCE_1, SOURCE_2));
+
+    assertEquals(List.of(SOURCE_1, SOURCE_2), listSources());
+    assertEquals(List.of(SOURCE_1, SOURCE_2), listSources());
+    // listing also caches each config.
+    assertEquals(SOURCE_1, getSource1());
+
+    verify(decoratedConfigPersistence).listConfigs(ConfigSchema.STANDARD_SOURCE_DEFINITION, StandardSourceDefinition.class);
+  }
+
+  @Test
+  void testWriteConfigEvictsConfigType() throws IOException, JsonValidationException, ConfigNotFoundException {
+    when(decoratedConfigPersistence.getConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, UUID_1.toString(), StandardSourceDefinition.class))
+        .thenReturn(SOURCE_1);
+    when(decoratedConfigPersistence.listConfigs(ConfigSchema.STANDARD_SOURCE_DEFINITION, StandardSourceDefinition.class))
+        .thenReturn(List.of(SOURCE_1));
+    getSource1();
+    listSources();
+
+    configPersistence.writeConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, UUID_2.toString(), SOURCE_2);
+    getSource1();
+    listSources();
+
+    verify(decoratedConfigPersistence).writeConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, UUID_2.toString(), SOURCE_2);
+    verify(decoratedConfigPersistence).getConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, UUID_1.toString(), StandardSourceDefinition.class);
+    verify(decoratedConfigPersistence, times(2)).listConfigs(ConfigSchema.STANDARD_SOURCE_DEFINITION, StandardSourceDefinition.class);
+  }
+
+  @Test
+  void testDeleteConfigEvictsConfig() throws IOException, JsonValidationException, ConfigNotFoundException {
+    when(decoratedConfigPersistence.getConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, UUID_1.toString(), StandardSourceDefinition.class))
+        .thenReturn(SOURCE_1);
+    getSource1();
+
+    configPersistence.deleteConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, UUID_1.toString());
+    getSource1();
+
+    verify(decoratedConfigPersistence).deleteConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, UUID_1.toString());
+    verify(decoratedConfigPersistence, times(2))
+        .getConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, UUID_1.toString(), StandardSourceDefinition.class);
+  }
+
+  private StandardSourceDefinition getSource1() throws IOException, JsonValidationException, ConfigNotFoundException {
+    return configPersistence.getConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, UUID_1.toString(), StandardSourceDefinition.class);
+  }
+
+  private List<StandardSourceDefinition> listSources() throws IOException, JsonValidationException {
+    return configPersistence.listConfigs(ConfigSchema.STANDARD_SOURCE_DEFINITION, StandardSourceDefinition.class);
+  }
+
+}
@@ -19,6 +19,8 @@ public class DataTypeUtils {
 
   public static final String DATE_FORMAT_PATTERN = "yyyy-MM-dd'T'HH:mm:ss'Z'";
   public static final DateFormat DATE_FORMAT = new SimpleDateFormat(DATE_FORMAT_PATTERN); // Quoted "Z" to indicate UTC, no timezone offset
+  // SimpleDateFormat is not thread safe, and rows of different streams can be converted concurrently.
+  private static final ThreadLocal<DateFormat> THREAD_DATE_FORMAT = ThreadLocal.withInitial(() -> new SimpleDateFormat(DATE_FORMAT_PATTERN));
 
   public static <T> T returnNullIfInvalid(DataTypeSupplier<T> valueProducer) {
     return returnNullIfInvalid(valueProducer, ignored -> true);
@@ -38,11 +40,11 @@ public class DataTypeUtils {
   }
 
   public static String toISO8601String(long epochMillis) {
-    return DATE_FORMAT.format(Date.from(Instant.ofEpochMilli(epochMillis)));
+    return THREAD_DATE_FORMAT.get().format(Date.from(Instant.ofEpochMilli(epochMillis)));
   }
 
   public static String toISO8601String(java.util.Date date) {
-    return DATE_FORMAT.format(date);
+    return THREAD_DATE_FORMAT.get().format(date);
   }
 
   public static String toISO8601String(LocalDate date) {
@@ -54,7 +56,7 @@ public class DataTypeUtils {
   }
 
   public static String toISO8601String(Duration duration) {
-    return DATE_FORMAT.format(Date.from(Instant.ofEpochSecond(Math.abs(duration.getSeconds()), Math.abs(duration.getNano()))));
+    return THREAD_DATE_FORMAT.get().format(Date.from(Instant.ofEpochSecond(Math.abs(duration.getSeconds()), Math.abs(duration.getNano()))));
   }
 
 }
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.db.jdbc;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.base.Utf8;
+import io.airbyte.commons.json.Jsons;
+import java.util.Optional;
+
+/**
+ * Estimates the fetch size of a streaming query so that a fetch holds about a target number of
+ * bytes, from the serialized size of a sample of the rows read so far. Rows are sampled about ten
+ * times per fetch. The fetch size shrinks as soon as the estimate calls for it, but only grows once
+ * enough rows were sampled, and at most doubles per fetch, so that a few narrow rows at the start of
+ * a table cannot make the driver buffer a huge number of wide rows.
+ *
+ * <p>
+ * Only {@link JsonNode} rows are measured, their serialized size being what the source emits. Rows
+ * of other types have no such size and are only counted: a query mapping its rows to other types
+ * keeps its initial fetch size.
+ */
+public class FetchSizeEstimator {
+
+  /**
+   * Fetch size to start a streaming query with, the one streaming queries used before it was adapted.
+   * It quickly shrinks if the first rows are wide.
+   */
+  public static final int INITIAL_FETCH_SIZE = 1000;
+
+  public static final int MIN_FETCH_SIZE = 1;
+  public static final int MAX_FETCH_SIZE = 100_000;
+  // each concurrent query holds its own fetch buffer, so the target is kept to a fraction of the heap.
+  public static final long DEFAULT_TARGET_BUFFER_BYTES = Math.min(200L * 1024 * 1024, Runtime.getRuntime().maxMemory() / 16);
+
+  private static final int SAMPLES_PER_FETCH = 10;
+  // the fetch size is only changed when the estimate moves by more than this ratio.
+  private static final double RESIZE_THRESHOLD = 0.2;
+  // the fetch size only grows once this many rows were sampled, and after a whole fetch at the current
+  // size was read, by at most this factor.
+  private static final int MIN_SAMPLES_BEFORE_GROWTH = SAMPLES_PER_FETCH;
+  private static final int MAX_GROWTH_FACTOR = 2;
+
+  private final long targetBufferBytes;
+
+  private int fetchSize;
+  private long rowCount;
+  private long sampledRowCount;
+  private long sampledBytes;
+  private long rowsUntilNextSample;
+  private long rowsSinceResize;
+
+  public FetchSizeEstimator(final int initialFetchSize) {
+    this(initialFetchSize, DEFAULT_TARGET_BUFFER_BYTES);
+  }
+
+  public FetchSizeEstimator(final int initialFetchSize, final long targetBufferBytes) {
+    this.targetBufferBytes = targetBufferBytes;
+    this.fetchSize = initialFetchSize;
+    this.rowsUntilNextSample = 0;
+  }
+
+  /**
+   * Records a row read from the result set. Rows that are not {@link JsonNode} are only counted.
+   *
+   * @return the fetch size to use from now on, if it changed.
+   */
+  public Optional<Integer> accept(final Object row) {
+    rowCount++;
+    rowsSinceResize++;
+    if (!(row instanceof JsonNode)) {
+      return Optional.empty();
+    }
+    if (rowsUntilNextSample > 0) {
+      rowsUntilNextSample--;
+      return Optional.empty();
+    }
+    rowsUntilNextSample = Math.max(0, fetchSize / SAMPLES_PER_FETCH - 1);
+
+    sampledRowCount++;
+    sampledBytes += Utf8.encodedLength(Jsons.serialize(row));
+
+    final long estimatedFetchSize = Math.max(MIN_FETCH_SIZE, Math.min(MAX_FETCH_SIZE, targetBufferBytes / getMeanRowBytes()));
+    if (Math.abs(estimatedFetchSize - fetchSize) <= fetchSize * RESIZE_THRESHOLD) {
+      return Optional.empty();
+    }
+    if (estimatedFetchSize > fetchSize) {
+      if (sampledRowCount < MIN_SAMPLES_BEFORE_GROWTH || rowsSinceResize < fetchSize) {
+        return Optional.empty();
+      }
+      fetchSize = (int) Math.min(estimatedFetchSize, (long) fetchSize * MAX_GROWTH_FACTOR);
+    } else {
+      fetchSize = (int) estimatedFetchSize;
+    }
+    rowsSinceResize = 0;
+    return Optional.of(fetchSize);
+  }
+
+  public int getFetchSize() {
+    return fetchSize;
+  }
+
+  public long getRowCount() {
+    return rowCount;
+  }
+
+  public long getMeanRowBytes() {
+    return sampledRowCount == 0 ? 0 : Math.max(1, sampledBytes / sampledRowCount);
+  }
+
+}
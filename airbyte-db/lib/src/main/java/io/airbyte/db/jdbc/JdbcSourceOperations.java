@@ -5,22 +5,24 @@
 package io.airbyte.db.jdbc;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.airbyte.commons.functional.CheckedFunction;
-import io.airbyte.commons.json.Jsons;
 import io.airbyte.db.DataTypeUtils;
 import io.airbyte.db.SourceOperations;
 import io.airbyte.protocol.models.JsonSchemaPrimitive;
+import java.lang.ref.WeakReference;
 import java.math.BigDecimal;
 import java.sql.Connection;
 import java.sql.Date;
 import java.sql.JDBCType;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.sql.Time;
 import java.sql.Timestamp;
 import java.text.ParseException;
-import java.util.Collections;
 import java.util.List;
 import java.util.Spliterator;
 import java.util.Spliterators;
@@ -32,6 +34,10 @@ import javax.xml.bind.DatatypeConverter;
 
 public class JdbcSourceOperations implements SourceOperations<ResultSet, JDBCType> {
 
+  // a source operations instance is shared by all the queries of a source, which may run on several
+  // threads.
+  private final ThreadLocal<RowToJsonConverter> rowToJsonConverters = new ThreadLocal<>();
+
   /**
    * Map records returned in a result set.
    *
@@ -61,24 +67,14 @@ public class JdbcSourceOperations implements SourceOperations<ResultSet, JDBCTyp
 
   @Override
   public JsonNode rowToJson(ResultSet queryContext) throws SQLException {
-    // the first call communicates with the database. after that the result is cached.
-    final int columnCount = queryContext.getMetaData().getColumnCount();
-    final ObjectNode jsonNode = (ObjectNode) Jsons.jsonNode(Collections.emptyMap());
-
-    for (int i = 1; i <= columnCount; i++) {
-      // attempt to access the column. this allows us to know if it is null before we do type-specific
-      // parsing. if it is null, we can move on. while awkward, this seems to be the agreed upon way of
-      // checking for null values with jdbc.
-      queryContext.getObject(i);
-      if (queryContext.wasNull()) {
-        continue;
-      }
-
-      // convert to java types that will convert into reasonable json.
-      setJsonField(queryContext, i, jsonNode);
+    // the column writers only depend on the metadata of the result set, resolve them once per query
+    // rather than once per cell.
+    RowToJsonConverter converter = rowToJsonConverters.get();
+    if (converter == null || !converter.isFor(queryContext)) {
+      converter = new RowToJsonConverter(queryContext);
+      rowToJsonConverters.set(converter);
     }
-
-    return jsonNode;
+    return converter.convert(queryContext);
   }
 
   protected JDBCType safeGetJdbcType(int columnTypeInt) {
@@ -90,26 +86,30 @@ public class JdbcSourceOperations implements SourceOperations<ResultSet, JDBCTyp
   }
 
   protected void setJsonField(ResultSet r, int i, ObjectNode o) throws SQLException {
-    final int columnTypeInt = r.getMetaData().getColumnType(i);
     final String columnName = r.getMetaData().getColumnName(i);
-    final JDBCType columnType = safeGetJdbcType(columnTypeInt);
+    getColumnWriter(safeGetJdbcType(r.getMetaData().getColumnType(i))).put(o, columnName, r, i);
+  }
 
+  /**
+   * @return the put method writing a column of the given type to json.
+   */
+  protected ColumnWriter getColumnWriter(JDBCType columnType) {
     // https://www.cis.upenn.edu/~bcpierce/courses/629/jdkdocs/guide/jdbc/getstart/mapping.doc.html
-    switch (columnType) {
-      case BIT, BOOLEAN -> putBoolean(o, columnName, r, i);
-      case TINYINT, SMALLINT -> putShortInt(o, columnName, r, i);
-      case INTEGER -> putInteger(o, columnName, r, i);
-      case BIGINT -> putBigInt(o, columnName, r, i);
-      case FLOAT, DOUBLE -> putDouble(o, columnName, r, i);
-      case REAL -> putReal(o, columnName, r, i);
-      case NUMERIC, DECIMAL -> putNumber(o, columnName, r, i);
-      case CHAR, VARCHAR, LONGVARCHAR -> putString(o, columnName, r, i);
-      case DATE -> putDate(o, columnName, r, i);
-      case TIME -> putTime(o, columnName, r, i);
-      case TIMESTAMP -> putTimestamp(o, columnName, r, i);
-      case BLOB, BINARY, VARBINARY, LONGVARBINARY -> putBinary(o, columnName, r, i);
-      default -> putDefault(o, columnName, r, i);
-    }
+    return switch (columnType) {
+      case BIT, BOOLEAN -> this::putBoolean;
+      case TINYINT, SMALLINT -> this::putShortInt;
+      case INTEGER -> this::putInteger;
+      case BIGINT -> this::putBigInt;
+      case FLOAT, DOUBLE -> this::putDouble;
+      case REAL -> this::putReal;
+      case NUMERIC, DECIMAL -> this::putNumber;
+      case CHAR, VARCHAR, LONGVARCHAR -> this::putString;
+      case DATE -> this::putDate;
+      case TIME -> this::putTime;
+      case TIMESTAMP -> this::putTimestamp;
+      case BLOB, BINARY, VARBINARY, LONGVARBINARY -> this::putBinary;
+      default -> this::putDefault;
+    };
   }
 
   protected void putBoolean(ObjectNode node, String columnName, ResultSet resultSet, int index) throws SQLException {
@@ -154,16 +154,25 @@ public class JdbcSourceOperations implements SourceOperations<ResultSet, JDBCTyp
   }
 
   protected void putDate(ObjectNode node, String columnName, ResultSet resultSet, int index) throws SQLException {
-    node.put(columnName, DataTypeUtils.toISO8601String(resultSet.getDate(index)));
+    final Date date = resultSet.getDate(index);
+    if (date != null) {
+      node.put(columnName, DataTypeUtils.toISO8601String(date));
+    }
   }
 
   protected void putTime(ObjectNode node, String columnName, ResultSet resultSet, int index) throws SQLException {
-    node.put(columnName, DataTypeUtils.toISO8601String(resultSet.getTime(index)));
+    final Time time = resultSet.getTime(index);
+    if (time != null) {
+      node.put(columnName, DataTypeUtils.toISO8601String(time));
+    }
   }
 
   protected void putTimestamp(ObjectNode node, String columnName, ResultSet resultSet, int index) throws SQLException {
     // https://www.cis.upenn.edu/~bcpierce/courses/629/jdkdocs/guide/jdbc/getstart/mapping.doc.html
     final Timestamp t = resultSet.getTimestamp(index);
+    if (t == null) {
+      return;
+    }
     java.util.Date d = new java.util.Date(t.getTime() + (t.getNanos() / 1000000));
     node.put(columnName, DataTypeUtils.toISO8601String(d));
   }
@@ -317,4 +326,59 @@ public class JdbcSourceOperations implements SourceOperations<ResultSet, JDBCTyp
     };
   }
 
+  /**
+   * Writes the value of a column of the current row of a result set to json. The value may be read
+   * with a typed getter even if it is null: a null value is detected afterwards with
+   * {@link ResultSet#wasNull()} and removed.
+   */
+  @FunctionalInterface
+  protected interface ColumnWriter {
+
+    void put(ObjectNode node, String columnName, ResultSet resultSet, int index) throws SQLException;
+
+  }
+
+  /**
+   * Converts the rows of a single result set, with the names and writers of its columns resolved once
+   * from its metadata.
+   */
+  private class RowToJsonConverter {
+
+    // weak so that the converter kept by a thread does not retain a result set that was closed.
+    private final WeakReference<ResultSet> resultSet;
+    private final String[] columnNames;
+    private final ColumnWriter[] columnWriters;
+
+    private RowToJsonConverter(ResultSet resultSet) throws SQLException {
+      // the first call communicates with the database. after that the result is cached.
+      final ResultSetMetaData metaData = resultSet.getMetaData();
+      final int columnCount = metaData.getColumnCount();
+      this.resultSet = new WeakReference<>(resultSet);
+      this.columnNames = new String[columnCount];
+      this.columnWriters = new ColumnWriter[columnCount];
+      for (int i = 0; i < columnCount; i++) {
+        columnNames[i] = metaData.getColumnName(i + 1);
+        columnWriters[i] = getColumnWriter(safeGetJdbcType(metaData.getColumnType(i + 1)));
+      }
+    }
+
+    private boolean isFor(ResultSet resultSet) {
+      return this.resultSet.get() == resultSet;
+    }
+
+    private JsonNode convert(ResultSet resultSet) throws SQLException {
+      final ObjectNode jsonNode = JsonNodeFactory.instance.objectNode();
+      for (int i = 0; i < columnWriters.length; i++) {
+        // convert to java types that will convert into reasonable json. nulls are only known once the
+        // value has been read.
+        columnWriters[i].put(jsonNode, columnNames[i], resultSet, i + 1);
+        if (resultSet.wasNull()) {
+          jsonNode.remove(columnNames[i]);
+        }
+      }
+      return jsonNode;
+    }
+
+  }
+
 }
@@ -13,7 +13,7 @@ public class PostgresJdbcStreamingQueryConfiguration implements JdbcStreamingQue
   @Override
   public void accept(Connection connection, PreparedStatement preparedStatement) throws SQLException {
     connection.setAutoCommit(false);
-    preparedStatement.setFetchSize(1000);
+    preparedStatement.setFetchSize(FetchSizeEstimator.INITIAL_FETCH_SIZE);
   }
 
 }
@@ -12,8 +12,11 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Stream;
 import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * This database allows a developer to specify a {@link JdbcStreamingQueryConfiguration}. This
@@ -22,6 +25,8 @@ import javax.sql.DataSource;
  */
 public class StreamingJdbcDatabase extends JdbcDatabase {
 
+  private static final Logger LOGGER = LoggerFactory.getLogger(StreamingJdbcDatabase.class);
+
   private final DataSource dataSource;
   private final JdbcDatabase database;
   private final JdbcStreamingQueryConfiguration jdbcStreamingQueryConfiguration;
@@ -70,7 +75,10 @@ public class StreamingJdbcDatabase extends JdbcDatabase {
    * provided {@link JdbcStreamingQueryConfiguration} to understand the size of these chunks. If the
    * entire stream is consumed the database connection will be closed automatically and the caller
    * need not call close on the returned stream. This query (and the first chunk) are fetched
-   * immediately. Subsequent chunks will not be pulled until the first chunk is consumed.
+   * immediately. Subsequent chunks will not be pulled until the first chunk is consumed. The fetch
+   * size set by the configuration is only the initial one: it is then resized from the observed row
+   * size so that a chunk holds about {@link FetchSizeEstimator#DEFAULT_TARGET_BUFFER_BYTES}, for
+   * records mapped to JsonNode only.
    *
    * @param statementCreator create a {@link PreparedStatement} from a {@link Connection}.
    * @param recordTransform transform each record of that result set into the desired type. do NOT
@@ -89,8 +97,25 @@ public class StreamingJdbcDatabase extends JdbcDatabase {
       final PreparedStatement ps = statementCreator.apply(connection);
       // allow configuration of connection and prepared statement to make streaming possible.
       jdbcStreamingQueryConfiguration.accept(connection, ps);
-      return sourceOperations.toStream(ps.executeQuery(), recordTransform)
+      final FetchSizeEstimator fetchSizeEstimator = new FetchSizeEstimator(ps.getFetchSize());
+      // a fetch size of 0 or less lets the driver decide, in which case it is left alone.
+      final boolean isAdaptive = ps.getFetchSize() > 0;
+      return sourceOperations.toStream(ps.executeQuery(), resultSet -> {
+        final T record = recordTransform.apply(resultSet);
+        if (isAdaptive) {
+          final Optional<Integer> fetchSize = fetchSizeEstimator.accept(record);
+          if (fetchSize.isPresent()) {
+            LOGGER.debug("Setting fetch size to {}", fetchSize.get());
+            resultSet.setFetchSize(fetchSize.get());
+          }
+        }
+        return record;
+      })
           .onClose(() -> {
+            if (isAdaptive) {
+              LOGGER.info("Fetched {} rows with a mean row size of {} bytes and a final fetch size of {}",
+                  fetchSizeEstimator.getRowCount(), fetchSizeEstimator.getMeanRowBytes(), fetchSizeEstimator.getFetchSize());
+            }
             try {
               connection.setAutoCommit(true);
               connection.close();
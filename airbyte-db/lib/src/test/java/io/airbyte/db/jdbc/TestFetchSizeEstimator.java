@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.db.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.base.Strings;
+import io.airbyte.commons.json.Jsons;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+class TestFetchSizeEstimator {
+
+  @Test
+  void testGrowsFetchSizeForNarrowRows() {
+    final JsonNode row = Jsons.jsonNode(Map.of("id", 1));
+    final long rowBytes = Jsons.serialize(row).length();
+    final FetchSizeEstimator estimator = new FetchSizeEstimator(10, rowBytes * 500);
+
+    assertEquals(List.of(20, 40, 80, 160, 320, 500), readUntilStable(estimator, row));
+    // the estimate is stable, so the fetch size does not change anymore.
+    for (int i = 0; i < 1000; i++) {
+      assertEquals(Optional.empty(), estimator.accept(row));
+    }
+    assertEquals(rowBytes, estimator.getMeanRowBytes());
+  }
+
+  @Test
+  void testDoesNotGrowFetchSizeFromFirstRow() {
+    final FetchSizeEstimator estimator = new FetchSizeEstimator(10, Long.MAX_VALUE);
+
+    // a narrow row followed by wide rows only lets the fetch size double.
+    assertEquals(Optional.empty(), estimator.accept(Jsons.jsonNode(Map.of("id", 1))));
+    final JsonNode wideRow = Jsons.jsonNode(Map.of("data", Strings.repeat("a", 10_000)));
+    for (int i = 0; i < 8; i++) {
+      assertEquals(Optional.empty(), estimator.accept(wideRow));
+    }
+    assertEquals(Optional.of(20), estimator.accept(wideRow));
+  }
+
+  @Test
+  void testShrinksFetchSizeForWideRows() {
+    final JsonNode row = Jsons.jsonNode(Map.of("data", Strings.repeat("a", 10_000)));
+    final FetchSizeEstimator estimator = new FetchSizeEstimator(1000, 50_000);
+
+    final Optional<Integer> fetchSize = estimator.accept(row);
+    assertTrue(fetchSize.isPresent());
+    assertEquals(4, fetchSize.get());
+  }
+
+  @Test
+  void testClampsFetchSize() {
+    final JsonNode row = Jsons.jsonNode(Map.of("data", Strings.repeat("a", 10_000)));
+    assertEquals(Optional.of(FetchSizeEstimator.MIN_FETCH_SIZE), new FetchSizeEstimator(10, 100).accept(row));
+
+    final List<Integer> fetchSizes = readUntilStable(new FetchSizeEstimator(10, Long.MAX_VALUE), row);
+    assertEquals(FetchSizeEstimator.MAX_FETCH_SIZE, fetchSizes.get(fetchSizes.size() - 1));
+  }
+
+  @Test
+  void testMeasuresUtf8Bytes() {
+    final JsonNode row = Jsons.jsonNode(Map.of("data", Strings.repeat("é", 1_000)));
+    final FetchSizeEstimator estimator = new FetchSizeEstimator(10);
+
+    estimator.accept(row);
+
+    assertEquals(Jsons.serialize(row).getBytes(StandardCharsets.UTF_8).length, estimator.getMeanRowBytes());
+  }
+
+  @Test
+  void testIgnoresRowsThatAreNotJson() {
+    final FetchSizeEstimator estimator = new FetchSizeEstimator(10, Long.MAX_VALUE);
+
+    for (int i = 0; i < 1000; i++) {
+      assertEquals(Optional.empty(), estimator.accept("row"));
+    }
+    assertEquals(10, estimator.getFetchSize());
+    assertEquals(1000, estimator.getRowCount());
+  }
+
+  /**
+   * Reads rows until the fetch size stops changing, checking that it never more than doubles at once.
+   *
+   * @return the successive fetch sizes.
+   */
+  private static List<Integer> readUntilStable(final FetchSizeEstimator estimator, final JsonNode row) {
+    final List<Integer> fetchSizes = new ArrayList<>();
+    int rowsSinceResize = 0;
+    while (rowsSinceResize < 2 * estimator.getFetchSize()) {
+      final int previousFetchSize = estimator.getFetchSize();
+      final Optional<Integer> fetchSize = estimator.accept(row);
+      rowsSinceResize++;
+      if (fetchSize.isPresent()) {
+        assertTrue(fetchSize.get() <= 2 * previousFetchSize);
+        fetchSizes.add(fetchSize.get());
+        rowsSinceResize = 0;
+      }
+    }
+    return fetchSizes;
+  }
+
+}
@@ -109,6 +109,16 @@ public class TestJdbcUtils {
     }
   }
 
+  @Test
+  void testRowToJsonSkipsNullColumns() throws SQLException {
+    try (final Connection connection = dataSource.getConnection()) {
+      connection.createStatement().execute("INSERT INTO id_and_name (id, name) VALUES (4, NULL), (NULL, 'riker');");
+      final ResultSet rs = connection.createStatement().executeQuery("SELECT * FROM id_and_name WHERE id = 4 OR id IS NULL ORDER BY id;");
+      final List<JsonNode> actual = sourceOperations.toStream(rs, sourceOperations::rowToJson).collect(Collectors.toList());
+      assertEquals(List.of(Jsons.jsonNode(ImmutableMap.of("id", 4)), Jsons.jsonNode(ImmutableMap.of("name", "riker"))), actual);
+    }
+  }
+
   // test conversion of every JDBCType that we support to Json.
   @Test
   void testSetJsonField() throws SQLException {
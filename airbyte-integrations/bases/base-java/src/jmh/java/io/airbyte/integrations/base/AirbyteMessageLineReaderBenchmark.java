@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.base;
+
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Scanner;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.lang3.RandomStringUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the throughput of reading the json lines a destination receives on stdin: with a Scanner
+ * and a String per line (what IntegrationRunner used to do), and with {@link AirbyteMessageLineReader}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class AirbyteMessageLineReaderBenchmark {
+
+  private static final int FIELD_SIZE = 64;
+  private static final int RECORD_COUNT = 10_000;
+
+  @Param({"256", "4096"})
+  public int recordSizeBytes;
+
+  private byte[] input;
+
+  @Setup
+  public void setup() {
+    final Map<String, String> data = new HashMap<>();
+    for (int i = 0; i < recordSizeBytes / FIELD_SIZE; i++) {
+      data.put("field_" + i, RandomStringUtils.randomAlphanumeric(FIELD_SIZE - 10));
+    }
+    final String line = Jsons.serialize(new AirbyteMessage()
+        .withType(AirbyteMessage.Type.RECORD)
+        .withRecord(new AirbyteRecordMessage()
+            .withStream("benchmark_stream")
+            .withEmittedAt(System.currentTimeMillis())
+            .withData(Jsons.jsonNode(data))));
+
+    final StringBuilder lines = new StringBuilder();
+    for (int i = 0; i < RECORD_COUNT; i++) {
+      lines.append(line).append('\n');
+    }
+    input = lines.toString().getBytes(StandardCharsets.UTF_8);
+  }
+
+  @Benchmark
+  public void scanner(final Blackhole blackhole) {
+    final Scanner scanner = new Scanner(new ByteArrayInputStream(input)).useDelimiter("[\r\n]+");
+    while (scanner.hasNext()) {
+      final Optional<AirbyteMessage> message = Jsons.tryDeserialize(scanner.next(), AirbyteMessage.class);
+      blackhole.consume(message);
+    }
+  }
+
+  @Benchmark
+  public void lineReader(final Blackhole blackhole) throws Exception {
+    new AirbyteMessageLineReader(new ByteArrayInputStream(input)).forEachMessage(blackhole::consume);
+  }
+
+}
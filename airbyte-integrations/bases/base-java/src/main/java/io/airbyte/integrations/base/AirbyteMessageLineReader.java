@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.base;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.airbyte.commons.functional.CheckedConsumer;
+import io.airbyte.commons.jackson.MoreMappers;
+import io.airbyte.protocol.models.AirbyteMessage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reads AirbyteMessages from an input stream of json lines (https://jsonlines.org/). Lines are split
+ * on '\r' and '\n' directly in a large byte buffer and each line is handed to the json parser as a
+ * slice of that buffer, so no String is created for valid messages.
+ */
+public class AirbyteMessageLineReader {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(AirbyteMessageLineReader.class);
+
+  static final int DEFAULT_BUFFER_SIZE = 1024 * 1024;
+
+  private static final ObjectReader MESSAGE_READER = MoreMappers.initMapper().readerFor(AirbyteMessage.class);
+
+  private final InputStream input;
+  private byte[] buffer;
+  // bytes of the buffer that were read but not consumed yet.
+  private int start;
+  private int end;
+  // position from which to look for the next line break, bytes before it are part of the current line.
+  private int scanPosition;
+  private boolean endOfInput;
+
+  public AirbyteMessageLineReader(final InputStream input) {
+    this(input, DEFAULT_BUFFER_SIZE);
+  }
+
+  public AirbyteMessageLineReader(final InputStream input, final int bufferSize) {
+    this.input = input;
+    this.buffer = new byte[bufferSize];
+  }
+
+  /**
+   * Reads the input until its end, passing every valid message to the consumer. Lines that are not a
+   * valid message are logged and skipped.
+   */
+  public void forEachMessage(final CheckedConsumer<AirbyteMessage, Exception> consumer) throws Exception {
+    while (true) {
+      final int lineBreak = findLineBreak();
+      if (lineBreak >= 0) {
+        acceptLine(start, lineBreak, consumer);
+        start = lineBreak + 1;
+        scanPosition = start;
+      } else if (endOfInput) {
+        // last line may not be terminated.
+        acceptLine(start, end, consumer);
+        start = end;
+        return;
+      } else {
+        fill();
+      }
+    }
+  }
+
+  private int findLineBreak() {
+    for (int i = scanPosition; i < end; i++) {
+      final byte b = buffer[i];
+      if (b == '\n' || b == '\r') {
+        return i;
+      }
+    }
+    scanPosition = end;
+    return -1;
+  }
+
+  private void fill() throws IOException {
+    if (start > 0) {
+      // move the beginning of the current line to the front of the buffer.
+      System.arraycopy(buffer, start, buffer, 0, end - start);
+      end -= start;
+      scanPosition -= start;
+      start = 0;
+    }
+    if (end == buffer.length) {
+      // a single line is larger than the buffer.
+      final byte[] grownBuffer = new byte[buffer.length * 2];
+      System.arraycopy(buffer, 0, grownBuffer, 0, end);
+      buffer = grownBuffer;
+    }
+
+    final int read = input.read(buffer, end, buffer.length - end);
+    if (read < 0) {
+      endOfInput = true;
+    } else {
+      end += read;
+    }
+  }
+
+  private void acceptLine(final int from, final int to, final CheckedConsumer<AirbyteMessage, Exception> consumer) throws Exception {
+    // consecutive line breaks (e.g. \r\n) delimit empty lines, which are not messages.
+    if (from == to) {
+      return;
+    }
+
+    AirbyteMessage message = null;
+    try {
+      message = MESSAGE_READER.readValue(buffer, from, to - from);
+    } catch (final IOException e) {
+      // handled below
+    }
+
+    if (message != null) {
+      consumer.accept(message);
+    } else {
+      LOGGER.error("Received invalid message: " + new String(buffer, from, to - from, StandardCharsets.UTF_8));
+    }
+  }
+
+}
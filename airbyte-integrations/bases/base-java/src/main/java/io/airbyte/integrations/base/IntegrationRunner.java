@@ -13,11 +13,19 @@ import io.airbyte.commons.util.AutoCloseableIterator;
 import io.airbyte.protocol.models.AirbyteConnectionStatus;
 import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.AirbyteMessage.Type;
+import io.airbyte.protocol.models.AirbyteMessageFraming;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
 import io.airbyte.validation.json.JsonSchemaValidator;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Iterator;
 import java.util.Optional;
-import java.util.Scanner;
 import java.util.Set;
 import java.util.function.Consumer;
 import org.slf4j.Logger;
@@ -31,6 +39,7 @@ import org.slf4j.LoggerFactory;
 public class IntegrationRunner {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(IntegrationRunner.class);
+  private static final int FRAMED_OUTPUT_BUFFER_SIZE = 64 * 1024;
 
   private final IntegrationCliParser cliParser;
   private final Consumer<AirbyteMessage> outputRecordCollector;
@@ -116,7 +125,11 @@ public class IntegrationRunner {
         final Optional<JsonNode> stateOptional = parsed.getStatePath().map(IntegrationRunner::parseConfig);
         final AutoCloseableIterator<AirbyteMessage> messageIterator = source.read(config, catalog, stateOptional.orElse(null));
         try (messageIterator) {
-          messageIterator.forEachRemaining(outputRecordCollector::accept);
+          if (isFramedOutputRequested()) {
+            writeFramedOutput(messageIterator);
+          } else {
+            messageIterator.forEachRemaining(outputRecordCollector::accept);
+          }
         }
       }
       // destination only
@@ -135,19 +148,46 @@ public class IntegrationRunner {
 
   @VisibleForTesting
   static void consumeWriteStream(AirbyteMessageConsumer consumer) throws Exception {
-    // use a Scanner that only processes new line characters to strictly abide with the
-    // https://jsonlines.org/ standard
-    final Scanner input = new Scanner(System.in).useDelimiter("[\r\n]+");
+    // only new line characters delimit messages, to strictly abide with the https://jsonlines.org/
+    // standard
+    final AirbyteMessageLineReader input = new AirbyteMessageLineReader(System.in);
     try (consumer) {
       consumer.start();
-      while (input.hasNext()) {
-        final String inputString = input.next();
-        final Optional<AirbyteMessage> singerMessageOptional = Jsons.tryDeserialize(inputString, AirbyteMessage.class);
-        if (singerMessageOptional.isPresent()) {
-          consumer.accept(singerMessageOptional.get());
-        } else {
-          LOGGER.error("Received invalid message: " + inputString);
+      input.forEachMessage(consumer);
+    }
+  }
+
+  private static boolean isFramedOutputRequested() {
+    final Path requestPath = Path.of(AirbyteMessageFraming.FORMAT_REQUEST_FILENAME);
+    return Files.exists(requestPath) && AirbyteMessageFraming.REQUESTED_FORMAT.equals(IOs.readFile(requestPath).trim());
+  }
+
+  private static void writeFramedOutput(Iterator<AirbyteMessage> messageIterator) throws IOException {
+    writeFramedOutput(messageIterator, new FileOutputStream(FileDescriptor.out));
+  }
+
+  /**
+   * Writes messages to stdout as length-prefixed Smile frames instead of json lines, as negotiated
+   * with the worker (see {@link AirbyteMessageFraming}). The worker looks for the preamble at the
+   * start of a line, so the log lines written to stdout before it are still read as logs. Anything
+   * printed or logged to stdout once the frames started would corrupt them, so it goes to stderr
+   * until the end of the frames is written.
+   *
+   * @param stdout stream of the file descriptor behind System.out.
+   */
+  @VisibleForTesting
+  static void writeFramedOutput(Iterator<AirbyteMessage> messageIterator, OutputStream stdout) throws IOException {
+    LOGGER.info("Worker requested framed output, writing messages as frames.");
+    final DataOutputStream output = new DataOutputStream(new BufferedOutputStream(stdout, FRAMED_OUTPUT_BUFFER_SIZE));
+    try (final StdoutLogRedirect ignored = new StdoutLogRedirect()) {
+      try {
+        AirbyteMessageFraming.writePreamble(output);
+        while (messageIterator.hasNext()) {
+          AirbyteMessageFraming.writeFrame(output, messageIterator.next());
         }
+        AirbyteMessageFraming.writeEndOfFrames(output);
+      } finally {
+        output.flush();
       }
     }
   }
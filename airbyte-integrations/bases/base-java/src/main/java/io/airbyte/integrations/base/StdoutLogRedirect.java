@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.base;
+
+import io.airbyte.protocol.models.AirbyteMessageFraming;
+import java.io.PrintStream;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.core.Appender;
+import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.core.config.Configuration;
+import org.apache.logging.log4j.core.config.LoggerConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Sends the logs of the console appender, and anything printed to System.out, to stderr until
+ * closed. Used while stdout carries framed output (see {@link AirbyteMessageFraming}), which any
+ * other byte would corrupt.
+ */
+final class StdoutLogRedirect implements AutoCloseable {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(StdoutLogRedirect.class);
+
+  // console appenders of the log4j2.xml of airbyte-commons.
+  private static final String STDOUT_APPENDER = "Default";
+  private static final String STDERR_APPENDER = "Stderr";
+
+  private final PrintStream originalOut;
+  private LoggerContext context;
+  private LoggerConfig rootLogger;
+  private Appender stdoutAppender;
+
+  StdoutLogRedirect() {
+    originalOut = System.out;
+    System.out.flush();
+    System.setOut(System.err);
+
+    if (LogManager.getContext(false) instanceof LoggerContext) {
+      final LoggerContext loggerContext = (LoggerContext) LogManager.getContext(false);
+      final Configuration configuration = loggerContext.getConfiguration();
+      final LoggerConfig root = configuration.getRootLogger();
+      final Appender stdout = root.getAppenders().get(STDOUT_APPENDER);
+      final Appender stderr = configuration.getAppender(STDERR_APPENDER);
+      if (stdout != null && stderr != null) {
+        root.removeAppender(STDOUT_APPENDER);
+        root.addAppender(stderr, null, null);
+        loggerContext.updateLoggers();
+        context = loggerContext;
+        rootLogger = root;
+        stdoutAppender = stdout;
+        return;
+      }
+    }
+    LOGGER.warn("Could not find the console log appenders, logs written to stdout will corrupt the framed output.");
+  }
+
+  @Override
+  public void close() {
+    if (rootLogger != null) {
+      rootLogger.removeAppender(STDERR_APPENDER);
+      rootLogger.addAppender(stdoutAppender, null, null);
+      context.updateLoggers();
+    }
+    System.err.flush();
+    System.setOut(originalOut);
+  }
+
+}
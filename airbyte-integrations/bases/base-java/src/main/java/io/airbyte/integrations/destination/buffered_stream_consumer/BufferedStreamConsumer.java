@@ -60,6 +60,12 @@ import org.slf4j.LoggerFactory;
  * </p>
  *
  * <p>
+ * Destinations can also commit records before close through a {@link CommitFunction}, which is
+ * called after each flush. Whenever it reports that all flushed records are committed, the last
+ * flushed state message is emitted right away, so this class may then emit several state messages.
+ * </p>
+ *
+ * <p>
  * When a record is "flushed" it is moved from the docker container to the destination. By
  * convention, it is usually placed in some sort of temporary storage on the destination (e.g. a
  * temporary database or file store). The logic in close handles committing the temporary
@@ -77,6 +83,7 @@ public class BufferedStreamConsumer extends FailureTrackingAirbyteMessageConsume
   private final VoidCallable onStart;
   private final RecordWriter recordWriter;
   private final CheckedConsumer<Boolean, Exception> onClose;
+  private final CommitFunction commitFunction;
   private final Set<AirbyteStreamNameNamespacePair> streamNames;
   private final List<AirbyteMessage> buffer;
   private final ConfiguredAirbyteCatalog catalog;
@@ -98,6 +105,18 @@ public class BufferedStreamConsumer extends FailureTrackingAirbyteMessageConsume
                                 ConfiguredAirbyteCatalog catalog,
                                 CheckedFunction<JsonNode, Boolean, Exception> isValidRecord,
                                 int queueBatchSize) {
+    // records are only committed on close.
+    this(outputRecordCollector, onStart, recordWriter, onClose, () -> false, catalog, isValidRecord, queueBatchSize);
+  }
+
+  public BufferedStreamConsumer(Consumer<AirbyteMessage> outputRecordCollector,
+                                VoidCallable onStart,
+                                RecordWriter recordWriter,
+                                CheckedConsumer<Boolean, Exception> onClose,
+                                CommitFunction commitFunction,
+                                ConfiguredAirbyteCatalog catalog,
+                                CheckedFunction<JsonNode, Boolean, Exception> isValidRecord,
+                                int queueBatchSize) {
     this.outputRecordCollector = outputRecordCollector;
     this.queueBatchSize = queueBatchSize;
     this.hasStarted = false;
@@ -105,6 +124,7 @@ public class BufferedStreamConsumer extends FailureTrackingAirbyteMessageConsume
     this.onStart = onStart;
     this.recordWriter = recordWriter;
     this.onClose = onClose;
+    this.commitFunction = commitFunction;
     this.catalog = catalog;
     this.streamNames = AirbyteStreamNameNamespacePair.fromConfiguredCatalog(catalog);
     this.isValidRecord = isValidRecord;
@@ -146,6 +166,7 @@ public class BufferedStreamConsumer extends FailureTrackingAirbyteMessageConsume
 
       if (buffer.size() == queueBatchSize) {
         flushQueueToDestination();
+        commitIfDue();
       }
     } else if (message.getType() == Type.STATE) {
       pendingState = message;
@@ -172,6 +193,14 @@ public class BufferedStreamConsumer extends FailureTrackingAirbyteMessageConsume
     }
   }
 
+  private void commitIfDue() throws Exception {
+    if (commitFunction.get() && lastFlushedState != null) {
+      // its records were not only flushed, but committed.
+      outputRecordCollector.accept(lastFlushedState);
+      lastFlushedState = null;
+    }
+  }
+
   private void throwUnrecognizedStream(final ConfiguredAirbyteCatalog catalog, final AirbyteMessage message) {
     throw new IllegalArgumentException(
         String.format("Message contained record from a stream that was not in the catalog. \ncatalog: %s , \nmessage: %s",
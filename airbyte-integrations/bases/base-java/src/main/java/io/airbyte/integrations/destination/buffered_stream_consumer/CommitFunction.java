@@ -0,0 +1,22 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.buffered_stream_consumer;
+
+import io.airbyte.commons.functional.CheckedSupplier;
+
+/**
+ * Lets a destination commit flushed records before the consumer closes. It is called after each
+ * flush, and decides by itself whether a commit is due.
+ */
+public interface CommitFunction extends CheckedSupplier<Boolean, Exception> {
+
+  /**
+   * @return true if all the records flushed so far are committed, in which case the last flushed
+   *         state message is emitted.
+   */
+  @Override
+  Boolean get() throws Exception;
+
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.base;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.google.common.base.Strings;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class AirbyteMessageLineReaderTest {
+
+  private static final AirbyteMessage MESSAGE1 = createRecordMessage("blue");
+  private static final AirbyteMessage MESSAGE2 = createRecordMessage("yellow");
+
+  @Test
+  void testReadsLines() throws Exception {
+    final String input = Jsons.serialize(MESSAGE1) + "\n" + Jsons.serialize(MESSAGE2) + "\n";
+
+    assertEquals(List.of(MESSAGE1, MESSAGE2), readAll(input, AirbyteMessageLineReader.DEFAULT_BUFFER_SIZE));
+  }
+
+  @Test
+  void testSkipsEmptyAndInvalidLines() throws Exception {
+    final String input = "\r\n" + Jsons.serialize(MESSAGE1) + "\r\n\r\nnot json\nnull\n" + Jsons.serialize(MESSAGE2);
+
+    assertEquals(List.of(MESSAGE1, MESSAGE2), readAll(input, AirbyteMessageLineReader.DEFAULT_BUFFER_SIZE));
+  }
+
+  @Test
+  void testLinesLargerThanBuffer() throws Exception {
+    final AirbyteMessage largeMessage = createRecordMessage(Strings.repeat("x", 1000));
+    final String input = Jsons.serialize(MESSAGE1) + "\n" + Jsons.serialize(largeMessage) + "\n" + Jsons.serialize(MESSAGE2);
+
+    assertEquals(List.of(MESSAGE1, largeMessage, MESSAGE2), readAll(input, 16));
+  }
+
+  private static List<AirbyteMessage> readAll(final String input, final int bufferSize) throws Exception {
+    final List<AirbyteMessage> messages = new ArrayList<>();
+    new AirbyteMessageLineReader(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), bufferSize).forEachMessage(messages::add);
+    return messages;
+  }
+
+  private static AirbyteMessage createRecordMessage(final String color) {
+    return new AirbyteMessage()
+        .withType(AirbyteMessage.Type.RECORD)
+        .withRecord(new AirbyteRecordMessage()
+            .withStream("users")
+            .withEmittedAt(1L)
+            .withData(Jsons.jsonNode(Map.of("color", color))));
+  }
+
+}
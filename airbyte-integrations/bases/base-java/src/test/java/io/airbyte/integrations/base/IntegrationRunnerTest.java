@@ -4,7 +4,11 @@
 
 package io.airbyte.integrations.base;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.inOrder;
@@ -25,6 +29,7 @@ import io.airbyte.protocol.models.AirbyteConnectionStatus;
 import io.airbyte.protocol.models.AirbyteConnectionStatus.Status;
 import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.AirbyteMessage.Type;
+import io.airbyte.protocol.models.AirbyteMessageFraming;
 import io.airbyte.protocol.models.AirbyteRecordMessage;
 import io.airbyte.protocol.models.AirbyteStateMessage;
 import io.airbyte.protocol.models.AirbyteStream;
@@ -33,19 +38,35 @@ import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
 import io.airbyte.protocol.models.ConnectorSpecification;
 import io.airbyte.validation.json.JsonSchemaValidator;
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
 import java.io.IOException;
+import java.io.PrintStream;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Consumer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.core.LoggerContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InOrder;
 import org.mockito.Mockito;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 class IntegrationRunnerTest {
 
+  private static final Logger LOGGER = LoggerFactory.getLogger(IntegrationRunnerTest.class);
+
   private static final String CONFIG_FILE_NAME = "config.json";
   private static final String CONFIGURED_CATALOG_FILE_NAME = "configured_catalog.json";
   private static final String STATE_FILE_NAME = "state.json";
@@ -278,4 +299,73 @@ class IntegrationRunnerTest {
     inOrder.verifyNoMoreInteractions();
   }
 
+  @Test
+  void testFramedOutputIsNotCorruptedByLogs() throws Exception {
+    final List<AirbyteMessage> messages = Lists.newArrayList(
+        new AirbyteMessage().withType(Type.RECORD)
+            .withRecord(new AirbyteRecordMessage().withStream(STREAM_NAME).withData(Jsons.jsonNode(ImmutableMap.of("name", "mike"))).withEmittedAt(EMITTED_AT)),
+        new AirbyteMessage().withType(Type.STATE).withState(new AirbyteStateMessage().withData(STATE)));
+    final List<Set<String>> consoleAppendersWhileFramed = new ArrayList<>();
+    final Iterator<AirbyteMessage> loggingIterator = messages.stream()
+        .peek(message -> {
+          consoleAppendersWhileFramed.add(getRootAppenderNames());
+          LOGGER.info("emitting {}", message.getType());
+          System.out.println("printed while emitting " + message.getType());
+        })
+        .iterator();
+
+    final ByteArrayOutputStream stdout = new ByteArrayOutputStream();
+    final PrintStream testOut = new PrintStream(stdout, true, StandardCharsets.UTF_8);
+    final PrintStream originalOut = System.out;
+    final Set<String> originalAppenders = getRootAppenderNames();
+    System.setOut(testOut);
+    try {
+      LOGGER.info("starting source");
+      System.out.println("printed before framing");
+      IntegrationRunner.writeFramedOutput(loggingIterator, stdout);
+      // stdout and the logs are only moved while frames are written.
+      assertSame(testOut, System.out);
+      assertEquals(originalAppenders, getRootAppenderNames());
+      LOGGER.info("completed source");
+      System.out.println("printed after framing");
+    } finally {
+      System.setOut(originalOut);
+    }
+
+    for (final Set<String> appenders : consoleAppendersWhileFramed) {
+      assertTrue(appenders.contains("Stderr"));
+      assertFalse(appenders.contains("Default"));
+    }
+
+    final byte[] output = stdout.toByteArray();
+    final int preambleStart = indexOf(output, AirbyteMessageFraming.PREAMBLE);
+    assertTrue(preambleStart > 0);
+    final String leadingOutput = new String(output, 0, preambleStart, StandardCharsets.UTF_8);
+    assertTrue(leadingOutput.endsWith("\n"));
+    assertTrue(leadingOutput.contains("printed before framing"));
+
+    final DataInputStream frames = new DataInputStream(
+        new ByteArrayInputStream(output, preambleStart + AirbyteMessageFraming.PREAMBLE.length, output.length));
+    final List<AirbyteMessage> actual = new ArrayList<>();
+    Optional<AirbyteMessage> message;
+    while ((message = AirbyteMessageFraming.readFrame(frames)).isPresent()) {
+      actual.add(message.get());
+    }
+    assertEquals(messages, actual);
+    assertEquals("printed after framing\n", new String(frames.readAllBytes(), StandardCharsets.UTF_8));
+  }
+
+  private static Set<String> getRootAppenderNames() {
+    return Set.copyOf(((LoggerContext) LogManager.getContext(false)).getConfiguration().getRootLogger().getAppenders().keySet());
+  }
+
+  private static int indexOf(final byte[] bytes, final byte[] target) {
+    for (int i = 0; i <= bytes.length - target.length; i++) {
+      if (Arrays.equals(Arrays.copyOfRange(bytes, i, i + target.length), target)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
 }
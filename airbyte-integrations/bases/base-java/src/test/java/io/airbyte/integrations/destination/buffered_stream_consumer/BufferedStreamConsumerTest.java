@@ -295,6 +295,38 @@ public class BufferedStreamConsumerTest {
     verify(outputRecordCollector, times(1)).accept(STATE_MESSAGE2);
   }
 
+  @Test
+  void testEmitsStateWhenCommittedBeforeClose() throws Exception {
+    final CommitFunction commitFunction = mock(CommitFunction.class);
+    when(commitFunction.get()).thenReturn(true);
+    final BufferedStreamConsumer consumer = new BufferedStreamConsumer(
+        outputRecordCollector,
+        onStart,
+        recordWriter,
+        onClose,
+        commitFunction,
+        CATALOG,
+        isValidRecord,
+        10);
+    final List<AirbyteMessage> expectedRecordsBatch1 = getNRecords(10);
+    final List<AirbyteMessage> expectedRecordsBatch2 = getNRecords(10, 20);
+
+    consumer.start();
+    consumer.accept(STATE_MESSAGE1);
+    consumeRecords(consumer, expectedRecordsBatch1);
+    verify(outputRecordCollector).accept(STATE_MESSAGE1);
+
+    consumeRecords(consumer, expectedRecordsBatch2);
+    when(isValidRecord.apply(any())).thenThrow(new IllegalStateException("induced exception"));
+    assertThrows(IllegalStateException.class, () -> consumer.accept(getNRecords(20, 21).get(0)));
+    consumer.close();
+
+    verify(commitFunction, times(2)).get();
+    // records flushed after the last state message are not committed.
+    verify(onClose).accept(true);
+    verify(outputRecordCollector, times(1)).accept(any());
+  }
+
   private void verifyStartAndClose() throws Exception {
     verify(onStart).call();
     verify(onClose).accept(false);
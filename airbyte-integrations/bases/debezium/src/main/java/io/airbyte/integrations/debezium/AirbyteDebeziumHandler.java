@@ -11,13 +11,15 @@ import io.airbyte.commons.util.CompositeIterator;
 import io.airbyte.commons.util.MoreIterators;
 import io.airbyte.integrations.debezium.internals.AirbyteFileOffsetBackingStore;
 import io.airbyte.integrations.debezium.internals.AirbyteSchemaHistoryStorage;
+import io.airbyte.integrations.debezium.internals.ChangeEventWithMetadata;
 import io.airbyte.integrations.debezium.internals.DebeziumEventUtils;
 import io.airbyte.integrations.debezium.internals.DebeziumRecordIterator;
 import io.airbyte.integrations.debezium.internals.DebeziumRecordPublisher;
+import io.airbyte.integrations.debezium.internals.DebeziumStateDecoratingIterator;
 import io.airbyte.integrations.debezium.internals.FilteredFileDatabaseHistory;
 import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
-import io.debezium.engine.ChangeEvent;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Collections;
 import java.util.Iterator;
@@ -43,6 +45,12 @@ public class AirbyteDebeziumHandler {
    * {@link io.debezium.config.CommonConnectorConfig#DEFAULT_MAX_QUEUE_SIZE} is 8192
    */
   private static final int QUEUE_CAPACITY = 10000;
+  /**
+   * Intermediate states are emitted every this many change events or this much time, whichever comes
+   * first. Each state holds the whole schema history, so they are not emitted too often.
+   */
+  private static final int CHECKPOINT_FREQUENCY = 100_000;
+  private static final Duration CHECKPOINT_INTERVAL = Duration.ofMinutes(5);
 
   private final Properties connectorProperties;
   private final JsonNode config;
@@ -50,7 +58,7 @@ public class AirbyteDebeziumHandler {
   private final ConfiguredAirbyteCatalog catalog;
   private final boolean trackSchemaHistory;
 
-  private final LinkedBlockingQueue<ChangeEvent<String, String>> queue;
+  private final LinkedBlockingQueue<ChangeEventWithMetadata> queue;
 
   public AirbyteDebeziumHandler(JsonNode config,
                                 CdcTargetPosition targetPosition,
@@ -77,26 +85,36 @@ public class AirbyteDebeziumHandler {
     publisher.start(queue);
 
     // handle state machine around pub/sub logic.
-    final AutoCloseableIterator<ChangeEvent<String, String>> eventIterator = new DebeziumRecordIterator(
+    final AutoCloseableIterator<ChangeEventWithMetadata> eventIterator = new DebeziumRecordIterator(
         queue,
         targetPosition,
         publisher::hasClosed,
         publisher::close);
 
-    // convert to airbyte message.
-    final AutoCloseableIterator<AirbyteMessage> messageIterator = AutoCloseableIterators
-        .transform(
-            eventIterator,
-            (event) -> DebeziumEventUtils.toAirbyteMessage(event, cdcMetadataInjector, emittedAt));
+    // intermediate states hold the offset committed so far by the running engine, which stays empty
+    // until the engine commits one.
+    final Supplier<Optional<AirbyteMessage>> checkpointSupplier = () -> {
+      Map<String, String> offset = offsetManager.read();
+      if (offset.isEmpty()) {
+        return Optional.empty();
+      }
+      return Optional.of(cdcStateHandler.saveState(offset, readSchemaHistory(schemaHistoryManager)));
+    };
+
+    // convert to airbyte message, with intermediate states.
+    final AutoCloseableIterator<AirbyteMessage> messageIterator = new DebeziumStateDecoratingIterator(
+        eventIterator,
+        (event) -> DebeziumEventUtils.toAirbyteMessage(event, cdcMetadataInjector, emittedAt),
+        checkpointSupplier,
+        publisher::getPublishedEventCount,
+        CHECKPOINT_FREQUENCY,
+        CHECKPOINT_INTERVAL);
 
     // our goal is to get the state at the time this supplier is called (i.e. after all message records
     // have been produced)
     final Supplier<AirbyteMessage> stateMessageSupplier = () -> {
       Map<String, String> offset = offsetManager.read();
-      String dbHistory = trackSchemaHistory ? schemaHistoryManager
-          .orElseThrow(() -> new RuntimeException("Schema History Tracking is true but manager is not initialised")).read() : null;
-
-      return cdcStateHandler.saveState(offset, dbHistory);
+      return cdcStateHandler.saveState(offset, readSchemaHistory(schemaHistoryManager));
     };
 
     // wrap the supplier in an iterator so that we can concat it to the message iterator.
@@ -111,6 +129,11 @@ public class AirbyteDebeziumHandler {
     return Collections.singletonList(messageIteratorWithStateDecorator);
   }
 
+  private String readSchemaHistory(Optional<AirbyteSchemaHistoryStorage> schemaHistoryManager) {
+    return trackSchemaHistory ? schemaHistoryManager
+        .orElseThrow(() -> new RuntimeException("Schema History Tracking is true but manager is not initialised")).read() : null;
+  }
+
   private Optional<AirbyteSchemaHistoryStorage> schemaHistoryManager(CdcSavedInfoFetcher cdcSavedInfoFetcher) {
     if (trackSchemaHistory) {
       FilteredFileDatabaseHistory.setDatabaseName(config.get("database").asText());
@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.debezium.internals;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.airbyte.commons.json.Jsons;
+import io.debezium.engine.ChangeEvent;
+
+/**
+ * A debezium change event along with its value parsed as json. The value is parsed once, by the
+ * publisher thread, and the parsed value is shared by everything downstream that needs to inspect
+ * the event.
+ */
+public class ChangeEventWithMetadata {
+
+  private final ChangeEvent<String, String> event;
+  private final JsonNode eventValueAsJson;
+
+  public ChangeEventWithMetadata(ChangeEvent<String, String> event) {
+    this.event = event;
+    this.eventValueAsJson = Jsons.deserialize(event.value());
+  }
+
+  public ChangeEvent<String, String> event() {
+    return event;
+  }
+
+  public JsonNode eventValueAsJson() {
+    return eventValueAsJson;
+  }
+
+}
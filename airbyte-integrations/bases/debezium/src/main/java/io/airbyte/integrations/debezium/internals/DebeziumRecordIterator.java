@@ -7,12 +7,12 @@ package io.airbyte.integrations.debezium.internals;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.collect.AbstractIterator;
 import io.airbyte.commons.concurrency.VoidCallable;
-import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.lang.MoreBooleans;
 import io.airbyte.commons.util.AutoCloseableIterator;
 import io.airbyte.integrations.debezium.CdcTargetPosition;
-import io.debezium.engine.ChangeEvent;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 import org.slf4j.Logger;
@@ -28,16 +28,21 @@ import org.slf4j.LoggerFactory;
  * signal and the publisher actually shutting down, the consumer must stay alive as long as the
  * publisher is not closed. Even after the publisher is closed, the consumer will finish processing
  * any produced records before closing.
+ * <p/>
+ * Records are taken from the queue in batches, so that the queue lock is not acquired once per
+ * record.
  */
-public class DebeziumRecordIterator extends AbstractIterator<ChangeEvent<String, String>>
-    implements AutoCloseableIterator<ChangeEvent<String, String>> {
+public class DebeziumRecordIterator extends AbstractIterator<ChangeEventWithMetadata>
+    implements AutoCloseableIterator<ChangeEventWithMetadata> {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(DebeziumRecordIterator.class);
 
   private static final WaitTime FIRST_RECORD_WAIT_TIME_MINUTES = new WaitTime(5, TimeUnit.MINUTES);
   private static final WaitTime SUBSEQUENT_RECORD_WAIT_TIME_SECONDS = new WaitTime(1, TimeUnit.MINUTES);
+  private static final int MAX_BATCH_SIZE = 1000;
 
-  private final LinkedBlockingQueue<ChangeEvent<String, String>> queue;
+  private final BlockingQueue<ChangeEventWithMetadata> queue;
+  private final Deque<ChangeEventWithMetadata> batch;
   private final CdcTargetPosition targetPosition;
   private final Supplier<Boolean> publisherStatusSupplier;
   private final VoidCallable requestClose;
@@ -45,11 +50,12 @@ public class DebeziumRecordIterator extends AbstractIterator<ChangeEvent<String,
   private boolean hasSnapshotFinished;
   private boolean signalledClose;
 
-  public DebeziumRecordIterator(LinkedBlockingQueue<ChangeEvent<String, String>> queue,
+  public DebeziumRecordIterator(BlockingQueue<ChangeEventWithMetadata> queue,
                                 CdcTargetPosition targetPosition,
                                 Supplier<Boolean> publisherStatusSupplier,
                                 VoidCallable requestClose) {
     this.queue = queue;
+    this.batch = new ArrayDeque<>(MAX_BATCH_SIZE);
     this.targetPosition = targetPosition;
     this.publisherStatusSupplier = publisherStatusSupplier;
     this.requestClose = requestClose;
@@ -59,29 +65,35 @@ public class DebeziumRecordIterator extends AbstractIterator<ChangeEvent<String,
   }
 
   @Override
-  protected ChangeEvent<String, String> computeNext() {
+  protected ChangeEventWithMetadata computeNext() {
     // keep trying until the publisher is closed or until the queue is empty. the latter case is
     // possible when the publisher has shutdown but the consumer has not yet processed all messages it
     // emitted.
-    while (!MoreBooleans.isTruthy(publisherStatusSupplier.get()) || !queue.isEmpty()) {
-      final ChangeEvent<String, String> next;
-      try {
-        WaitTime waitTime = receivedFirstRecord ? SUBSEQUENT_RECORD_WAIT_TIME_SECONDS : FIRST_RECORD_WAIT_TIME_MINUTES;
-        next = queue.poll(waitTime.period, waitTime.timeUnit);
-      } catch (InterruptedException e) {
-        throw new RuntimeException(e);
+    while (!batch.isEmpty() || !MoreBooleans.isTruthy(publisherStatusSupplier.get()) || !queue.isEmpty()) {
+      if (batch.isEmpty()) {
+        final ChangeEventWithMetadata first;
+        try {
+          WaitTime waitTime = receivedFirstRecord ? SUBSEQUENT_RECORD_WAIT_TIME_SECONDS : FIRST_RECORD_WAIT_TIME_MINUTES;
+          first = queue.poll(waitTime.period, waitTime.timeUnit);
+        } catch (InterruptedException e) {
+          throw new RuntimeException(e);
+        }
+
+        // if within the timeout, the consumer could not get a record, it is time to tell the producer to
+        // shutdown.
+        if (first == null) {
+          LOGGER.info("Closing cause next is returned as null");
+          requestClose();
+          LOGGER.info("no record found. polling again.");
+          continue;
+        }
+
+        batch.add(first);
+        queue.drainTo(batch, MAX_BATCH_SIZE - 1);
       }
 
-      // if within the timeout, the consumer could not get a record, it is time to tell the producer to
-      // shutdown.
-      if (next == null) {
-        LOGGER.info("Closing cause next is returned as null");
-        requestClose();
-        LOGGER.info("no record found. polling again.");
-        continue;
-      }
-
-      JsonNode eventAsJson = Jsons.deserialize(next.value());
+      final ChangeEventWithMetadata next = batch.poll();
+      final JsonNode eventAsJson = next.eventValueAsJson();
       hasSnapshotFinished = hasSnapshotFinished(eventAsJson);
 
       // if the last record matches the target file position, it is time to tell the producer to shutdown.
@@ -6,6 +6,7 @@ package io.airbyte.integrations.debezium.internals;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Throwables;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
 import io.airbyte.protocol.models.ConfiguredAirbyteStream;
 import io.airbyte.protocol.models.SyncMode;
@@ -15,12 +16,13 @@ import io.debezium.engine.format.Json;
 import io.debezium.engine.spi.OffsetCommitPolicy;
 import java.util.Optional;
 import java.util.Properties;
-import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import org.codehaus.plexus.util.StringUtils;
@@ -34,6 +36,8 @@ import org.slf4j.LoggerFactory;
 public class DebeziumRecordPublisher implements AutoCloseable {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(DebeziumRecordPublisher.class);
+  private static final long QUEUE_OFFER_TIMEOUT_MS = 100;
+
   private final ExecutorService executor;
   private DebeziumEngine<ChangeEvent<String, String>> engine;
 
@@ -44,6 +48,7 @@ public class DebeziumRecordPublisher implements AutoCloseable {
   private final AtomicBoolean hasClosed;
   private final AtomicBoolean isClosing;
   private final AtomicReference<Throwable> thrownError;
+  private final AtomicLong publishedEventCount;
   private final CountDownLatch engineLatch;
   private final Properties properties;
   private final ConfiguredAirbyteCatalog catalog;
@@ -61,44 +66,94 @@ public class DebeziumRecordPublisher implements AutoCloseable {
     this.hasClosed = new AtomicBoolean(false);
     this.isClosing = new AtomicBoolean(false);
     this.thrownError = new AtomicReference<>();
+    this.publishedEventCount = new AtomicLong();
     this.executor = Executors.newSingleThreadExecutor();
     this.engineLatch = new CountDownLatch(1);
   }
 
-  public void start(Queue<ChangeEvent<String, String>> queue) {
-    engine = DebeziumEngine.create(Json.class)
+  public void start(BlockingQueue<ChangeEventWithMetadata> queue) {
+    start(DebeziumEngine.create(Json.class)
         .using(getDebeziumProperties())
         .using(new OffsetCommitPolicy.AlwaysCommitOffsetPolicy())
-        .notifying(e -> {
-          // debezium outputs a tombstone event that has a value of null. this is an artifact of how it
-          // interacts with kafka. we want to ignore it.
-          // more on the tombstone:
-          // https://debezium.io/documentation/reference/configuration/event-flattening.html
-          if (e.value() != null) {
-            boolean inserted = false;
-            while (!inserted) {
-              inserted = queue.offer(e);
-            }
-          }
-        })
-        .using((success, message, error) -> {
-          LOGGER.info("Debezium engine shutdown.");
-          thrownError.set(error);
-          engineLatch.countDown();
-        })
-        .build();
+        .notifying(e -> publish(queue, e))
+        .using((success, message, error) -> onEngineShutdown(error))
+        .build());
+  }
 
+  @VisibleForTesting
+  public void start(DebeziumEngine<ChangeEvent<String, String>> engine) {
+    this.engine = engine;
     // Run the engine asynchronously ...
     executor.execute(engine);
   }
 
+  /**
+   * Called by the engine thread for every change event. While the queue is full the engine thread
+   * waits for the consumer, until the publisher starts closing. The consumer does not drain the queue
+   * while it waits for the engine to close, so from then on an event that does not fit is not
+   * published and the engine is stopped instead. Its offset is never committed, so it is read again
+   * by the next sync.
+   */
+  @VisibleForTesting
+  public void publish(BlockingQueue<ChangeEventWithMetadata> queue, ChangeEvent<String, String> e) {
+    // debezium outputs a tombstone event that has a value of null. this is an artifact of how it
+    // interacts with kafka. we want to ignore it.
+    // more on the tombstone:
+    // https://debezium.io/documentation/reference/configuration/event-flattening.html
+    if (e.value() == null) {
+      return;
+    }
+
+    // the event is parsed here, so that the consumer thread does not have to.
+    final ChangeEventWithMetadata event = new ChangeEventWithMetadata(e);
+    try {
+      while (!queue.offer(event, QUEUE_OFFER_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+        if (isClosing.get()) {
+          throw new PublisherClosedException();
+        }
+      }
+    } catch (InterruptedException interruptedException) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException(interruptedException);
+    }
+    // counted before the engine gets to commit the offset of the event.
+    publishedEventCount.incrementAndGet();
+  }
+
+  @VisibleForTesting
+  public void onEngineShutdown(Throwable error) {
+    LOGGER.info("Debezium engine shutdown.");
+    if (error != null && isClosing.get() && isCausedByClose(error)) {
+      // the engine was stopped on purpose while it was waiting to publish an event.
+      LOGGER.info("Debezium engine stopped while publishing an event: {}", error.getMessage());
+    } else {
+      thrownError.set(error);
+    }
+    engineLatch.countDown();
+  }
+
+  private static boolean isCausedByClose(Throwable error) {
+    return Throwables.getCausalChain(error).stream()
+        .anyMatch(t -> t instanceof PublisherClosedException || t instanceof InterruptedException);
+  }
+
+  /**
+   * @return number of events published to the queue so far. An offset committed by the engine only
+   *         covers events that were counted before it was committed.
+   */
+  public long getPublishedEventCount() {
+    return publishedEventCount.get();
+  }
+
   public boolean hasClosed() {
     return hasClosed.get();
   }
 
   public void close() throws Exception {
     if (isClosing.compareAndSet(false, true)) {
-      // consumers should assume records can be produced until engine has closed.
+      // consumers should assume records can be produced until engine has closed. the consumer is not
+      // draining the queue while it waits here, so an engine thread blocked on a full queue gives up
+      // publishing once isClosing is set, see publish.
       if (engine != null) {
         engine.close();
       }
@@ -187,4 +242,12 @@ public class DebeziumRecordPublisher implements AutoCloseable {
         .collect(Collectors.joining(","));
   }
 
+  private static class PublisherClosedException extends RuntimeException {
+
+    PublisherClosedException() {
+      super("Debezium record publisher closed while the queue was full");
+    }
+
+  }
+
 }
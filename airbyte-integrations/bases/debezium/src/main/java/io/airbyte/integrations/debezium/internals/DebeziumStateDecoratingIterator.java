@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.debezium.internals;
+
+import com.google.common.collect.AbstractIterator;
+import io.airbyte.commons.util.AutoCloseableIterator;
+import io.airbyte.protocol.models.AirbyteMessage;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Converts change events to airbyte messages, and emits an intermediate state every so many events
+ * or so much time, so that a failed sync can resume from it instead of from the state of the
+ * previous sync.
+ * <p/>
+ * An intermediate state holds the offset last committed by the debezium engine, which runs ahead of
+ * the events emitted by this iterator. The offset only covers events that were already published to
+ * the queue when it is read, so the state is held back until as many events as had been published
+ * at that time have been emitted.
+ */
+public class DebeziumStateDecoratingIterator extends AbstractIterator<AirbyteMessage> implements AutoCloseableIterator<AirbyteMessage> {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(DebeziumStateDecoratingIterator.class);
+
+  private final AutoCloseableIterator<ChangeEventWithMetadata> changeEventIterator;
+  private final Function<ChangeEventWithMetadata, AirbyteMessage> eventConverter;
+  private final Supplier<Optional<AirbyteMessage>> checkpointSupplier;
+  private final LongSupplier publishedEventCount;
+  private final int checkpointFrequency;
+  private final long checkpointIntervalMillis;
+
+  private long emittedEventCount;
+  private long eventsSinceLastCheckpoint;
+  private long lastCheckpointAtMillis;
+  private AirbyteMessage pendingCheckpoint;
+  private long pendingCheckpointEventCount;
+
+  /**
+   * @param checkpointSupplier builds a state message from the committed offset, or returns empty if
+   *        there is no committed offset yet.
+   * @param publishedEventCount number of events published to the queue so far.
+   * @param checkpointFrequency number of events after which an intermediate state is emitted, 0 to
+   *        disable.
+   * @param checkpointInterval time after which an intermediate state is emitted, zero to disable.
+   */
+  public DebeziumStateDecoratingIterator(AutoCloseableIterator<ChangeEventWithMetadata> changeEventIterator,
+                                         Function<ChangeEventWithMetadata, AirbyteMessage> eventConverter,
+                                         Supplier<Optional<AirbyteMessage>> checkpointSupplier,
+                                         LongSupplier publishedEventCount,
+                                         int checkpointFrequency,
+                                         Duration checkpointInterval) {
+    this.changeEventIterator = changeEventIterator;
+    this.eventConverter = eventConverter;
+    this.checkpointSupplier = checkpointSupplier;
+    this.publishedEventCount = publishedEventCount;
+    this.checkpointFrequency = checkpointFrequency;
+    this.checkpointIntervalMillis = checkpointInterval.toMillis();
+    this.lastCheckpointAtMillis = System.currentTimeMillis();
+  }
+
+  @Override
+  protected AirbyteMessage computeNext() {
+    // the messages returned so far have all been consumed by the time this is called.
+    if (pendingCheckpoint != null && emittedEventCount >= pendingCheckpointEventCount) {
+      final AirbyteMessage checkpoint = pendingCheckpoint;
+      pendingCheckpoint = null;
+      return checkpoint;
+    }
+
+    if (!changeEventIterator.hasNext()) {
+      return endOfData();
+    }
+
+    final ChangeEventWithMetadata event = changeEventIterator.next();
+    emittedEventCount++;
+    eventsSinceLastCheckpoint++;
+    // an offset committed during the snapshot would restart the snapshot, so there is no point in
+    // checkpointing it.
+    if (pendingCheckpoint == null && hasSnapshotFinished(event) && shouldCheckpoint()) {
+      prepareCheckpoint();
+    }
+    return eventConverter.apply(event);
+  }
+
+  private boolean hasSnapshotFinished(ChangeEventWithMetadata event) {
+    final SnapshotMetadata snapshot =
+        SnapshotMetadata.valueOf(event.eventValueAsJson().get("source").get("snapshot").asText().toUpperCase());
+    return SnapshotMetadata.TRUE != snapshot;
+  }
+
+  private boolean shouldCheckpoint() {
+    return (checkpointFrequency > 0 && eventsSinceLastCheckpoint >= checkpointFrequency)
+        || (checkpointIntervalMillis > 0 && System.currentTimeMillis() - lastCheckpointAtMillis >= checkpointIntervalMillis);
+  }
+
+  private void prepareCheckpoint() {
+    eventsSinceLastCheckpoint = 0;
+    lastCheckpointAtMillis = System.currentTimeMillis();
+    try {
+      final Optional<AirbyteMessage> checkpoint = checkpointSupplier.get();
+      // the count is read after the offset, so it includes every event the offset covers.
+      final long eventCount = publishedEventCount.getAsLong();
+      if (checkpoint.isPresent()) {
+        pendingCheckpoint = checkpoint.get();
+        pendingCheckpointEventCount = eventCount;
+      }
+    } catch (RuntimeException e) {
+      // the engine writes the offset and the schema history while they are read, so a read can fail.
+      // the next checkpoint will try again.
+      LOGGER.warn("Failed to read the committed offset, skipping this checkpoint.", e);
+    }
+  }
+
+  @Override
+  public void close() throws Exception {
+    changeEventIterator.close();
+  }
+
+}
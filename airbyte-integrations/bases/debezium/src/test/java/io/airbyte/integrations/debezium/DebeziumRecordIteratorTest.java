@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.debezium;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.airbyte.integrations.debezium.internals.ChangeEventWithMetadata;
+import io.airbyte.integrations.debezium.internals.DebeziumRecordIterator;
+import io.debezium.engine.ChangeEvent;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import org.junit.jupiter.api.Test;
+
+class DebeziumRecordIteratorTest {
+
+  @Test
+  void testEmitsQueuedEventsInOrderOnce() throws Exception {
+    final LinkedBlockingQueue<ChangeEventWithMetadata> queue = new LinkedBlockingQueue<>();
+    final List<ChangeEventWithMetadata> expected = new ArrayList<>();
+    for (int i = 0; i < 2500; i++) {
+      final ChangeEventWithMetadata event = changeEvent(i);
+      expected.add(event);
+      queue.add(event);
+    }
+
+    // the publisher has already closed, so the iterator ends once the queue is drained.
+    final DebeziumRecordIterator iterator = new DebeziumRecordIterator(queue, valueAsJson -> false, () -> true, () -> {});
+    final List<ChangeEventWithMetadata> actual = new ArrayList<>();
+    iterator.forEachRemaining(actual::add);
+
+    assertEquals(expected, actual);
+    assertFalse(iterator.hasNext());
+  }
+
+  private static ChangeEventWithMetadata changeEvent(int id) {
+    final ChangeEvent<String, String> event = mock(ChangeEvent.class);
+    when(event.value()).thenReturn(String.format("{\"after\":{\"id\":%d},\"source\":{\"snapshot\":\"false\"}}", id));
+    return new ChangeEventWithMetadata(event);
+  }
+
+}
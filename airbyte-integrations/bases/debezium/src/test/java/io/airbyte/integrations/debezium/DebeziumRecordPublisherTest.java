@@ -5,12 +5,23 @@
 package io.airbyte.integrations.debezium;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 import com.google.common.collect.ImmutableList;
+import io.airbyte.integrations.debezium.internals.ChangeEventWithMetadata;
 import io.airbyte.integrations.debezium.internals.DebeziumRecordPublisher;
 import io.airbyte.protocol.models.CatalogHelpers;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
 import io.airbyte.protocol.models.SyncMode;
+import io.debezium.engine.ChangeEvent;
+import io.debezium.engine.DebeziumEngine;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicReference;
 import org.junit.jupiter.api.Test;
 
 class DebeziumRecordPublisherTest {
@@ -40,4 +51,107 @@ class DebeziumRecordPublisherTest {
     assertEquals(expectedWhitelist, actualWhitelist);
   }
 
+  @Test
+  void testClosesWithFullQueue() {
+    final BlockingQueue<ChangeEventWithMetadata> queue = new ArrayBlockingQueue<>(2);
+    final DebeziumRecordPublisher publisher = new DebeziumRecordPublisher(new Properties(), null, null, null, Optional.empty());
+    publisher.start(new FakeEngine(publisher, queue, false));
+
+    assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+      while (queue.remainingCapacity() > 0) {
+        Thread.sleep(10);
+      }
+      // the engine thread is now blocked on the full queue and nobody drains it while closing.
+      publisher.close();
+    });
+
+    assertTrue(publisher.hasClosed());
+    assertEquals(2, queue.size());
+    assertEquals(2, publisher.getPublishedEventCount());
+  }
+
+  @Test
+  void testInterruptOfEngineWhileClosingIsNotAnError() {
+    final BlockingQueue<ChangeEventWithMetadata> queue = new ArrayBlockingQueue<>(2);
+    final DebeziumRecordPublisher publisher = new DebeziumRecordPublisher(new Properties(), null, null, null, Optional.empty());
+    publisher.start(new FakeEngine(publisher, queue, true));
+
+    assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+      while (queue.remainingCapacity() > 0) {
+        Thread.sleep(10);
+      }
+      publisher.close();
+    });
+
+    assertTrue(publisher.hasClosed());
+    assertEquals(2, publisher.getPublishedEventCount());
+  }
+
+  @Test
+  void testEngineErrorIsRethrownOnClose() {
+    final DebeziumRecordPublisher publisher = new DebeziumRecordPublisher(new Properties(), null, null, null, Optional.empty());
+    final RuntimeException error = new RuntimeException("connector failed");
+    publisher.start(new DebeziumEngine<ChangeEvent<String, String>>() {
+
+      @Override
+      public void run() {
+        publisher.onEngineShutdown(error);
+      }
+
+      @Override
+      public void close() {}
+
+    });
+
+    final RuntimeException thrown = assertThrows(RuntimeException.class, publisher::close);
+    assertSame(error, thrown.getCause());
+  }
+
+  /**
+   * Publishes events until the publisher gives up on a full queue, then reports the shutdown like the
+   * debezium engine does. When interruptOnClose is set, close interrupts the engine thread, which is
+   * what debezium does to an engine that does not stop in time.
+   */
+  private static class FakeEngine implements DebeziumEngine<ChangeEvent<String, String>> {
+
+    private final DebeziumRecordPublisher publisher;
+    private final BlockingQueue<ChangeEventWithMetadata> queue;
+    private final boolean interruptOnClose;
+    private final AtomicReference<Thread> runningThread = new AtomicReference<>();
+
+    FakeEngine(DebeziumRecordPublisher publisher, BlockingQueue<ChangeEventWithMetadata> queue, boolean interruptOnClose) {
+      this.publisher = publisher;
+      this.queue = queue;
+      this.interruptOnClose = interruptOnClose;
+    }
+
+    @Override
+    public void run() {
+      runningThread.set(Thread.currentThread());
+      Throwable error = null;
+      try {
+        for (int i = 0;; i++) {
+          publisher.publish(queue, changeEvent(i));
+        }
+      } catch (Throwable t) {
+        error = t;
+      }
+      publisher.onEngineShutdown(error);
+    }
+
+    @Override
+    public void close() {
+      if (interruptOnClose && runningThread.get() != null) {
+        runningThread.get().interrupt();
+      }
+    }
+
+  }
+
+  private static ChangeEvent<String, String> changeEvent(int id) {
+    final ChangeEvent<String, String> event = mock(ChangeEvent.class);
+    when(event.value()).thenReturn(String.format("{\"after\":{\"id\":%d},\"source\":{\"snapshot\":\"false\"}}", id));
+    return event;
+  }
+
 }
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.debezium;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.airbyte.commons.util.AutoCloseableIterators;
+import io.airbyte.integrations.debezium.internals.ChangeEventWithMetadata;
+import io.airbyte.integrations.debezium.internals.DebeziumStateDecoratingIterator;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteMessage.Type;
+import io.debezium.engine.ChangeEvent;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+class DebeziumStateDecoratingIteratorTest {
+
+  private static final AirbyteMessage STATE_MESSAGE = new AirbyteMessage().withType(Type.STATE);
+
+  @Test
+  void testHoldsCheckpointBackUntilPublishedEventsAreEmitted() {
+    final List<ChangeEventWithMetadata> events = List.of(changeEvent("false"), changeEvent("false"), changeEvent("false"));
+    // the engine has published one event more than the iterator emitted when the checkpoint is due.
+    final DebeziumStateDecoratingIterator iterator = new DebeziumStateDecoratingIterator(
+        AutoCloseableIterators.fromIterator(events.iterator()),
+        event -> new AirbyteMessage().withType(Type.RECORD),
+        () -> Optional.of(STATE_MESSAGE),
+        () -> 3,
+        2,
+        Duration.ZERO);
+
+    assertEquals(List.of(Type.RECORD, Type.RECORD, Type.RECORD, Type.STATE), types(iterator));
+  }
+
+  @Test
+  void testSkipsCheckpointsDuringSnapshotAndWithoutOffset() {
+    final List<ChangeEventWithMetadata> events = List.of(changeEvent("true"), changeEvent("true"), changeEvent("last"), changeEvent("false"));
+    final DebeziumStateDecoratingIterator iterator = new DebeziumStateDecoratingIterator(
+        AutoCloseableIterators.fromIterator(events.iterator()),
+        event -> new AirbyteMessage().withType(Type.RECORD),
+        Optional::empty,
+        () -> 4,
+        1,
+        Duration.ZERO);
+
+    assertEquals(List.of(Type.RECORD, Type.RECORD, Type.RECORD, Type.RECORD), types(iterator));
+  }
+
+  private static List<Type> types(DebeziumStateDecoratingIterator iterator) {
+    final List<Type> types = new ArrayList<>();
+    iterator.forEachRemaining(message -> types.add(message.getType()));
+    return types;
+  }
+
+  private static ChangeEventWithMetadata changeEvent(String snapshot) {
+    final ChangeEvent<String, String> event = mock(ChangeEvent.class);
+    when(event.value()).thenReturn(String.format("{\"after\":{},\"source\":{\"snapshot\":\"%s\"}}", snapshot));
+    return new ChangeEventWithMetadata(event);
+  }
+
+}
@@ -21,6 +21,7 @@ import io.airbyte.integrations.destination.StandardNameTransformer;
 import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.AirbyteRecordMessage;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
+import java.io.IOException;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -50,6 +51,10 @@ public class BigQueryDenormalizedRecordConsumer extends BigQueryRecordConsumer {
   }
 
   @Override
+  protected void writeRecord(JsonLinesChannelWriter lineWriter, Schema schema, AirbyteRecordMessage recordMessage) throws IOException {
+    lineWriter.getGenerator().writeTree(formatRecord(schema, recordMessage));
+  }
+
   protected JsonNode formatRecord(Schema schema, AirbyteRecordMessage recordMessage) {
     // Bigquery represents TIMESTAMP to the microsecond precision, so we convert to microseconds then
     // use BQ helpers to string-format correctly.
@@ -258,7 +258,7 @@ public class BigQueryDestination extends BaseConnector implements Destination {
     Timestamp uploadTimestamp = new Timestamp(System.currentTimeMillis());
 
     AmazonS3 s3Client = GcsS3Helper.getGcsS3Client(gcsDestinationConfig);
-    return new GcsCsvWriter(gcsDestinationConfig, s3Client, configuredStream, uploadTimestamp);
+    return new GcsCsvWriter(gcsDestinationConfig, s3Client, configuredStream, uploadTimestamp, 0);
   }
 
   protected String getTargetTableName(String streamName) {
@@ -9,6 +9,7 @@ import static com.amazonaws.util.StringUtils.UTF8;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.DeleteObjectsRequest.KeyVersion;
 import com.amazonaws.services.s3.model.S3ObjectSummary;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.google.cloud.bigquery.BigQuery;
 import com.google.cloud.bigquery.BigQueryException;
@@ -23,8 +24,6 @@ import com.google.cloud.bigquery.QueryParameterValue;
 import com.google.cloud.bigquery.Schema;
 import com.google.cloud.bigquery.TableDataWriteChannel;
 import com.google.cloud.bigquery.TableId;
-import com.google.common.base.Charsets;
-import com.google.common.collect.ImmutableMap;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.lang.Exceptions;
 import io.airbyte.integrations.base.AirbyteMessageConsumer;
@@ -42,7 +41,7 @@ import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
 import java.io.IOException;
 import java.lang.management.ManagementFactory;
 import java.lang.management.MemoryMXBean;
-import java.nio.ByteBuffer;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -58,12 +57,16 @@ public class BigQueryRecordConsumer extends FailureTrackingAirbyteMessageConsume
 
   private static final Logger LOGGER = LoggerFactory.getLogger(BigQueryRecordConsumer.class);
 
+  // records are written to the load channels in batches of this size.
+  private static final int WRITE_BATCH_SIZE_BYTES = BigQueryConsts.MiB;
+
   private final BigQuery bigquery;
   private final Map<AirbyteStreamNameNamespacePair, BigQueryWriteConfig> writeConfigs;
   private final ConfiguredAirbyteCatalog catalog;
   private final Consumer<AirbyteMessage> outputRecordCollector;
   private final boolean isGcsUploadingMode;
   private final boolean isKeepFilesInGcs;
+  private final Map<AirbyteStreamNameNamespacePair, JsonLinesChannelWriter> lineWriters = new HashMap<>();
 
   private AirbyteMessage lastStateMessage = null;
 
@@ -82,8 +85,13 @@ public class BigQueryRecordConsumer extends FailureTrackingAirbyteMessageConsume
   }
 
   @Override
-  protected void startTracked() {
+  protected void startTracked() throws IOException {
     // todo (cgardens) - move contents of #write into this method.
+    for (final Map.Entry<AirbyteStreamNameNamespacePair, BigQueryWriteConfig> entry : writeConfigs.entrySet()) {
+      if (entry.getValue().getGcsCsvWriter() == null) {
+        lineWriters.put(entry.getKey(), new JsonLinesChannelWriter(entry.getValue().getWriter(), WRITE_BATCH_SIZE_BYTES));
+      }
+    }
   }
 
   @Override
@@ -106,8 +114,9 @@ public class BigQueryRecordConsumer extends FailureTrackingAirbyteMessageConsume
       if (writer.getGcsCsvWriter() == null) {
         // Normal uploading way
         try {
-          writer.getWriter()
-              .write(ByteBuffer.wrap((Jsons.serialize(formatRecord(writer.getSchema(), recordMessage)) + "\n").getBytes(Charsets.UTF_8)));
+          final JsonLinesChannelWriter lineWriter = lineWriters.get(pair);
+          writeRecord(lineWriter, writer.getSchema(), recordMessage);
+          lineWriter.endRecord();
         } catch (IOException | RuntimeException e) {
           LOGGER.error("Got an error while writing message:" + e.getMessage());
           LOGGER.error(String.format(
@@ -126,16 +135,22 @@ public class BigQueryRecordConsumer extends FailureTrackingAirbyteMessageConsume
     }
   }
 
-  protected JsonNode formatRecord(Schema schema, AirbyteRecordMessage recordMessage) {
+  /**
+   * Writes the json row of a record with the line writer, without building an intermediate json node
+   * or string.
+   */
+  protected void writeRecord(JsonLinesChannelWriter lineWriter, Schema schema, AirbyteRecordMessage recordMessage) throws IOException {
     // Bigquery represents TIMESTAMP to the microsecond precision, so we convert to microseconds then
     // use BQ helpers to string-format correctly.
     long emittedAtMicroseconds = TimeUnit.MICROSECONDS.convert(recordMessage.getEmittedAt(), TimeUnit.MILLISECONDS);
     final String formattedEmittedAt = QueryParameterValue.timestamp(emittedAtMicroseconds).getValue();
     final JsonNode formattedData = StandardNameTransformer.formatJsonPath(recordMessage.getData());
-    return Jsons.jsonNode(ImmutableMap.of(
-        JavaBaseConstants.COLUMN_NAME_AB_ID, UUID.randomUUID().toString(),
-        JavaBaseConstants.COLUMN_NAME_DATA, Jsons.serialize(formattedData),
-        JavaBaseConstants.COLUMN_NAME_EMITTED_AT, formattedEmittedAt));
+    final JsonGenerator generator = lineWriter.getGenerator();
+    generator.writeStartObject();
+    generator.writeStringField(JavaBaseConstants.COLUMN_NAME_AB_ID, UUID.randomUUID().toString());
+    lineWriter.writeJsonStringField(JavaBaseConstants.COLUMN_NAME_DATA, formattedData);
+    generator.writeStringField(JavaBaseConstants.COLUMN_NAME_EMITTED_AT, formattedEmittedAt);
+    generator.writeEndObject();
   }
 
   @Override
@@ -174,21 +189,21 @@ public class BigQueryRecordConsumer extends FailureTrackingAirbyteMessageConsume
       });
     }
 
-    // copy data from tmp gcs storage to bigquery tables
-    writeConfigs.values().stream()
-        .filter(pair -> pair.getGcsCsvWriter() != null)
-        .forEach(pair -> {
-          try {
-            loadCsvFromGcsTruncate(pair);
-          } catch (Exception e) {
-            LOGGER.error("Failed to load data from GCS CSV file to BibQuery tmp table with reason: " + e.getMessage());
-            throw new RuntimeException(e);
-          }
-        });
+    // copy data from tmp gcs storage to bigquery tables. All the load jobs are started before waiting
+    // for any of them, so that the streams are loaded concurrently.
+    final Map<BigQueryWriteConfig, Job> loadJobs = new HashMap<>();
+    gcsWritersList.forEach(writeConfig -> loadJobs.put(writeConfig, startCsvLoadFromGcs(writeConfig)));
+    loadJobs.forEach((writeConfig, loadJob) -> {
+      try {
+        awaitCsvLoadFromGcs(loadJob);
+      } catch (Exception e) {
+        LOGGER.error("Failed to load data from GCS CSV file to BibQuery tmp table with reason: " + e.getMessage());
+        throw new RuntimeException(e);
+      }
+    });
   }
 
-  private void loadCsvFromGcsTruncate(BigQueryWriteConfig bigQueryWriteConfig)
-      throws Exception {
+  private Job startCsvLoadFromGcs(BigQueryWriteConfig bigQueryWriteConfig) {
     try {
 
       TableId tmpTable = bigQueryWriteConfig.getTmpTable();
@@ -216,7 +231,16 @@ public class BigQueryRecordConsumer extends FailureTrackingAirbyteMessageConsume
       Job loadJob = bigquery.create(JobInfo.of(configuration));
 
       LOGGER.info("Crated a new job GCS csv file to tmp BigQuery table: " + loadJob);
-      LOGGER.info("Waiting for job to complete...");
+      return loadJob;
+    } catch (BigQueryException e) {
+      LOGGER.error("Column not added during load append \n" + e.toString());
+      throw new RuntimeException("Column not added during load append \n" + e.toString());
+    }
+  }
+
+  private void awaitCsvLoadFromGcs(Job loadJob) throws Exception {
+    try {
+      LOGGER.info("Waiting for job {} to complete...", loadJob.getJobId());
 
       // Load data from a GCS parquet file into the table
       // Blocks until this load table job completes its execution, either failing or succeeding.
@@ -243,10 +267,16 @@ public class BigQueryRecordConsumer extends FailureTrackingAirbyteMessageConsume
 
   private void closeNormalBigqueryStreams(boolean hasFailed) {
     try {
-      writeConfigs.values().parallelStream().forEach(bigQueryWriteConfig -> Exceptions.toRuntime(() -> {
-        TableDataWriteChannel writer = bigQueryWriteConfig.getWriter();
+      writeConfigs.entrySet().parallelStream().forEach(entry -> Exceptions.toRuntime(() -> {
+        TableDataWriteChannel writer = entry.getValue().getWriter();
         try {
-          writer.close();
+          final JsonLinesChannelWriter lineWriter = lineWriters.get(entry.getKey());
+          if (lineWriter != null && !hasFailed) {
+            // writes the last batch of records before closing the channel.
+            lineWriter.close();
+          } else {
+            writer.close();
+          }
         } catch (IOException | RuntimeException e) {
           LOGGER.error(String.format("Failed to close writer: %s, \nStreams numbers: %s",
               writer.getJob(), catalog.getStreams().size()));
@@ -273,10 +303,11 @@ public class BigQueryRecordConsumer extends FailureTrackingAirbyteMessageConsume
 
       if (!hasFailed) {
         LOGGER.info("Migration finished with no explicit errors. Copying data from tmp tables to permanent");
-        writeConfigs.values()
-            .forEach(
-                bigQueryWriteConfig -> copyTable(bigquery, bigQueryWriteConfig.getTmpTable(), bigQueryWriteConfig.getTable(),
-                    bigQueryWriteConfig.getSyncMode()));
+        // all the copy jobs are started before waiting for any of them, so that they run concurrently.
+        final Map<BigQueryWriteConfig, Job> copyJobs = new HashMap<>();
+        writeConfigs.values().forEach(bigQueryWriteConfig -> copyJobs.put(bigQueryWriteConfig,
+            startCopyTable(bigquery, bigQueryWriteConfig.getTmpTable(), bigQueryWriteConfig.getTable(), bigQueryWriteConfig.getSyncMode())));
+        copyJobs.forEach((bigQueryWriteConfig, job) -> awaitCopyTable(job, bigQueryWriteConfig.getTmpTable(), bigQueryWriteConfig.getTable()));
         // BQ is still all or nothing if a failure happens in the destination.
         outputRecordCollector.accept(lastStateMessage);
       } else {
@@ -319,18 +350,21 @@ public class BigQueryRecordConsumer extends FailureTrackingAirbyteMessageConsume
   }
 
   // https://cloud.google.com/bigquery/docs/managing-tables#copying_a_single_source_table
-  private static void copyTable(
-                                BigQuery bigquery,
-                                TableId sourceTableId,
-                                TableId destinationTableId,
-                                WriteDisposition syncMode) {
+  private static Job startCopyTable(
+                                   BigQuery bigquery,
+                                   TableId sourceTableId,
+                                   TableId destinationTableId,
+                                   WriteDisposition syncMode) {
 
     final CopyJobConfiguration configuration = CopyJobConfiguration.newBuilder(destinationTableId, sourceTableId)
         .setCreateDisposition(CreateDisposition.CREATE_IF_NEEDED)
         .setWriteDisposition(syncMode)
         .build();
 
-    final Job job = bigquery.create(JobInfo.of(configuration));
+    return bigquery.create(JobInfo.of(configuration));
+  }
+
+  private static void awaitCopyTable(Job job, TableId sourceTableId, TableId destinationTableId) {
     final ImmutablePair<Job, String> jobStringImmutablePair = BigQueryUtils.executeQuery(job);
     if (jobStringImmutablePair.getRight() != null) {
       LOGGER.error("Failed on copy tables with error:" + job.getStatus());
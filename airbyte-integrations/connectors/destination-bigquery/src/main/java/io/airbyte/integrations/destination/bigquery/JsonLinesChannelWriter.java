@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.bigquery;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.airbyte.commons.jackson.MoreMappers;
+import java.io.ByteArrayOutputStream;
+import java.io.CharArrayWriter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Writes newline delimited json to a channel in batches. Records are encoded straight into a buffer
+ * through a {@link JsonGenerator}, and the buffer is written to the channel once it holds a batch of
+ * records, instead of serializing each record to a string and writing a new byte array per record.
+ * <p/>
+ * Once writing to the channel failed, the writer cannot be used anymore: the channel may hold part
+ * of a batch, so nothing else is written to it.
+ */
+class JsonLinesChannelWriter implements AutoCloseable {
+
+  private static final ObjectMapper MAPPER = MoreMappers.initMapper();
+
+  private final WritableByteChannel channel;
+  private final int batchSizeBytes;
+  private final BatchBuffer buffer;
+  private final JsonGenerator generator;
+  // json written as the string value of a field is first encoded here, and reused for every record.
+  private final FieldBuffer fieldBuffer;
+  private final JsonGenerator fieldGenerator;
+  private boolean failed;
+
+  JsonLinesChannelWriter(WritableByteChannel channel, int batchSizeBytes) throws IOException {
+    this.channel = channel;
+    this.batchSizeBytes = batchSizeBytes;
+    this.buffer = new BatchBuffer(batchSizeBytes);
+    // the generator of an object mapper can also write json nodes.
+    this.generator = MAPPER.getFactory().createGenerator(buffer);
+    // records are separated by the new line written after each of them.
+    this.generator.setRootValueSeparator(null);
+    this.fieldBuffer = new FieldBuffer();
+    this.fieldGenerator = MAPPER.getFactory().createGenerator(fieldBuffer);
+    this.fieldGenerator.setRootValueSeparator(null);
+  }
+
+  /**
+   * @return generator to write a record with, followed by a call to {@link #endRecord()}.
+   */
+  JsonGenerator getGenerator() {
+    return generator;
+  }
+
+  /**
+   * Writes a field of the current record whose value is the json of the node as a string, without
+   * serializing the node to an intermediate string.
+   */
+  void writeJsonStringField(String fieldName, JsonNode value) throws IOException {
+    fieldBuffer.reset();
+    fieldGenerator.writeTree(value);
+    fieldGenerator.flush();
+    generator.writeFieldName(fieldName);
+    generator.writeString(fieldBuffer.getChars(), 0, fieldBuffer.size());
+  }
+
+  /**
+   * Ends the record written with the generator, and writes the batch to the channel if it is full.
+   */
+  void endRecord() throws IOException {
+    checkNotFailed();
+    generator.writeRaw('\n');
+    generator.flush();
+    if (buffer.size() >= batchSizeBytes) {
+      flush();
+    }
+  }
+
+  /**
+   * Writes the buffered records to the channel.
+   */
+  void flush() throws IOException {
+    checkNotFailed();
+    generator.flush();
+    final ByteBuffer batch = ByteBuffer.wrap(buffer.getBytes(), 0, buffer.size());
+    try {
+      while (batch.hasRemaining()) {
+        channel.write(batch);
+      }
+    } catch (IOException | RuntimeException e) {
+      failed = true;
+      throw e;
+    }
+    buffer.reset();
+  }
+
+  /**
+   * Writes the buffered records, unless a previous write failed, and closes the channel.
+   */
+  @Override
+  public void close() throws IOException {
+    try {
+      if (!failed) {
+        flush();
+      }
+    } finally {
+      channel.close();
+    }
+  }
+
+  private void checkNotFailed() {
+    if (failed) {
+      throw new IllegalStateException("Cannot write to the channel after a previous write failed");
+    }
+  }
+
+  /**
+   * Gives access to the buffered bytes without copying them.
+   */
+  private static class BatchBuffer extends ByteArrayOutputStream {
+
+    BatchBuffer(int size) {
+      super(size);
+    }
+
+    byte[] getBytes() {
+      return buf;
+    }
+
+  }
+
+  /**
+   * Gives access to the buffered chars without copying them.
+   */
+  private static class FieldBuffer extends CharArrayWriter {
+
+    char[] getChars() {
+      return buf;
+    }
+
+  }
+
+}
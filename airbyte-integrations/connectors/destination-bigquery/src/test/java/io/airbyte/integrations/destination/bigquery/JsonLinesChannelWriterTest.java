@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.bigquery;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.airbyte.commons.json.Jsons;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class JsonLinesChannelWriterTest {
+
+  private static final JsonNode DATA = Jsons.jsonNode(Map.of("name", "a \"quoted\"\nname", "id", 1));
+
+  @Test
+  void testWritesOneRecordPerLine() throws IOException {
+    final RecordingChannel channel = new RecordingChannel();
+    final JsonLinesChannelWriter writer = new JsonLinesChannelWriter(channel, 1024);
+
+    writeRecord(writer, "1");
+    writeRecord(writer, "2");
+    writer.close();
+
+    final String[] lines = channel.getContent().split("\n", -1);
+    assertEquals(3, lines.length);
+    assertEquals("", lines[2]);
+    for (int i = 0; i < 2; i++) {
+      final JsonNode record = Jsons.deserialize(lines[i]);
+      assertEquals(String.valueOf(i + 1), record.get("id").asText());
+      // the data field holds the json of the node as a string.
+      assertEquals(Jsons.serialize(DATA), record.get("data").asText());
+    }
+  }
+
+  @Test
+  void testWritesBatchOnceFull() throws IOException {
+    final RecordingChannel channel = new RecordingChannel();
+    final JsonLinesChannelWriter writer = new JsonLinesChannelWriter(channel, 1);
+
+    writeRecord(writer, "1");
+    assertEquals(1, channel.getWrites());
+    writeRecord(writer, "2");
+    assertEquals(2, channel.getWrites());
+    assertEquals(2, channel.getContent().lines().count());
+  }
+
+  @Test
+  void testFlushesBufferedRecordsOnClose() throws IOException {
+    final RecordingChannel channel = new RecordingChannel();
+    final JsonLinesChannelWriter writer = new JsonLinesChannelWriter(channel, 1024);
+
+    writeRecord(writer, "1");
+    assertEquals("", channel.getContent());
+
+    writer.close();
+
+    assertEquals(1, channel.getContent().lines().count());
+    assertFalse(channel.isOpen());
+  }
+
+  @Test
+  void testStopsWritingAfterWriteError() throws IOException {
+    final RecordingChannel channel = new RecordingChannel();
+    channel.failWrites();
+    final JsonLinesChannelWriter writer = new JsonLinesChannelWriter(channel, 1);
+
+    assertThrows(IOException.class, () -> writeRecord(writer, "1"));
+    assertThrows(IllegalStateException.class, () -> writeRecord(writer, "2"));
+    assertThrows(IllegalStateException.class, writer::flush);
+
+    // close does not write the rest of the failed batch, but still closes the channel.
+    writer.close();
+    assertEquals(1, channel.getWrites());
+    assertFalse(channel.isOpen());
+  }
+
+  private static void writeRecord(JsonLinesChannelWriter writer, String id) throws IOException {
+    final JsonGenerator generator = writer.getGenerator();
+    generator.writeStartObject();
+    generator.writeStringField("id", id);
+    writer.writeJsonStringField("data", DATA);
+    generator.writeEndObject();
+    writer.endRecord();
+  }
+
+  private static class RecordingChannel implements WritableByteChannel {
+
+    private final ByteArrayOutputStream content = new ByteArrayOutputStream();
+    private int writes;
+    private boolean failWrites;
+    private boolean open = true;
+
+    void failWrites() {
+      failWrites = true;
+    }
+
+    int getWrites() {
+      return writes;
+    }
+
+    String getContent() {
+      return content.toString(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public int write(ByteBuffer src) throws IOException {
+      writes++;
+      if (failWrites) {
+        throw new IOException("write failed");
+      }
+      final int length = src.remaining();
+      final byte[] bytes = new byte[length];
+      src.get(bytes);
+      content.write(bytes);
+      return length;
+    }
+
+    @Override
+    public boolean isOpen() {
+      return open;
+    }
+
+    @Override
+    public void close() {
+      open = false;
+    }
+
+  }
+
+}
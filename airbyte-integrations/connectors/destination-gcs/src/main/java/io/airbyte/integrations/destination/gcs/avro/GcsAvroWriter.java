@@ -7,11 +7,11 @@ package io.airbyte.integrations.destination.gcs.avro;
 import alex.mojaki.s3upload.MultiPartOutputStream;
 import alex.mojaki.s3upload.StreamTransferManager;
 import com.amazonaws.services.s3.AmazonS3;
+import com.google.common.io.CountingOutputStream;
 import io.airbyte.integrations.destination.gcs.GcsDestinationConfig;
 import io.airbyte.integrations.destination.gcs.writer.BaseGcsWriter;
 import io.airbyte.integrations.destination.s3.S3Format;
 import io.airbyte.integrations.destination.s3.avro.AvroRecordFactory;
-import io.airbyte.integrations.destination.s3.avro.JsonFieldNameUpdater;
 import io.airbyte.integrations.destination.s3.avro.S3AvroFormatConfig;
 import io.airbyte.integrations.destination.s3.util.S3StreamTransferManagerHelper;
 import io.airbyte.integrations.destination.s3.writer.S3Writer;
@@ -35,35 +35,37 @@ public class GcsAvroWriter extends BaseGcsWriter implements S3Writer {
   private final AvroRecordFactory avroRecordFactory;
   private final StreamTransferManager uploadManager;
   private final MultiPartOutputStream outputStream;
+  private final CountingOutputStream countingOutputStream;
   private final DataFileWriter<GenericData.Record> dataFileWriter;
 
   public GcsAvroWriter(GcsDestinationConfig config,
                        AmazonS3 s3Client,
                        ConfiguredAirbyteStream configuredStream,
                        Timestamp uploadTimestamp,
-                       Schema schema,
-                       JsonFieldNameUpdater nameUpdater)
+                       int partId,
+                       Schema schema)
       throws IOException {
     super(config, s3Client, configuredStream);
 
-    String outputFilename = BaseGcsWriter.getOutputFilename(uploadTimestamp, S3Format.AVRO);
+    String outputFilename = BaseGcsWriter.getOutputFilename(uploadTimestamp, S3Format.AVRO, partId);
     String objectKey = String.join("/", outputPrefix, outputFilename);
 
     LOGGER.info("Full GCS path for stream '{}': {}/{}", stream.getName(), config.getBucketName(),
         objectKey);
 
-    this.avroRecordFactory = new AvroRecordFactory(schema, nameUpdater);
+    this.avroRecordFactory = new AvroRecordFactory(schema);
     this.uploadManager = S3StreamTransferManagerHelper.getDefault(
         config.getBucketName(), objectKey, s3Client, config.getFormatConfig().getPartSize());
     // We only need one output stream as we only have one input stream. This is reasonably performant.
     this.outputStream = uploadManager.getMultiPartOutputStreams().get(0);
+    this.countingOutputStream = new CountingOutputStream(outputStream);
 
     S3AvroFormatConfig formatConfig = (S3AvroFormatConfig) config.getFormatConfig();
     // The DataFileWriter always uses binary encoding.
     // If json encoding is needed in the future, use the GenericDatumWriter directly.
     this.dataFileWriter = new DataFileWriter<>(new GenericDatumWriter<Record>())
         .setCodec(formatConfig.getCodecFactory())
-        .create(schema, outputStream);
+        .create(schema, countingOutputStream);
   }
 
   @Override
@@ -71,6 +73,11 @@ public class GcsAvroWriter extends BaseGcsWriter implements S3Writer {
     dataFileWriter.append(avroRecordFactory.getAvroRecord(id, recordMessage));
   }
 
+  @Override
+  public long getBytesWritten() {
+    return countingOutputStream.getCount();
+  }
+
   @Override
   protected void closeWhenSucceed() throws IOException {
     dataFileWriter.close();
@@ -15,10 +15,22 @@ import java.sql.Timestamp;
  */
 public interface GcsWriterFactory {
 
+  default S3Writer create(GcsDestinationConfig config,
+                          AmazonS3 s3Client,
+                          ConfiguredAirbyteStream configuredStream,
+                          Timestamp uploadTimestamp)
+      throws Exception {
+    return create(config, s3Client, configuredStream, uploadTimestamp, 0);
+  }
+
+  /**
+   * @param partId index of the file among the files written for the stream during this upload.
+   */
   S3Writer create(GcsDestinationConfig config,
                   AmazonS3 s3Client,
                   ConfiguredAirbyteStream configuredStream,
-                  Timestamp uploadTimestamp)
+                  Timestamp uploadTimestamp,
+                  int partId)
       throws Exception;
 
 }
@@ -29,7 +29,8 @@ public class ProductionWriterFactory implements GcsWriterFactory {
   public S3Writer create(GcsDestinationConfig config,
                          AmazonS3 s3Client,
                          ConfiguredAirbyteStream configuredStream,
-                         Timestamp uploadTimestamp)
+                         Timestamp uploadTimestamp,
+                         int partId)
       throws Exception {
     S3Format format = config.getFormatConfig().getFormat();
 
@@ -46,18 +47,18 @@ public class ProductionWriterFactory implements GcsWriterFactory {
       }
 
       if (format == S3Format.AVRO) {
-        return new GcsAvroWriter(config, s3Client, configuredStream, uploadTimestamp, avroSchema, nameUpdater);
+        return new GcsAvroWriter(config, s3Client, configuredStream, uploadTimestamp, partId, avroSchema);
       } else {
-        return new GcsParquetWriter(config, s3Client, configuredStream, uploadTimestamp, avroSchema, nameUpdater);
+        return new GcsParquetWriter(config, s3Client, configuredStream, uploadTimestamp, partId, avroSchema);
       }
     }
 
     if (format == S3Format.CSV) {
-      return new GcsCsvWriter(config, s3Client, configuredStream, uploadTimestamp);
+      return new GcsCsvWriter(config, s3Client, configuredStream, uploadTimestamp, partId);
     }
 
     if (format == S3Format.JSONL) {
-      return new GcsJsonlWriter(config, s3Client, configuredStream, uploadTimestamp);
+      return new GcsJsonlWriter(config, s3Client, configuredStream, uploadTimestamp, partId);
     }
 
     throw new RuntimeException("Unexpected GCS destination format: " + format);
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.gcs;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.util.concurrent.MoreExecutors;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.integrations.destination.gcs.util.ConfigTestUtils;
+import io.airbyte.integrations.destination.gcs.writer.GcsWriterFactory;
+import io.airbyte.integrations.destination.s3.writer.S3FileRotationPolicy;
+import io.airbyte.integrations.destination.s3.writer.S3Writer;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteMessage.Type;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import io.airbyte.protocol.models.AirbyteStateMessage;
+import io.airbyte.protocol.models.CatalogHelpers;
+import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+class GcsConsumerTest {
+
+  private static final String STREAM = "stream";
+  private static final String NAMESPACE = "namespace";
+  private static final ConfiguredAirbyteCatalog CATALOG = new ConfiguredAirbyteCatalog()
+      .withStreams(List.of(CatalogHelpers.createConfiguredAirbyteStream(STREAM, NAMESPACE)));
+  private static final AirbyteMessage RECORD = new AirbyteMessage()
+      .withType(Type.RECORD)
+      .withRecord(new AirbyteRecordMessage().withStream(STREAM).withNamespace(NAMESPACE).withData(Jsons.emptyObject()).withEmittedAt(0L));
+  private static final AirbyteMessage STATE_1 = stateMessage(1);
+  private static final AirbyteMessage STATE_2 = stateMessage(2);
+
+  private List<S3Writer> parts;
+  private Consumer<AirbyteMessage> outputRecordCollector;
+  private GcsConsumer consumer;
+
+  @SuppressWarnings("unchecked")
+  @BeforeEach
+  void setup() throws Exception {
+    parts = new ArrayList<>();
+    final GcsDestinationConfig config = GcsDestinationConfig.getGcsDestinationConfig(
+        ConfigTestUtils.getBaseConfig(Jsons.deserialize("{\"format_type\": \"JSONL\"}")));
+    final GcsWriterFactory writerFactory = mock(GcsWriterFactory.class);
+    when(writerFactory.create(any(), any(), any(), any(), anyInt())).thenAnswer(invocation -> {
+      final S3Writer part = mock(S3Writer.class);
+      parts.add(part);
+      return part;
+    });
+    outputRecordCollector = mock(Consumer.class);
+    // files are finalized on the calling thread, so that they are finalized as soon as they are full.
+    consumer = new GcsConsumer(config, CATALOG, writerFactory, new S3FileRotationPolicy(0, 2), MoreExecutors.newDirectExecutorService(),
+        outputRecordCollector);
+  }
+
+  @Test
+  void testEmitsStateOfFinalizedFiles() throws Exception {
+    consumer.start();
+    consumer.accept(RECORD);
+    consumer.accept(RECORD);
+    // the first file is full and finalized, so the state covering its records is emitted right away.
+    consumer.accept(STATE_1);
+    verify(outputRecordCollector).accept(STATE_1);
+
+    // the record of the second file is not durably written until the consumer closes.
+    consumer.accept(RECORD);
+    consumer.accept(STATE_2);
+    verify(outputRecordCollector, never()).accept(STATE_2);
+
+    consumer.close();
+
+    final InOrder inOrder = inOrder(outputRecordCollector);
+    inOrder.verify(outputRecordCollector).accept(STATE_1);
+    inOrder.verify(outputRecordCollector).accept(STATE_2);
+    assertEquals(2, parts.size());
+    verify(parts.get(0)).close(false);
+    verify(parts.get(1)).close(false);
+  }
+
+  @Test
+  void testDoesNotEmitStateWhenUploadFails() throws Exception {
+    consumer.start();
+    doThrow(new IOException("upload failed")).when(parts.get(0)).close(false);
+    consumer.accept(RECORD);
+    consumer.accept(RECORD);
+
+    assertThrows(IOException.class, () -> consumer.accept(STATE_1));
+    consumer.close();
+
+    verify(outputRecordCollector, never()).accept(any());
+  }
+
+  private static AirbyteMessage stateMessage(int checkpoint) {
+    return new AirbyteMessage()
+        .withType(Type.STATE)
+        .withState(new AirbyteStateMessage().withData(Jsons.jsonNode(Map.of("checkpoint", checkpoint))));
+  }
+
+}
@@ -9,9 +9,7 @@ import io.airbyte.commons.json.Jsons;
 import io.airbyte.db.jdbc.JdbcDatabase;
 import io.airbyte.integrations.base.JavaBaseConstants;
 import io.airbyte.protocol.models.AirbyteRecordMessage;
-import java.io.File;
-import java.io.PrintWriter;
-import java.nio.charset.StandardCharsets;
+import java.io.Writer;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.time.Instant;
@@ -51,23 +49,19 @@ public abstract class JdbcSqlOperations implements SqlOperations {
         schemaName, tableName, JavaBaseConstants.COLUMN_NAME_AB_ID, JavaBaseConstants.COLUMN_NAME_DATA, JavaBaseConstants.COLUMN_NAME_EMITTED_AT);
   }
 
-  protected void writeBatchToFile(File tmpFile, List<AirbyteRecordMessage> records) throws Exception {
-    PrintWriter writer = null;
-    try {
-      writer = new PrintWriter(tmpFile, StandardCharsets.UTF_8);
-      var csvPrinter = new CSVPrinter(writer, CSVFormat.DEFAULT);
-
-      for (AirbyteRecordMessage record : records) {
-        var uuid = UUID.randomUUID().toString();
-        var jsonData = Jsons.serialize(formatData(record.getData()));
-        var emittedAt = Timestamp.from(Instant.ofEpochMilli(record.getEmittedAt()));
-        csvPrinter.printRecord(uuid, jsonData, emittedAt);
-      }
-    } finally {
-      if (writer != null) {
-        writer.close();
-      }
+  /**
+   * Writes the records as CSV rows of id, data and emission time, and flushes the writer without
+   * closing it.
+   */
+  protected void writeBatchToWriter(Writer writer, List<AirbyteRecordMessage> records) throws Exception {
+    var csvPrinter = new CSVPrinter(writer, CSVFormat.DEFAULT);
+    for (AirbyteRecordMessage record : records) {
+      var uuid = UUID.randomUUID().toString();
+      var jsonData = Jsons.serialize(formatData(record.getData()));
+      var emittedAt = Timestamp.from(Instant.ofEpochMilli(record.getEmittedAt()));
+      csvPrinter.printRecord(uuid, jsonData, emittedAt);
     }
+    csvPrinter.flush();
   }
 
   protected JsonNode formatData(JsonNode data) {
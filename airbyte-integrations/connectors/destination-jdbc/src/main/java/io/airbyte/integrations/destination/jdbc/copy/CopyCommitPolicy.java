@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.jdbc.copy;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.time.Duration;
+
+/**
+ * Decides when a copy destination commits its staged records to the raw tables during the sync,
+ * rather than only at its end. A commit is due once the staged data reaches a size or once an
+ * interval has elapsed since the last commit, whichever comes first.
+ */
+public class CopyCommitPolicy {
+
+  /**
+   * Only commits at the end of the sync.
+   */
+  public static final CopyCommitPolicy ON_CLOSE = new CopyCommitPolicy(0, Duration.ZERO);
+
+  private final long maxStagedBytes;
+  private final Duration maxInterval;
+
+  /**
+   * @param maxStagedBytes size of staged data that triggers a commit, 0 for no size limit.
+   * @param maxInterval time since the last commit that triggers a commit, zero for no time limit.
+   */
+  public CopyCommitPolicy(final long maxStagedBytes, final Duration maxInterval) {
+    this.maxStagedBytes = maxStagedBytes;
+    this.maxInterval = maxInterval;
+  }
+
+  /**
+   * Reads the optional incremental_commit_size_mb and incremental_commit_interval_minutes fields of a
+   * destination config.
+   */
+  public static CopyCommitPolicy fromConfig(final JsonNode config) {
+    final long maxStagedMb = config.has("incremental_commit_size_mb") ? config.get("incremental_commit_size_mb").asLong() : 0;
+    final long maxIntervalMinutes = config.has("incremental_commit_interval_minutes") ? config.get("incremental_commit_interval_minutes").asLong() : 0;
+    return new CopyCommitPolicy(maxStagedMb * 1024 * 1024, Duration.ofMinutes(maxIntervalMinutes));
+  }
+
+  public boolean isEnabled() {
+    return maxStagedBytes > 0 || !maxInterval.isZero();
+  }
+
+  public boolean isDue(final long stagedBytes, final Duration sinceLastCommit) {
+    return (maxStagedBytes > 0 && stagedBytes >= maxStagedBytes)
+        || (!maxInterval.isZero() && sinceLastCommit.compareTo(maxInterval) >= 0);
+  }
+
+}
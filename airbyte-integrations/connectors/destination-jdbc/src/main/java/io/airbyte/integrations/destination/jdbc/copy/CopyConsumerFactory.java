@@ -9,6 +9,7 @@ import io.airbyte.integrations.base.AirbyteMessageConsumer;
 import io.airbyte.integrations.base.AirbyteStreamNameNamespacePair;
 import io.airbyte.integrations.destination.ExtendedNameTransformer;
 import io.airbyte.integrations.destination.buffered_stream_consumer.BufferedStreamConsumer;
+import io.airbyte.integrations.destination.buffered_stream_consumer.CommitFunction;
 import io.airbyte.integrations.destination.buffered_stream_consumer.OnCloseFunction;
 import io.airbyte.integrations.destination.buffered_stream_consumer.OnStartFunction;
 import io.airbyte.integrations.destination.buffered_stream_consumer.RecordWriter;
@@ -16,12 +17,17 @@ import io.airbyte.integrations.destination.jdbc.SqlOperations;
 import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.AirbyteRecordMessage;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
+import io.airbyte.protocol.models.DestinationSyncMode;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -39,6 +45,26 @@ public class CopyConsumerFactory {
                                                   ConfiguredAirbyteCatalog catalog,
                                                   StreamCopierFactory<T> streamCopierFactory,
                                                   String defaultSchema) {
+    return create(outputRecordCollector, database, sqlOperations, namingResolver, config, catalog, streamCopierFactory, defaultSchema,
+        CopyCommitPolicy.ON_CLOSE);
+  }
+
+  /**
+   * @param commitPolicy when to commit the staged records of append streams to their raw tables
+   *        before the end of the sync, emitting the state of the sync after each such commit.
+   *        Overwrite streams are only ever committed at the end of the sync, so that a failed sync
+   *        does not leave their tables half replaced. The state covers the records of all streams,
+   *        so there are no intermediate commits at all when the catalog has an overwrite stream.
+   */
+  public static <T> AirbyteMessageConsumer create(Consumer<AirbyteMessage> outputRecordCollector,
+                                                  JdbcDatabase database,
+                                                  SqlOperations sqlOperations,
+                                                  ExtendedNameTransformer namingResolver,
+                                                  T config,
+                                                  ConfiguredAirbyteCatalog catalog,
+                                                  StreamCopierFactory<T> streamCopierFactory,
+                                                  String defaultSchema,
+                                                  CopyCommitPolicy commitPolicy) {
     final Map<AirbyteStreamNameNamespacePair, StreamCopier> pairToCopier = createWriteConfigs(
         namingResolver,
         config,
@@ -54,6 +80,7 @@ public class CopyConsumerFactory {
         onStartFunction(pairToIgnoredRecordCount),
         recordWriterFunction(pairToCopier, sqlOperations, pairToIgnoredRecordCount),
         onCloseFunction(pairToCopier, database, sqlOperations, pairToIgnoredRecordCount),
+        commitFunction(pairToCopier, catalog, database, sqlOperations, commitPolicy),
         catalog,
         sqlOperations::isValidData,
         MAX_BATCH_SIZE);
@@ -87,13 +114,15 @@ public class CopyConsumerFactory {
                                                    SqlOperations sqlOperations,
                                                    Map<AirbyteStreamNameNamespacePair, Long> pairToIgnoredRecordCount) {
     return (AirbyteStreamNameNamespacePair pair, List<AirbyteRecordMessage> records) -> {
-      var fileName = pairToCopier.get(pair).prepareStagingFile();
+      var copier = pairToCopier.get(pair);
+      // the copier only rolls over to a new staging file once the current one is large enough.
+      var fileName = copier.prepareStagingFile();
       for (AirbyteRecordMessage recordMessage : records) {
         var id = UUID.randomUUID();
         if (sqlOperations.isValidData(recordMessage.getData())) {
           // TODO Truncate json data instead of throwing whole record away?
           // or should we upload it into a special rejected record folder in s3 instead?
-          pairToCopier.get(pair).write(id, recordMessage, fileName);
+          copier.write(id, recordMessage, fileName);
         } else {
           pairToIgnoredRecordCount.put(pair, pairToIgnoredRecordCount.getOrDefault(pair, 0L) + 1L);
         }
@@ -101,6 +130,41 @@ public class CopyConsumerFactory {
     };
   }
 
+  private static CommitFunction commitFunction(Map<AirbyteStreamNameNamespacePair, StreamCopier> pairToCopier,
+                                               ConfiguredAirbyteCatalog catalog,
+                                               JdbcDatabase database,
+                                               SqlOperations sqlOperations,
+                                               CopyCommitPolicy commitPolicy) {
+    if (!commitPolicy.isEnabled()) {
+      return () -> false;
+    }
+    if (!pairToCopier.values().stream().allMatch(StreamCopier::supportsIncrementalCommits)) {
+      LOGGER.warn("Incremental commits are not supported by this destination, records will only be committed at the end of the sync.");
+      return () -> false;
+    }
+
+    if (catalog.getStreams().stream().anyMatch(configuredStream -> configuredStream.getDestinationSyncMode() == DestinationSyncMode.OVERWRITE)) {
+      // the state emitted after a commit would also cover the staged records of the overwrite streams.
+      LOGGER.info("The catalog has overwrite streams, records will only be committed at the end of the sync.");
+      return () -> false;
+    }
+
+    final List<StreamCopier> appendCopiers = catalog.getStreams().stream()
+        .map(configuredStream -> pairToCopier.get(AirbyteStreamNameNamespacePair.fromAirbyteSteam(configuredStream.getStream())))
+        .collect(Collectors.toList());
+    final AtomicReference<Instant> lastCommit = new AtomicReference<>(Instant.now());
+    return () -> {
+      final long stagedBytes = appendCopiers.stream().mapToLong(StreamCopier::getStagedBytes).sum();
+      if (!commitPolicy.isDue(stagedBytes, Duration.between(lastCommit.get(), Instant.now()))) {
+        return false;
+      }
+      LOGGER.info("Committing {} bytes of staged records of {} append streams.", stagedBytes, appendCopiers.size());
+      closeAsOneTransaction(appendCopiers, false, database, sqlOperations);
+      lastCommit.set(Instant.now());
+      return true;
+    };
+  }
+
   private static OnCloseFunction onCloseFunction(Map<AirbyteStreamNameNamespacePair, StreamCopier> pairToCopier,
                                                  JdbcDatabase database,
                                                  SqlOperations sqlOperations,
@@ -59,10 +59,28 @@ public interface StreamCopier {
   void removeFileAndDropTmpTable() throws Exception;
 
   /**
-   * Creates the staging file and all the necessary items to write data to this file.
+   * Returns the staging file to write the next batch of records to. Implementations should keep
+   * writing to the same staging file until it is large enough, and only then create a new one with
+   * all the necessary items to write data to it, rather than creating a new file per batch.
    *
    * @return the name of the staging file
    */
   String prepareStagingFile();
 
+  /**
+   * Whether the copier can go through the steps from {@link #closeStagingUploader} to
+   * {@link #removeFileAndDropTmpTable} several times during a sync, staging new files after each
+   * round, so that records can be committed before the end of the sync.
+   */
+  default boolean supportsIncrementalCommits() {
+    return false;
+  }
+
+  /**
+   * @return approximate number of bytes staged since the copier was created or last cleaned up.
+   */
+  default long getStagedBytes() {
+    return 0;
+  }
+
 }
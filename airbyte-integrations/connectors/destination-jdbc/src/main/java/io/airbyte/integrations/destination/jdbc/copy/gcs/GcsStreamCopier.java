@@ -10,6 +10,7 @@ import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.BlobInfo;
 import com.google.cloud.storage.Storage;
 import com.google.cloud.storage.StorageOptions;
+import com.google.common.io.CountingOutputStream;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.string.Strings;
 import io.airbyte.db.jdbc.JdbcDatabase;
@@ -21,7 +22,6 @@ import io.airbyte.protocol.models.DestinationSyncMode;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.OutputStream;
 import java.io.PrintWriter;
 import java.nio.channels.Channels;
 import java.nio.charset.StandardCharsets;
@@ -40,20 +40,26 @@ import org.slf4j.LoggerFactory;
 public abstract class GcsStreamCopier implements StreamCopier {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(GcsStreamCopier.class);
+  // A staging file is rolled over once it reaches this size, so that a stream is staged in a few large
+  // files whatever the batch size of the consumer.
+  public static final int DEFAULT_MAX_STAGING_FILE_SIZE_MB = 512;
 
   private final Storage storageClient;
-  private final GcsConfig gcsConfig;
-  private final String tmpTableName;
+  protected final GcsConfig gcsConfig;
+  protected final String tmpTableName;
   private final DestinationSyncMode destSyncMode;
-  private final String schemaName;
-  private final String streamName;
-  private final JdbcDatabase db;
+  protected final String schemaName;
+  protected final String streamName;
+  protected final JdbcDatabase db;
   private final ExtendedNameTransformer nameTransformer;
   private final SqlOperations sqlOperations;
-  private final Set<String> gcsStagingFiles = new HashSet<>();
+  protected final Set<String> gcsStagingFiles = new HashSet<>();
   private final HashMap<String, WriteChannel> channels = new HashMap<>();
   private final HashMap<String, CSVPrinter> csvPrinters = new HashMap<>();
-  private final String stagingFolder;
+  protected final String stagingFolder;
+  private String currentStagingFile;
+  private CountingOutputStream currentOutputStream;
+  private long completedStagedBytes;
 
   public GcsStreamCopier(String stagingFolder,
                          DestinationSyncMode destSyncMode,
@@ -80,8 +86,26 @@ public abstract class GcsStreamCopier implements StreamCopier {
     return String.join("/", stagingFolder, schemaName, Strings.addRandomSuffix("", "", 6) + "_" + streamName);
   }
 
+  /**
+   * Returns the staging file currently written to, and only creates a new one when there is none yet
+   * or the current one has reached {@link #DEFAULT_MAX_STAGING_FILE_SIZE_MB}.
+   */
   @Override
   public String prepareStagingFile() {
+    if (currentStagingFile != null && currentOutputStream.getCount() < DEFAULT_MAX_STAGING_FILE_SIZE_MB * 1024L * 1024L) {
+      return currentStagingFile;
+    }
+    if (currentStagingFile != null) {
+      LOGGER.info("Completing GCS staging file {} of {} stream.", currentStagingFile, streamName);
+      try {
+        csvPrinters.get(currentStagingFile).close();
+        channels.get(currentStagingFile).close();
+      } catch (IOException e) {
+        throw new RuntimeException(e);
+      }
+      completedStagedBytes += currentOutputStream.getCount();
+    }
+
     var name = prepareGcsStagingFile();
     gcsStagingFiles.add(name);
     var blobId = BlobId.of(gcsConfig.getBucketName(), name);
@@ -89,17 +113,28 @@ public abstract class GcsStreamCopier implements StreamCopier {
     var blob = storageClient.create(blobInfo);
     var channel = blob.writer();
     channels.put(name, channel);
-    OutputStream outputStream = Channels.newOutputStream(channel);
+    currentOutputStream = new CountingOutputStream(Channels.newOutputStream(channel));
 
-    var writer = new PrintWriter(outputStream, true, StandardCharsets.UTF_8);
+    var writer = new PrintWriter(currentOutputStream, true, StandardCharsets.UTF_8);
     try {
       csvPrinters.put(name, new CSVPrinter(writer, CSVFormat.DEFAULT));
     } catch (IOException e) {
       throw new RuntimeException(e);
     }
+    currentStagingFile = name;
     return name;
   }
 
+  @Override
+  public boolean supportsIncrementalCommits() {
+    return true;
+  }
+
+  @Override
+  public long getStagedBytes() {
+    return completedStagedBytes + (currentOutputStream == null ? 0 : currentOutputStream.getCount());
+  }
+
   @Override
   public void write(UUID id, AirbyteRecordMessage recordMessage, String gcsFileName) throws Exception {
     if (csvPrinters.containsKey(gcsFileName)) {
@@ -118,6 +153,8 @@ public abstract class GcsStreamCopier implements StreamCopier {
     for (var channel : channels.values()) {
       channel.close();
     }
+    currentStagingFile = null;
+    currentOutputStream = null;
     LOGGER.info("All data for {} stream uploaded.", streamName);
   }
 
@@ -140,6 +177,11 @@ public abstract class GcsStreamCopier implements StreamCopier {
       }
       LOGGER.info("GCS staging file {} cleaned.", gcsStagingFile);
     }
+    // the copier stages new files from scratch if it is used again after an incremental commit.
+    gcsStagingFiles.clear();
+    channels.clear();
+    csvPrinters.clear();
+    completedStagedBytes = 0;
 
     LOGGER.info("Begin cleaning {} tmp table in destination.", tmpTableName);
     sqlOperations.dropTableIfExists(db, schemaName, tmpTableName);
@@ -180,7 +222,7 @@ public abstract class GcsStreamCopier implements StreamCopier {
     return queries.toString();
   }
 
-  private static String getFullGcsPath(String bucketName, String stagingFile) {
+  protected static String getFullGcsPath(String bucketName, String stagingFile) {
     // this is intentionally gcs:/ not gcs:// since the join adds the additional slash
     return String.join("/", "gcs:/", bucketName, stagingFile);
   }
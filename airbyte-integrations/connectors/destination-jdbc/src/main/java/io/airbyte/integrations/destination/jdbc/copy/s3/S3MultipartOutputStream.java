@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.jdbc.copy.s3;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Streams data into an S3 object through a multipart upload. Parts are uploaded on an executor that
+ * may be shared with other uploads, and the number of parts buffered or uploading at once across all
+ * these uploads is bounded by a shared semaphore, so that memory use does not grow with the number
+ * of uploads.
+ */
+public class S3MultipartOutputStream extends OutputStream {
+
+  private final AmazonS3 s3Client;
+  private final String bucketName;
+  private final String key;
+  private final int partSizeBytes;
+  private final ExecutorService uploadExecutor;
+  private final Semaphore inFlightParts;
+  private final String uploadId;
+  private final List<Future<PartETag>> uploadedParts = new ArrayList<>();
+
+  private ByteArrayOutputStream currentPart;
+  private long bytesWritten;
+  private boolean isClosed;
+
+  public S3MultipartOutputStream(final AmazonS3 s3Client,
+                                 final String bucketName,
+                                 final String key,
+                                 final int partSizeBytes,
+                                 final ExecutorService uploadExecutor,
+                                 final Semaphore inFlightParts) {
+    this.s3Client = s3Client;
+    this.bucketName = bucketName;
+    this.key = key;
+    this.partSizeBytes = partSizeBytes;
+    this.uploadExecutor = uploadExecutor;
+    this.inFlightParts = inFlightParts;
+    this.uploadId = s3Client.initiateMultipartUpload(new InitiateMultipartUploadRequest(bucketName, key)).getUploadId();
+    this.currentPart = new ByteArrayOutputStream(partSizeBytes);
+  }
+
+  @Override
+  public void write(final int b) throws IOException {
+    ensureOpen();
+    currentPart.write(b);
+    bytesWritten++;
+    uploadPartIfFull();
+  }
+
+  @Override
+  public void write(final byte[] b, final int off, final int len) throws IOException {
+    ensureOpen();
+    currentPart.write(b, off, len);
+    bytesWritten += len;
+    uploadPartIfFull();
+  }
+
+  /**
+   * @return number of bytes written to the object so far, uploaded or not.
+   */
+  public long getBytesWritten() {
+    return bytesWritten;
+  }
+
+  private void ensureOpen() throws IOException {
+    if (isClosed) {
+      throw new IOException(String.format("Upload of s3://%s/%s is closed", bucketName, key));
+    }
+  }
+
+  private void uploadPartIfFull() throws IOException {
+    if (currentPart.size() >= partSizeBytes) {
+      uploadPart();
+    }
+  }
+
+  private void uploadPart() throws IOException {
+    final byte[] part = currentPart.toByteArray();
+    final int partNumber = uploadedParts.size() + 1;
+    currentPart = new ByteArrayOutputStream(partSizeBytes);
+    try {
+      // blocks while too many parts are in flight, which applies backpressure to the writers.
+      inFlightParts.acquire();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException(e);
+    }
+    try {
+      uploadedParts.add(uploadExecutor.submit(() -> {
+        try {
+          return s3Client.uploadPart(new UploadPartRequest()
+              .withBucketName(bucketName)
+              .withKey(key)
+              .withUploadId(uploadId)
+              .withPartNumber(partNumber)
+              .withInputStream(new ByteArrayInputStream(part))
+              .withPartSize(part.length))
+              .getPartETag();
+        } finally {
+          inFlightParts.release();
+        }
+      }));
+    } catch (final RuntimeException e) {
+      inFlightParts.release();
+      throw e;
+    }
+  }
+
+  /**
+   * Uploads the remaining data and completes the upload. Blocks until all parts are uploaded.
+   */
+  @Override
+  public void close() throws IOException {
+    if (isClosed) {
+      return;
+    }
+    isClosed = true;
+
+    try {
+      // the last part can be smaller than the minimum part size, and an upload needs at least one part.
+      if (currentPart.size() > 0 || uploadedParts.isEmpty()) {
+        uploadPart();
+      }
+      final List<PartETag> partETags = new ArrayList<>();
+      for (final Future<PartETag> uploadedPart : uploadedParts) {
+        partETags.add(uploadedPart.get());
+      }
+      s3Client.completeMultipartUpload(new CompleteMultipartUploadRequest(bucketName, key, uploadId, partETags));
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      abortUpload();
+      throw new IOException(e);
+    } catch (final ExecutionException | RuntimeException e) {
+      abortUpload();
+      throw new IOException(String.format("Failed to upload s3://%s/%s", bucketName, key), e);
+    }
+  }
+
+  /**
+   * Discards the data written so far. The object is not created.
+   */
+  public void abort() {
+    if (isClosed) {
+      return;
+    }
+    isClosed = true;
+    abortUpload();
+  }
+
+  private void abortUpload() {
+    // parts still uploading are left to finish, since their in flight permit is only released once
+    // they ran. their upload fails or is discarded once the upload is aborted.
+    s3Client.abortMultipartUpload(new AbortMultipartUploadRequest(bucketName, key, uploadId));
+  }
+
+}
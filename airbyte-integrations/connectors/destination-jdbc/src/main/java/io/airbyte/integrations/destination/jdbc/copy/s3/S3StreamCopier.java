@@ -4,14 +4,13 @@
 
 package io.airbyte.integrations.destination.jdbc.copy.s3;
 
-import alex.mojaki.s3upload.MultiPartOutputStream;
-import alex.mojaki.s3upload.StreamTransferManager;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSStaticCredentialsProvider;
 import com.amazonaws.auth.BasicAWSCredentials;
 import com.amazonaws.client.builder.AwsClientBuilder;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.lang.Exceptions;
 import io.airbyte.db.jdbc.JdbcDatabase;
@@ -20,8 +19,9 @@ import io.airbyte.integrations.destination.jdbc.SqlOperations;
 import io.airbyte.integrations.destination.jdbc.copy.StreamCopier;
 import io.airbyte.protocol.models.AirbyteRecordMessage;
 import io.airbyte.protocol.models.DestinationSyncMode;
+import java.io.BufferedWriter;
 import java.io.IOException;
-import java.io.PrintWriter;
+import java.io.OutputStreamWriter;
 import java.nio.charset.StandardCharsets;
 import java.sql.SQLException;
 import java.sql.Timestamp;
@@ -31,6 +31,9 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
 import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVPrinter;
 import org.slf4j.Logger;
@@ -43,9 +46,20 @@ public abstract class S3StreamCopier implements StreamCopier {
   private static final int DEFAULT_UPLOAD_THREADS = 10; // The S3 cli uses 10 threads by default.
   private static final int DEFAULT_QUEUE_CAPACITY = DEFAULT_UPLOAD_THREADS;
   // The smallest part size is 5MB. An S3 upload can be maximally formed of 10,000 parts. This gives
-  // us an upper limit of 10,000 * 10 / 1000 = 100 GB per table with a 10MB part size limit.
+  // us an upper limit of 10,000 * 10 / 1000 = 100 GB per staging file with a 10MB part size limit.
   // WARNING: Too large a part size can cause potential OOM errors.
   public static final int DEFAULT_PART_SIZE_MB = 10;
+  // A staging file is rolled over once it reaches this size, so that a stream is staged in a few large
+  // files whatever the batch size of the consumer.
+  public static final int DEFAULT_MAX_STAGING_FILE_SIZE_MB = 512;
+
+  // Upload threads and in flight parts are shared by the copiers of all streams, so the parts being
+  // uploaded take at most (threads + queue capacity) * part size = 20 * 10 = 200 MB at current
+  // configurations. On top of that, the open output stream of each stream buffers the part it is
+  // filling, so memory consumption still grows by one part size per stream.
+  private static final ExecutorService UPLOAD_EXECUTOR = Executors.newFixedThreadPool(DEFAULT_UPLOAD_THREADS,
+      new ThreadFactoryBuilder().setNameFormat("s3-staging-upload-%d").setDaemon(true).build());
+  private static final Semaphore IN_FLIGHT_PARTS = new Semaphore(DEFAULT_UPLOAD_THREADS + DEFAULT_QUEUE_CAPACITY);
 
   public final Map<String, Integer> filePrefixIndexMap = new HashMap<>();
   protected final AmazonS3 s3Client;
@@ -58,9 +72,10 @@ public abstract class S3StreamCopier implements StreamCopier {
   private final ExtendedNameTransformer nameTransformer;
   private final SqlOperations sqlOperations;
   protected final Set<String> s3StagingFiles = new HashSet<>();
-  private final Map<String, StreamTransferManager> multipartUploadManagers = new HashMap<>();
-  private final Map<String, MultiPartOutputStream> outputStreams = new HashMap<>();
   private final Map<String, CSVPrinter> csvPrinters = new HashMap<>();
+  private String currentStagingFile;
+  private S3MultipartOutputStream currentOutputStream;
+  private long completedStagedBytes;
   private final String s3FileName;
   protected final String stagingFolder;
 
@@ -102,36 +117,61 @@ public abstract class S3StreamCopier implements StreamCopier {
     return result;
   }
 
+  /**
+   * Returns the staging file currently written to, and only creates a new one when there is none yet
+   * or the current one has reached {@link #DEFAULT_MAX_STAGING_FILE_SIZE_MB}.
+   */
   @Override
   public String prepareStagingFile() {
+    if (currentStagingFile != null && currentOutputStream.getBytesWritten() < DEFAULT_MAX_STAGING_FILE_SIZE_MB * 1024L * 1024L) {
+      return currentStagingFile;
+    }
+    if (currentStagingFile != null) {
+      closeCurrentStagingFile();
+    }
+
     var name = prepareS3StagingFile();
     s3StagingFiles.add(name);
-    LOGGER.info("S3 upload part size: {} MB", s3Config.getPartSize());
-    // The stream transfer manager lets us greedily stream into S3. The native AWS SDK does not
-    // have support for streaming multipart uploads;
-    // The alternative is first writing the entire output to disk before loading into S3. This is not
-    // feasible with large tables.
-    // Data is chunked into parts. A part is sent off to a queue to be uploaded once it has reached it's
-    // configured part size.
-    // Memory consumption is queue capacity * part size = 10 * 10 = 100 MB at current configurations.
-    var manager = new StreamTransferManager(s3Config.getBucketName(), name, s3Client)
-        .numUploadThreads(DEFAULT_UPLOAD_THREADS)
-        .queueCapacity(DEFAULT_QUEUE_CAPACITY)
-        .partSize(s3Config.getPartSize());
-    multipartUploadManagers.put(name, manager);
-    var outputStream = manager.getMultiPartOutputStreams().get(0);
-    // We only need one output stream as we only have one input stream. This is reasonably performant.
-    // See the above comment.
-    outputStreams.put(name, outputStream);
-    var writer = new PrintWriter(outputStream, true, StandardCharsets.UTF_8);
+    LOGGER.info("Starting S3 staging file {} with upload part size: {} MB", name, s3Config.getPartSize());
+    // Data is streamed into S3 through a multipart upload, the alternative being to write the entire
+    // output to disk before loading it into S3, which is not feasible with large tables. A part is
+    // handed over to the shared upload threads once it has reached its configured part size.
+    currentOutputStream = new S3MultipartOutputStream(s3Client, s3Config.getBucketName(), name, s3Config.getPartSize() * 1024 * 1024,
+        UPLOAD_EXECUTOR, IN_FLIGHT_PARTS);
+    // unlike a PrintWriter, this writer does not swallow the exceptions of the upload.
+    var writer = new BufferedWriter(new OutputStreamWriter(currentOutputStream, StandardCharsets.UTF_8));
     try {
       csvPrinters.put(name, new CSVPrinter(writer, CSVFormat.DEFAULT));
     } catch (IOException e) {
       throw new RuntimeException(e);
     }
+    currentStagingFile = name;
     return name;
   }
 
+  private void closeCurrentStagingFile() {
+    LOGGER.info("Completing S3 staging file {} of {} stream.", currentStagingFile, streamName);
+    try {
+      // closing the printer closes the output stream, which waits for the upload to complete.
+      csvPrinters.remove(currentStagingFile).close();
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+    completedStagedBytes += currentOutputStream.getBytesWritten();
+    currentStagingFile = null;
+    currentOutputStream = null;
+  }
+
+  @Override
+  public boolean supportsIncrementalCommits() {
+    return true;
+  }
+
+  @Override
+  public long getStagedBytes() {
+    return completedStagedBytes + (currentOutputStream == null ? 0 : currentOutputStream.getBytesWritten());
+  }
+
   @Override
   public void write(UUID id, AirbyteRecordMessage recordMessage, String s3FileName) throws Exception {
     if (csvPrinters.containsKey(s3FileName)) {
@@ -143,10 +183,12 @@ public abstract class S3StreamCopier implements StreamCopier {
 
   @Override
   public void closeStagingUploader(boolean hasFailed) throws Exception {
-    if (hasFailed) {
-      for (var multipartUploadManager : multipartUploadManagers.values()) {
-        multipartUploadManager.abort();
-      }
+    if (hasFailed && currentStagingFile != null) {
+      LOGGER.info("Aborting upload of S3 staging file {} of {} stream.", currentStagingFile, streamName);
+      currentOutputStream.abort();
+      csvPrinters.remove(currentStagingFile);
+      currentStagingFile = null;
+      currentOutputStream = null;
     }
     closeAndWaitForUpload();
   }
@@ -203,6 +245,9 @@ public abstract class S3StreamCopier implements StreamCopier {
       }
       LOGGER.info("S3 staging file {} cleaned.", s3StagingFile);
     });
+    // the copier stages new files from scratch if it is used again after an incremental commit.
+    s3StagingFiles.clear();
+    completedStagedBytes = 0;
 
     LOGGER.info("Begin cleaning {} tmp table in destination.", tmpTableName);
     sqlOperations.dropTableIfExists(db, schemaName, tmpTableName);
@@ -215,18 +260,13 @@ public abstract class S3StreamCopier implements StreamCopier {
   }
 
   /**
-   * Closes the printers/outputstreams and waits for any buffered uploads to complete.
+   * Closes the current staging file and waits for its buffered uploads to complete. Previous staging
+   * files were already completed when they were rolled over.
    */
-  private void closeAndWaitForUpload() throws IOException {
+  private void closeAndWaitForUpload() {
     LOGGER.info("Uploading remaining data for {} stream.", streamName);
-    for (var csvPrinter : csvPrinters.values()) {
-      csvPrinter.close();
-    }
-    for (var outputStream : outputStreams.values()) {
-      outputStream.close();
-    }
-    for (var multipartUploadManager : multipartUploadManagers.values()) {
-      multipartUploadManager.complete();
+    if (currentStagingFile != null) {
+      closeCurrentStagingFile();
     }
     LOGGER.info("All data for {} stream uploaded.", streamName);
   }
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.jdbc.copy;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.common.collect.ImmutableMap;
+import io.airbyte.commons.json.Jsons;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class CopyCommitPolicyTest {
+
+  @Test
+  void testDisabledByDefault() {
+    final CopyCommitPolicy policy = CopyCommitPolicy.fromConfig(Jsons.jsonNode(ImmutableMap.of("schema", "public")));
+
+    assertFalse(policy.isEnabled());
+    assertFalse(policy.isDue(Long.MAX_VALUE, Duration.ofDays(1)));
+  }
+
+  @Test
+  void testDueOnSize() {
+    final CopyCommitPolicy policy = CopyCommitPolicy.fromConfig(Jsons.jsonNode(ImmutableMap.of("incremental_commit_size_mb", 1)));
+
+    assertTrue(policy.isEnabled());
+    assertFalse(policy.isDue(1024 * 1024 - 1, Duration.ofDays(1)));
+    assertTrue(policy.isDue(1024 * 1024, Duration.ZERO));
+  }
+
+  @Test
+  void testDueOnInterval() {
+    final CopyCommitPolicy policy = CopyCommitPolicy.fromConfig(Jsons.jsonNode(ImmutableMap.of("incremental_commit_interval_minutes", 10)));
+
+    assertTrue(policy.isEnabled());
+    assertFalse(policy.isDue(Long.MAX_VALUE, Duration.ofMinutes(9)));
+    assertTrue(policy.isDue(0, Duration.ofMinutes(10)));
+  }
+
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.jdbc.copy;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableMap;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.db.jdbc.JdbcDatabase;
+import io.airbyte.integrations.base.AirbyteMessageConsumer;
+import io.airbyte.integrations.destination.ExtendedNameTransformer;
+import io.airbyte.integrations.destination.jdbc.SqlOperations;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import io.airbyte.protocol.models.AirbyteStateMessage;
+import io.airbyte.protocol.models.CatalogHelpers;
+import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
+import io.airbyte.protocol.models.ConfiguredAirbyteStream;
+import io.airbyte.protocol.models.DestinationSyncMode;
+import io.airbyte.protocol.models.Field;
+import io.airbyte.protocol.models.JsonSchemaPrimitive;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CopyConsumerFactoryTest {
+
+  private static final String SCHEMA = "public";
+  private static final String APPEND_STREAM = "append_stream";
+  private static final String OVERWRITE_STREAM = "overwrite_stream";
+  // the buffered consumer flushes, and checks whether a commit is due, every 10000 records.
+  private static final int BATCH_SIZE = 10_000;
+  private static final AirbyteMessage STATE_MESSAGE = new AirbyteMessage()
+      .withType(AirbyteMessage.Type.STATE)
+      .withState(new AirbyteStateMessage().withData(Jsons.jsonNode(ImmutableMap.of("checkpoint", 1))));
+
+  private Consumer<AirbyteMessage> outputRecordCollector;
+  private JdbcDatabase database;
+  private SqlOperations sqlOperations;
+  private Map<String, StreamCopier> streamToCopier;
+  private StreamCopierFactory<Object> streamCopierFactory;
+
+  @SuppressWarnings("unchecked")
+  @BeforeEach
+  void setup() throws Exception {
+    outputRecordCollector = mock(Consumer.class);
+    database = mock(JdbcDatabase.class);
+    sqlOperations = mock(SqlOperations.class);
+    when(sqlOperations.isValidData(any())).thenReturn(true);
+
+    streamToCopier = new HashMap<>();
+    streamCopierFactory = (configuredSchema, config, stagingFolder, configuredStream, nameTransformer, db, sqlOps) -> {
+      final StreamCopier copier = mock(StreamCopier.class);
+      when(copier.supportsIncrementalCommits()).thenReturn(true);
+      when(copier.getStagedBytes()).thenReturn(Long.MAX_VALUE / 2);
+      when(copier.prepareStagingFile()).thenReturn(configuredStream.getStream().getName());
+      streamToCopier.put(configuredStream.getStream().getName(), copier);
+      return copier;
+    };
+  }
+
+  @Test
+  void testCommitsAppendStreamsBeforeClose() throws Exception {
+    final AirbyteMessageConsumer consumer = createConsumer(createCatalog(
+        createStream(APPEND_STREAM, DestinationSyncMode.APPEND),
+        createStream("other_" + APPEND_STREAM, DestinationSyncMode.APPEND_DEDUP)));
+
+    consumer.start();
+    consumer.accept(STATE_MESSAGE);
+    writeBatch(consumer, APPEND_STREAM);
+
+    verify(streamToCopier.get(APPEND_STREAM)).closeStagingUploader(false);
+    verify(outputRecordCollector).accept(STATE_MESSAGE);
+  }
+
+  @Test
+  void testDoesNotCommitBeforeCloseWithOverwriteStream() throws Exception {
+    final AirbyteMessageConsumer consumer = createConsumer(createCatalog(
+        createStream(APPEND_STREAM, DestinationSyncMode.APPEND),
+        createStream(OVERWRITE_STREAM, DestinationSyncMode.OVERWRITE)));
+
+    consumer.start();
+    consumer.accept(STATE_MESSAGE);
+    writeBatch(consumer, APPEND_STREAM);
+    writeBatch(consumer, OVERWRITE_STREAM);
+
+    // the state also covers the staged records of the overwrite stream, so it is held back.
+    verify(outputRecordCollector, never()).accept(any());
+    verify(streamToCopier.get(APPEND_STREAM), never()).closeStagingUploader(anyBoolean());
+    verify(streamToCopier.get(OVERWRITE_STREAM), never()).closeStagingUploader(anyBoolean());
+
+    consumer.close();
+
+    verify(streamToCopier.get(APPEND_STREAM)).closeStagingUploader(false);
+    verify(streamToCopier.get(OVERWRITE_STREAM)).closeStagingUploader(false);
+    verify(sqlOperations).executeTransaction(eq(database), any());
+    verify(outputRecordCollector).accept(STATE_MESSAGE);
+  }
+
+  private AirbyteMessageConsumer createConsumer(final ConfiguredAirbyteCatalog catalog) {
+    return CopyConsumerFactory.create(
+        outputRecordCollector,
+        database,
+        sqlOperations,
+        new ExtendedNameTransformer(),
+        new Object(),
+        catalog,
+        streamCopierFactory,
+        SCHEMA,
+        CopyCommitPolicy.fromConfig(Jsons.jsonNode(ImmutableMap.of("incremental_commit_size_mb", 1))));
+  }
+
+  private static void writeBatch(final AirbyteMessageConsumer consumer, final String streamName) throws Exception {
+    for (int i = 0; i < BATCH_SIZE; i++) {
+      consumer.accept(new AirbyteMessage()
+          .withType(AirbyteMessage.Type.RECORD)
+          .withRecord(new AirbyteRecordMessage()
+              .withStream(streamName)
+              .withNamespace(SCHEMA)
+              .withData(Jsons.jsonNode(ImmutableMap.of("id", i)))
+              .withEmittedAt(0L)));
+    }
+  }
+
+  private static ConfiguredAirbyteCatalog createCatalog(final ConfiguredAirbyteStream... streams) {
+    return new ConfiguredAirbyteCatalog().withStreams(List.of(streams));
+  }
+
+  private static ConfiguredAirbyteStream createStream(final String streamName, final DestinationSyncMode destinationSyncMode) {
+    return CatalogHelpers.createConfiguredAirbyteStream(streamName, SCHEMA, Field.of("id", JsonSchemaPrimitive.NUMBER))
+        .withDestinationSyncMode(destinationSyncMode);
+  }
+
+}
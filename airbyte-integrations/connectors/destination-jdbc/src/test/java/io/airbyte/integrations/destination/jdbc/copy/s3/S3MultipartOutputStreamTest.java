@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.jdbc.copy.s3;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadResult;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.amazonaws.services.s3.model.UploadPartResult;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class S3MultipartOutputStreamTest {
+
+  private static final String BUCKET_NAME = "bucket";
+  private static final String KEY = "staging/file";
+
+  private AmazonS3 s3Client;
+  private ExecutorService executor;
+  private Semaphore inFlightParts;
+
+  @BeforeEach
+  void setup() {
+    s3Client = mock(AmazonS3.class);
+    final InitiateMultipartUploadResult initiateResult = new InitiateMultipartUploadResult();
+    initiateResult.setUploadId("upload-id");
+    when(s3Client.initiateMultipartUpload(any(InitiateMultipartUploadRequest.class))).thenReturn(initiateResult);
+    when(s3Client.uploadPart(any(UploadPartRequest.class))).thenAnswer(invocation -> {
+      final UploadPartRequest request = invocation.getArgument(0);
+      final UploadPartResult result = new UploadPartResult();
+      result.setPartNumber(request.getPartNumber());
+      result.setETag("etag-" + request.getPartNumber());
+      return result;
+    });
+    executor = Executors.newFixedThreadPool(2);
+    inFlightParts = new Semaphore(2);
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void testUploadsFullPartsAndRemainder() throws IOException {
+    final S3MultipartOutputStream outputStream = new S3MultipartOutputStream(s3Client, BUCKET_NAME, KEY, 10, executor, inFlightParts);
+    outputStream.write("0123456789012345678901234".getBytes(StandardCharsets.UTF_8));
+    outputStream.close();
+
+    assertEquals(25, outputStream.getBytesWritten());
+    verify(s3Client, times(3)).uploadPart(any(UploadPartRequest.class));
+    final ArgumentCaptor<CompleteMultipartUploadRequest> completeRequest = ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+    verify(s3Client).completeMultipartUpload(completeRequest.capture());
+    assertEquals(3, completeRequest.getValue().getPartETags().size());
+    assertEquals(2, inFlightParts.availablePermits());
+  }
+
+  @Test
+  void testUploadsEmptyObject() throws IOException {
+    final S3MultipartOutputStream outputStream = new S3MultipartOutputStream(s3Client, BUCKET_NAME, KEY, 10, executor, inFlightParts);
+    outputStream.close();
+
+    verify(s3Client, times(1)).uploadPart(any(UploadPartRequest.class));
+    verify(s3Client).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+  }
+
+  @Test
+  void testAbort() throws IOException {
+    final S3MultipartOutputStream outputStream = new S3MultipartOutputStream(s3Client, BUCKET_NAME, KEY, 10, executor, inFlightParts);
+    outputStream.write("01234".getBytes(StandardCharsets.UTF_8));
+    outputStream.abort();
+
+    assertThrows(IOException.class, () -> outputStream.write(1));
+    outputStream.close();
+    verify(s3Client).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+    verify(s3Client, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+  }
+
+}
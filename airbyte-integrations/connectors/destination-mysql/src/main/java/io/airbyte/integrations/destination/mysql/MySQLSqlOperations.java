@@ -5,14 +5,17 @@
 package io.airbyte.integrations.destination.mysql;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.mysql.cj.jdbc.JdbcStatement;
 import io.airbyte.db.jdbc.JdbcDatabase;
 import io.airbyte.integrations.base.JavaBaseConstants;
 import io.airbyte.integrations.destination.StandardNameTransformer;
 import io.airbyte.integrations.destination.jdbc.JdbcSqlOperations;
 import io.airbyte.protocol.models.AirbyteRecordMessage;
-import java.io.File;
-import java.io.IOException;
-import java.nio.file.Files;
+import java.io.BufferedWriter;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.List;
@@ -38,34 +41,30 @@ public class MySQLSqlOperations extends JdbcSqlOperations {
     }
 
     verifyLocalFileEnabled(database);
-    try {
-      File tmpFile = Files.createTempFile(tmpTableName + "-", ".tmp").toFile();
-
-      loadDataIntoTable(database, records, schemaName, tmpTableName, tmpFile);
-
-      Files.delete(tmpFile.toPath());
-    } catch (IOException e) {
-      throw new SQLException(e);
-    }
+    loadDataIntoTable(database, records, schemaName, tmpTableName);
   }
 
   private void loadDataIntoTable(JdbcDatabase database,
                                  List<AirbyteRecordMessage> records,
                                  String schemaName,
-                                 String tmpTableName,
-                                 File tmpFile)
+                                 String tmpTableName)
       throws SQLException {
     database.execute(connection -> {
       try {
-        writeBatchToFile(tmpFile, records);
-
-        String absoluteFile = "'" + tmpFile.getAbsolutePath() + "'";
+        // the batch is encoded in memory and handed to the driver as the content of the local file,
+        // rather than going through a temporary file.
+        var batch = new ByteArrayOutputStream();
+        try (var writer = new BufferedWriter(new OutputStreamWriter(batch, StandardCharsets.UTF_8))) {
+          writeBatchToWriter(writer, records);
+        }
 
+        // the file name is ignored by the driver since the statement has an input stream to read from.
         String query = String.format(
-            "LOAD DATA LOCAL INFILE %s INTO TABLE %s.%s FIELDS TERMINATED BY ',' ENCLOSED BY '\"' ESCAPED BY '\\\"' LINES TERMINATED BY '\\r\\n'",
-            absoluteFile, schemaName, tmpTableName);
+            "LOAD DATA LOCAL INFILE 'batch' INTO TABLE %s.%s FIELDS TERMINATED BY ',' ENCLOSED BY '\"' ESCAPED BY '\\\"' LINES TERMINATED BY '\\r\\n'",
+            schemaName, tmpTableName);
 
         try (Statement stmt = connection.createStatement()) {
+          stmt.unwrap(JdbcStatement.class).setLocalInfileInputStream(new ByteArrayInputStream(batch.toByteArray()));
           stmt.execute(query);
         }
       } catch (Exception e) {
@@ -8,14 +8,12 @@ import io.airbyte.db.jdbc.JdbcDatabase;
 import io.airbyte.integrations.destination.jdbc.DataAdapter;
 import io.airbyte.integrations.destination.jdbc.JdbcSqlOperations;
 import io.airbyte.protocol.models.AirbyteRecordMessage;
-import java.io.BufferedReader;
-import java.io.File;
-import java.io.FileReader;
-import java.io.IOException;
-import java.nio.file.Files;
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
 import java.sql.SQLException;
 import java.util.List;
-import org.postgresql.copy.CopyManager;
+import org.postgresql.copy.PGCopyOutputStream;
 import org.postgresql.core.BaseConnection;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -32,29 +30,33 @@ public class PostgresSqlOperations extends JdbcSqlOperations {
     }
 
     database.execute(connection -> {
-      File tmpFile = null;
+      var sql = String.format("COPY %s.%s FROM stdin DELIMITER ',' CSV", schemaName, tmpTableName);
+      PGCopyOutputStream copyOutputStream = null;
       try {
-        tmpFile = Files.createTempFile(tmpTableName + "-", ".tmp").toFile();
-        writeBatchToFile(tmpFile, records);
-
-        var copyManager = new CopyManager(connection.unwrap(BaseConnection.class));
-        var sql = String.format("COPY %s.%s FROM stdin DELIMITER ',' CSV", schemaName, tmpTableName);
-        var bufferedReader = new BufferedReader(new FileReader(tmpFile));
-        copyManager.copyIn(sql, bufferedReader);
+        // rows are encoded straight into the COPY stream rather than going through a temporary file.
+        copyOutputStream = new PGCopyOutputStream(connection.unwrap(BaseConnection.class), sql);
+        var writer = new BufferedWriter(new OutputStreamWriter(copyOutputStream, StandardCharsets.UTF_8));
+        writeBatchToWriter(writer, records);
+        // closing the stream ends the copy.
+        writer.close();
       } catch (Exception e) {
+        cancelCopy(copyOutputStream);
         throw new RuntimeException(e);
-      } finally {
-        try {
-          if (tmpFile != null) {
-            Files.delete(tmpFile.toPath());
-          }
-        } catch (IOException e) {
-          throw new RuntimeException(e);
-        }
       }
     });
   }
 
+  private static void cancelCopy(PGCopyOutputStream copyOutputStream) {
+    // a copy that is ended rather than cancelled would load the rows written so far.
+    if (copyOutputStream != null && copyOutputStream.isActive()) {
+      try {
+        copyOutputStream.cancelCopy();
+      } catch (SQLException e) {
+        LOGGER.warn("Failed to cancel copy.", e);
+      }
+    }
+  }
+
   @Override
   protected DataAdapter getDataAdapter() {
     return new PostgresDataAdapter();
@@ -11,6 +11,7 @@ import io.airbyte.db.jdbc.JdbcDatabase;
 import io.airbyte.integrations.base.AirbyteMessageConsumer;
 import io.airbyte.integrations.destination.ExtendedNameTransformer;
 import io.airbyte.integrations.destination.jdbc.SqlOperations;
+import io.airbyte.integrations.destination.jdbc.copy.CopyCommitPolicy;
 import io.airbyte.integrations.destination.jdbc.copy.CopyConsumerFactory;
 import io.airbyte.integrations.destination.jdbc.copy.CopyDestination;
 import io.airbyte.integrations.destination.jdbc.copy.s3.S3Config;
@@ -26,9 +27,10 @@ import java.util.function.Consumer;
  * files in parallel. See:
  * https://docs.aws.amazon.com/redshift/latest/dg/c_best-practices-use-copy.html for more info.
  *
- * Creating multiple files per stream currently has the naive approach of one file per batch on a
- * stream up to the max limit of (26 * 26 * 26) 17576 files. Each batch is randomly prefixed by 3
- * Alpha characters and on a collision the batch is appended to the existing file.
+ * A stream is staged in files that are rolled over once they reach
+ * {@link S3StreamCopier#DEFAULT_MAX_STAGING_FILE_SIZE_MB}, and all of them are loaded by a single
+ * COPY. Staged records can also be committed periodically during the sync, see
+ * {@link CopyCommitPolicy}.
  */
 public class RedshiftCopyS3Destination extends CopyDestination {
 
@@ -45,7 +47,8 @@ public class RedshiftCopyS3Destination extends CopyDestination {
         getS3Config(config),
         catalog,
         new RedshiftStreamCopierFactory(),
-        getConfiguredSchema(config));
+        getConfiguredSchema(config),
+        CopyCommitPolicy.fromConfig(config));
   }
 
   @Override
@@ -68,6 +68,7 @@ public class RedshiftStreamCopier extends S3StreamCopier {
         s3Client.deleteObject(s3Config.getBucketName(), manifestFilePath);
       }
       LOGGER.info("S3 manifest file {} cleaned.", manifestFilePath);
+      manifestFilePath = null;
     }
   }
 
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.s3.avro;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.integrations.base.JavaBaseConstants;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.apache.avro.Schema;
+import org.apache.commons.lang3.RandomStringUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tech.allegro.schema.json2avro.converter.JsonAvroConverter;
+
+/**
+ * Compares the throughput of converting records into Avro records: by renaming the fields of the
+ * json, serializing it and parsing it again with JsonAvroConverter (what the Avro and Parquet writers
+ * used to do), and with {@link AvroRecordFactory}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class AvroRecordFactoryBenchmark {
+
+  private static final int FIELD_SIZE = 32;
+
+  @Param({"10", "100"})
+  public int fieldCount;
+
+  private Schema schema;
+  private JsonFieldNameUpdater nameUpdater;
+  private JsonAvroConverter converter;
+  private AvroRecordFactory recordFactory;
+  private UUID id;
+  private AirbyteRecordMessage recordMessage;
+
+  @Setup
+  public void setup() {
+    final Map<String, Object> properties = new HashMap<>();
+    final Map<String, Object> data = new HashMap<>();
+    for (int i = 0; i < fieldCount; i++) {
+      // a third of the fields have names that need to be standardized.
+      final String name = (i % 3 == 0 ? "field-" : "field_") + i;
+      if (i % 2 == 0) {
+        properties.put(name, Map.of("type", "string"));
+        data.put(name, RandomStringUtils.randomAlphanumeric(FIELD_SIZE));
+      } else {
+        properties.put(name, Map.of("type", "integer"));
+        data.put(name, i);
+      }
+    }
+    final JsonNode jsonSchema = Jsons.jsonNode(Map.of("type", "object", "properties", properties));
+
+    final JsonToAvroSchemaConverter schemaConverter = new JsonToAvroSchemaConverter();
+    schema = schemaConverter.getAvroSchema(jsonSchema, "benchmark_stream", null, true);
+    nameUpdater = new JsonFieldNameUpdater(schemaConverter.getStandardizedNames());
+    converter = new JsonAvroConverter();
+    recordFactory = new AvroRecordFactory(schema);
+    id = UUID.randomUUID();
+    recordMessage = new AirbyteRecordMessage()
+        .withStream("benchmark_stream")
+        .withEmittedAt(System.currentTimeMillis())
+        .withData(Jsons.jsonNode(data));
+  }
+
+  @Benchmark
+  public Object jsonAvroConverter() {
+    final ObjectNode jsonRecord = (ObjectNode) Jsons.jsonNode(Map.of(
+        JavaBaseConstants.COLUMN_NAME_AB_ID, id.toString(),
+        JavaBaseConstants.COLUMN_NAME_EMITTED_AT, recordMessage.getEmittedAt()));
+    jsonRecord.setAll((ObjectNode) nameUpdater.getJsonWithStandardizedFieldNames(recordMessage.getData()));
+    return converter.convertToGenericDataRecord(Jsons.toBytes(jsonRecord), schema);
+  }
+
+  @Benchmark
+  public Object recordFactory() {
+    return recordFactory.getAvroRecord(id, recordMessage);
+  }
+
+}
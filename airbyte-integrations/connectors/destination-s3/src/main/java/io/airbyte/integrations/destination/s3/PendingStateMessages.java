@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.s3;
+
+import io.airbyte.protocol.models.AirbyteMessage;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Optional;
+
+/**
+ * Holds the state messages received by a consumer until all the records received before each of
+ * them are durably written. Records are identified by their sequence number among the records
+ * received by the consumer.
+ */
+public class PendingStateMessages {
+
+  private final Deque<PendingStateMessage> pendingStateMessages = new ArrayDeque<>();
+
+  /**
+   * @param recordCount number of records received before the state message.
+   */
+  public void add(long recordCount, AirbyteMessage stateMessage) {
+    pendingStateMessages.addLast(new PendingStateMessage(recordCount, stateMessage));
+  }
+
+  /**
+   * @param firstPendingSequence sequence number of the first record that is not durably written yet.
+   * @return the latest state message whose records are all durably written, if it was not returned
+   *         before.
+   */
+  public Optional<AirbyteMessage> pollCommitted(long firstPendingSequence) {
+    AirbyteMessage committedStateMessage = null;
+    while (!pendingStateMessages.isEmpty() && pendingStateMessages.peekFirst().recordCount <= firstPendingSequence) {
+      committedStateMessage = pendingStateMessages.pollFirst().stateMessage;
+    }
+    return Optional.ofNullable(committedStateMessage);
+  }
+
+  private static class PendingStateMessage {
+
+    private final long recordCount;
+    private final AirbyteMessage stateMessage;
+
+    PendingStateMessage(long recordCount, AirbyteMessage stateMessage) {
+      this.recordCount = recordCount;
+      this.stateMessage = stateMessage;
+    }
+
+  }
+
+}
@@ -5,10 +5,13 @@
 package io.airbyte.integrations.destination.s3;
 
 import com.amazonaws.services.s3.AmazonS3;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.integrations.base.AirbyteStreamNameNamespacePair;
 import io.airbyte.integrations.base.FailureTrackingAirbyteMessageConsumer;
-import io.airbyte.integrations.destination.s3.writer.S3Writer;
+import io.airbyte.integrations.destination.s3.writer.RotatingS3Writer;
+import io.airbyte.integrations.destination.s3.writer.S3FileRotationPolicy;
 import io.airbyte.integrations.destination.s3.writer.S3WriterFactory;
 import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.AirbyteMessage.Type;
@@ -20,6 +23,8 @@ import java.sql.Timestamp;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Consumer;
 
 public class S3Consumer extends FailureTrackingAirbyteMessageConsumer {
@@ -28,17 +33,45 @@ public class S3Consumer extends FailureTrackingAirbyteMessageConsumer {
   private final ConfiguredAirbyteCatalog configuredCatalog;
   private final S3WriterFactory writerFactory;
   private final Consumer<AirbyteMessage> outputRecordCollector;
-  private final Map<AirbyteStreamNameNamespacePair, S3Writer> streamNameAndNamespaceToWriters;
+  private final S3FileRotationPolicy rotationPolicy;
+  private final Map<AirbyteStreamNameNamespacePair, RotatingS3Writer> streamNameAndNamespaceToWriters;
+  private final PendingStateMessages pendingStateMessages = new PendingStateMessages();
 
+  private ExecutorService finalizeExecutor;
+  private long recordCount = 0;
   private AirbyteMessage lastStateMessage = null;
 
   public S3Consumer(S3DestinationConfig s3DestinationConfig,
                     ConfiguredAirbyteCatalog configuredCatalog,
                     S3WriterFactory writerFactory,
                     Consumer<AirbyteMessage> outputRecordCollector) {
+    this(s3DestinationConfig, configuredCatalog, writerFactory, S3FileRotationPolicy.NEVER, outputRecordCollector);
+  }
+
+  public S3Consumer(S3DestinationConfig s3DestinationConfig,
+                    ConfiguredAirbyteCatalog configuredCatalog,
+                    S3WriterFactory writerFactory,
+                    S3FileRotationPolicy rotationPolicy,
+                    Consumer<AirbyteMessage> outputRecordCollector) {
+    this(s3DestinationConfig, configuredCatalog, writerFactory, rotationPolicy, null, outputRecordCollector);
+  }
+
+  /**
+   * @param finalizeExecutor runs the finalization of the full files, or null to create one when the
+   *        consumer starts.
+   */
+  @VisibleForTesting
+  S3Consumer(S3DestinationConfig s3DestinationConfig,
+             ConfiguredAirbyteCatalog configuredCatalog,
+             S3WriterFactory writerFactory,
+             S3FileRotationPolicy rotationPolicy,
+             ExecutorService finalizeExecutor,
+             Consumer<AirbyteMessage> outputRecordCollector) {
     this.s3DestinationConfig = s3DestinationConfig;
     this.configuredCatalog = configuredCatalog;
     this.writerFactory = writerFactory;
+    this.rotationPolicy = rotationPolicy;
+    this.finalizeExecutor = finalizeExecutor;
     this.outputRecordCollector = outputRecordCollector;
     this.streamNameAndNamespaceToWriters = new HashMap<>(configuredCatalog.getStreams().size());
   }
@@ -48,12 +81,18 @@ public class S3Consumer extends FailureTrackingAirbyteMessageConsumer {
     AmazonS3 s3Client = s3DestinationConfig.getS3Client();
     Timestamp uploadTimestamp = new Timestamp(System.currentTimeMillis());
 
+    if (finalizeExecutor == null) {
+      finalizeExecutor = Executors.newCachedThreadPool(
+          new ThreadFactoryBuilder().setNameFormat("s3-file-finalizer-%d").setDaemon(true).build());
+    }
+
     for (ConfiguredAirbyteStream configuredStream : configuredCatalog.getStreams()) {
-      S3Writer writer = writerFactory
-          .create(s3DestinationConfig, s3Client, configuredStream, uploadTimestamp);
+      AirbyteStream stream = configuredStream.getStream();
+      RotatingS3Writer writer = new RotatingS3Writer(stream.getName(), rotationPolicy,
+          partId -> writerFactory.create(s3DestinationConfig, s3Client, configuredStream, uploadTimestamp, partId),
+          finalizeExecutor);
       writer.initialize();
 
-      AirbyteStream stream = configuredStream.getStream();
       AirbyteStreamNameNamespacePair streamNamePair = AirbyteStreamNameNamespacePair
           .fromAirbyteSteam(stream);
       streamNameAndNamespaceToWriters.put(streamNamePair, writer);
@@ -64,6 +103,10 @@ public class S3Consumer extends FailureTrackingAirbyteMessageConsumer {
   protected void acceptTracked(AirbyteMessage airbyteMessage) throws Exception {
     if (airbyteMessage.getType() == Type.STATE) {
       this.lastStateMessage = airbyteMessage;
+      if (rotationPolicy.isEnabled()) {
+        pendingStateMessages.add(recordCount, airbyteMessage);
+        emitCommittedState();
+      }
       return;
     } else if (airbyteMessage.getType() != Type.RECORD) {
       return;
@@ -80,15 +123,36 @@ public class S3Consumer extends FailureTrackingAirbyteMessageConsumer {
               Jsons.serialize(configuredCatalog), Jsons.serialize(recordMessage)));
     }
 
-    streamNameAndNamespaceToWriters.get(pair).write(UUID.randomUUID(), recordMessage);
+    streamNameAndNamespaceToWriters.get(pair).write(UUID.randomUUID(), recordMessage, recordCount++);
+  }
+
+  /**
+   * Emits the latest state message whose records are all in finalized files, if any. The state is
+   * only checked when a state message arrives, as sources emit them regularly. Files that are too old
+   * are finalized first, so that a stream that stopped receiving records does not hold back the state
+   * of the other streams.
+   */
+  private void emitCommittedState() throws Exception {
+    long firstPendingSequence = RotatingS3Writer.NO_PENDING_RECORD;
+    for (RotatingS3Writer writer : streamNameAndNamespaceToWriters.values()) {
+      writer.rotateIfExpired();
+      firstPendingSequence = Math.min(firstPendingSequence, writer.getFirstPendingSequence());
+    }
+    pendingStateMessages.pollCommitted(firstPendingSequence).ifPresent(outputRecordCollector);
   }
 
   @Override
   protected void close(boolean hasFailed) throws Exception {
-    for (S3Writer handler : streamNameAndNamespaceToWriters.values()) {
-      handler.close(hasFailed);
+    try {
+      for (RotatingS3Writer handler : streamNameAndNamespaceToWriters.values()) {
+        handler.close(hasFailed);
+      }
+    } finally {
+      if (finalizeExecutor != null) {
+        finalizeExecutor.shutdownNow();
+      }
     }
-    // S3 stream uploader is all or nothing if a failure happens in the destination.
+    // the files finalized before a failure are kept, and the state of their records was already emitted.
     if (!hasFailed) {
       outputRecordCollector.accept(lastStateMessage);
     }
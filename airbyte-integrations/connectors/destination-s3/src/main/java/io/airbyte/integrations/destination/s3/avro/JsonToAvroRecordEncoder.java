@@ -0,0 +1,261 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.s3.avro;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.google.common.base.Preconditions;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.apache.avro.AvroTypeException;
+import org.apache.avro.Schema;
+import org.apache.avro.Schema.Field;
+import org.apache.avro.generic.GenericData;
+
+/**
+ * Converts the JSON data of a record into an Avro record of a given schema. Unlike JsonAvroConverter,
+ * which needs the JSON serialized and parses it again for every record, the schema is compiled once
+ * into a tree of encoders that walk the JSON node directly. Fields whose names were standardized by
+ * {@link JsonToAvroSchemaConverter} are read from their original JSON names, which the schema keeps
+ * in the field docs, so the JSON does not need to be renamed first either.
+ * <p/>
+ * Values are converted the way JsonAvroConverter converts them: the branches of a union are tried in
+ * order, numbers are narrowed to the type of the field, missing fields take their default value, and
+ * JSON fields that are not in the schema are dropped.
+ */
+public class JsonToAvroRecordEncoder {
+
+  // returned by an encoder when a JSON value does not match its Avro type.
+  private static final Object NO_MATCH = new Object();
+  private static final String ORIGINAL_NAME_DOC_PREFIX = S3AvroConstants.DOC_KEY_ORIGINAL_NAME + S3AvroConstants.DOC_KEY_VALUE_DELIMITER;
+
+  private final RecordEncoder recordEncoder;
+  private final GenericData.Record record;
+
+  /**
+   * @param schema record schema to encode into.
+   * @param externalFields top level fields that are not read from the JSON data. They are left for the
+   *        caller to set on the encoded record.
+   */
+  public JsonToAvroRecordEncoder(final Schema schema, final Set<String> externalFields) {
+    Preconditions.checkArgument(schema.getType() == Schema.Type.RECORD, "Expected a record schema, got %s", schema.getType());
+    this.recordEncoder = new RecordEncoder(schema, externalFields);
+    this.record = new GenericData.Record(schema);
+  }
+
+  /**
+   * Fills the record with the given JSON object. The same record instance is returned on every call,
+   * so it has to be consumed before the next call.
+   *
+   * @throws AvroTypeException if the JSON does not match the schema.
+   */
+  public GenericData.Record encode(final JsonNode data) {
+    if (data == null || !data.isObject()) {
+      throw new AvroTypeException(String.format("Expected a JSON object for record %s, got %s", record.getSchema().getFullName(), data));
+    }
+    final int mismatchedField = recordEncoder.fill(record, data);
+    if (mismatchedField >= 0) {
+      final Field field = record.getSchema().getFields().get(mismatchedField);
+      throw new AvroTypeException(String.format("Value of field %s does not match its schema %s: %s",
+          field.name(), field.schema(), recordEncoder.getValue(data, mismatchedField)));
+    }
+    return record;
+  }
+
+  @FunctionalInterface
+  private interface ValueEncoder {
+
+    /**
+     * @return the Avro value, or {@link #NO_MATCH} if the JSON value does not match the Avro type.
+     */
+    Object encode(JsonNode value);
+
+  }
+
+  private static ValueEncoder compile(final Schema schema) {
+    return switch (schema.getType()) {
+      case NULL -> JsonToAvroRecordEncoder::encodeNull;
+      case BOOLEAN -> JsonToAvroRecordEncoder::encodeBoolean;
+      case INT -> JsonToAvroRecordEncoder::encodeInt;
+      case LONG -> JsonToAvroRecordEncoder::encodeLong;
+      case FLOAT -> JsonToAvroRecordEncoder::encodeFloat;
+      case DOUBLE -> JsonToAvroRecordEncoder::encodeDouble;
+      case STRING -> JsonToAvroRecordEncoder::encodeString;
+      case ENUM -> value -> value.isTextual() && schema.hasEnumSymbol(value.textValue())
+          ? new GenericData.EnumSymbol(schema, value.textValue())
+          : NO_MATCH;
+      case ARRAY -> arrayEncoder(schema);
+      case MAP -> mapEncoder(schema);
+      case RECORD -> recordEncoder(schema);
+      case UNION -> unionEncoder(schema);
+      default -> throw new IllegalArgumentException("Unsupported Avro type: " + schema.getType());
+    };
+  }
+
+  private static Object encodeNull(final JsonNode value) {
+    return value.isNull() ? null : NO_MATCH;
+  }
+
+  private static Object encodeBoolean(final JsonNode value) {
+    return value.isBoolean() ? value.booleanValue() : NO_MATCH;
+  }
+
+  private static Object encodeInt(final JsonNode value) {
+    return value.isNumber() ? value.intValue() : NO_MATCH;
+  }
+
+  private static Object encodeLong(final JsonNode value) {
+    return value.isNumber() ? value.longValue() : NO_MATCH;
+  }
+
+  private static Object encodeFloat(final JsonNode value) {
+    return value.isNumber() ? value.floatValue() : NO_MATCH;
+  }
+
+  private static Object encodeDouble(final JsonNode value) {
+    return value.isNumber() ? value.doubleValue() : NO_MATCH;
+  }
+
+  private static Object encodeString(final JsonNode value) {
+    return value.isTextual() ? value.textValue() : NO_MATCH;
+  }
+
+  private static ValueEncoder arrayEncoder(final Schema schema) {
+    final ValueEncoder elementEncoder = compile(schema.getElementType());
+    return value -> {
+      if (!value.isArray()) {
+        return NO_MATCH;
+      }
+      final GenericData.Array<Object> array = new GenericData.Array<>(value.size(), schema);
+      for (final JsonNode element : value) {
+        final Object encodedElement = elementEncoder.encode(element);
+        if (encodedElement == NO_MATCH) {
+          return NO_MATCH;
+        }
+        array.add(encodedElement);
+      }
+      return array;
+    };
+  }
+
+  private static ValueEncoder mapEncoder(final Schema schema) {
+    final ValueEncoder valueEncoder = compile(schema.getValueType());
+    return value -> {
+      if (!value.isObject()) {
+        return NO_MATCH;
+      }
+      final Map<String, Object> map = new HashMap<>();
+      final Iterator<Map.Entry<String, JsonNode>> entries = value.fields();
+      while (entries.hasNext()) {
+        final Map.Entry<String, JsonNode> entry = entries.next();
+        final Object encodedValue = valueEncoder.encode(entry.getValue());
+        if (encodedValue == NO_MATCH) {
+          return NO_MATCH;
+        }
+        map.put(entry.getKey(), encodedValue);
+      }
+      return map;
+    };
+  }
+
+  private static ValueEncoder recordEncoder(final Schema schema) {
+    final RecordEncoder recordEncoder = new RecordEncoder(schema, Set.of());
+    return value -> {
+      if (!value.isObject()) {
+        return NO_MATCH;
+      }
+      final GenericData.Record record = new GenericData.Record(schema);
+      return recordEncoder.fill(record, value) < 0 ? record : NO_MATCH;
+    };
+  }
+
+  private static ValueEncoder unionEncoder(final Schema schema) {
+    final List<ValueEncoder> branchEncoders = schema.getTypes().stream()
+        .map(JsonToAvroRecordEncoder::compile)
+        .collect(Collectors.toList());
+    return value -> {
+      for (final ValueEncoder branchEncoder : branchEncoders) {
+        final Object encodedValue = branchEncoder.encode(value);
+        if (encodedValue != NO_MATCH) {
+          return encodedValue;
+        }
+      }
+      return NO_MATCH;
+    };
+  }
+
+  private static class RecordEncoder {
+
+    private final List<Field> fields;
+    private final String[] jsonNames;
+    // null for the fields that are set by the caller.
+    private final ValueEncoder[] fieldEncoders;
+
+    RecordEncoder(final Schema schema, final Set<String> externalFields) {
+      this.fields = schema.getFields();
+      this.jsonNames = new String[fields.size()];
+      this.fieldEncoders = new ValueEncoder[fields.size()];
+      for (final Field field : fields) {
+        jsonNames[field.pos()] = getJsonName(field);
+        if (!externalFields.contains(field.name())) {
+          fieldEncoders[field.pos()] = compile(field.schema());
+        }
+      }
+    }
+
+    private static String getJsonName(final Field field) {
+      final String doc = field.doc();
+      if (doc != null && doc.startsWith(ORIGINAL_NAME_DOC_PREFIX)) {
+        return doc.substring(ORIGINAL_NAME_DOC_PREFIX.length());
+      }
+      return field.name();
+    }
+
+    /**
+     * @return the position of the first field whose value does not match its schema, or -1 if the
+     *         whole object was encoded.
+     */
+    int fill(final GenericData.Record record, final JsonNode object) {
+      for (int i = 0; i < fieldEncoders.length; i++) {
+        if (fieldEncoders[i] == null) {
+          continue;
+        }
+        final JsonNode value = getValue(object, i);
+        final Object encodedValue;
+        if (value == null) {
+          final Field field = fields.get(i);
+          encodedValue = field.hasDefaultValue()
+              ? GenericData.get().getDefaultValue(field)
+              : fieldEncoders[i].encode(NullNode.getInstance());
+        } else {
+          encodedValue = fieldEncoders[i].encode(value);
+        }
+        if (encodedValue == NO_MATCH) {
+          return i;
+        }
+        record.put(i, encodedValue);
+      }
+      return -1;
+    }
+
+    /**
+     * @return the JSON value of a field, or null if it is missing.
+     */
+    JsonNode getValue(final JsonNode object, final int position) {
+      final JsonNode value = object.get(jsonNames[position]);
+      if (value == null && !jsonNames[position].equals(fields.get(position).name())) {
+        // the data may already use the standardized name.
+        return object.get(fields.get(position).name());
+      }
+      return value;
+    }
+
+  }
+
+}
@@ -10,6 +10,7 @@ import com.amazonaws.services.s3.AmazonS3;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.io.CountingOutputStream;
 import io.airbyte.commons.jackson.MoreMappers;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.integrations.base.JavaBaseConstants;
@@ -36,15 +37,17 @@ public class S3JsonlWriter extends BaseS3Writer implements S3Writer {
 
   private final StreamTransferManager uploadManager;
   private final MultiPartOutputStream outputStream;
+  private final CountingOutputStream countingOutputStream;
   private final PrintWriter printWriter;
 
   public S3JsonlWriter(S3DestinationConfig config,
                        AmazonS3 s3Client,
                        ConfiguredAirbyteStream configuredStream,
-                       Timestamp uploadTimestamp) {
+                       Timestamp uploadTimestamp,
+                       int partId) {
     super(config, s3Client, configuredStream);
 
-    String outputFilename = BaseS3Writer.getOutputFilename(uploadTimestamp, S3Format.JSONL);
+    String outputFilename = BaseS3Writer.getOutputFilename(uploadTimestamp, S3Format.JSONL, partId);
     String objectKey = String.join("/", outputPrefix, outputFilename);
 
     LOGGER.info("Full S3 path for stream '{}': s3://{}/{}", stream.getName(), config.getBucketName(),
@@ -54,7 +57,8 @@ public class S3JsonlWriter extends BaseS3Writer implements S3Writer {
         config.getBucketName(), objectKey, s3Client, config.getFormatConfig().getPartSize());
     // We only need one output stream as we only have one input stream. This is reasonably performant.
     this.outputStream = uploadManager.getMultiPartOutputStreams().get(0);
-    this.printWriter = new PrintWriter(outputStream, true, StandardCharsets.UTF_8);
+    this.countingOutputStream = new CountingOutputStream(outputStream);
+    this.printWriter = new PrintWriter(countingOutputStream, true, StandardCharsets.UTF_8);
   }
 
   @Override
@@ -66,6 +70,11 @@ public class S3JsonlWriter extends BaseS3Writer implements S3Writer {
     printWriter.println(Jsons.serialize(json));
   }
 
+  @Override
+  public long getBytesWritten() {
+    return countingOutputStream.getCount();
+  }
+
   @Override
   protected void closeWhenSucceed() {
     printWriter.close();
@@ -119,14 +119,19 @@ public abstract class BaseS3Writer implements S3Writer {
     // Do nothing by default
   }
 
-  // Filename: <upload-date>_<upload-millis>_0.<format-extension>
   public static String getOutputFilename(Timestamp timestamp, S3Format format) {
+    return getOutputFilename(timestamp, format, 0);
+  }
+
+  // Filename: <upload-date>_<upload-millis>_<part-id>.<format-extension>
+  public static String getOutputFilename(Timestamp timestamp, S3Format format, int partId) {
     DateFormat formatter = new SimpleDateFormat(S3DestinationConstants.YYYY_MM_DD_FORMAT_STRING);
     formatter.setTimeZone(TimeZone.getTimeZone("UTC"));
     return String.format(
-        "%s_%d_0.%s",
+        "%s_%d_%d.%s",
         formatter.format(timestamp),
         timestamp.getTime(),
+        partId,
         format.getFileExtension());
   }
 
@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.s3.writer;
+
+import com.google.common.annotations.VisibleForTesting;
+import io.airbyte.commons.functional.CheckedFunction;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writes the records of a stream into a sequence of files, and rolls over to a new file whenever the
+ * current one is full according to a {@link S3FileRotationPolicy}. A full file is finalized in the
+ * background while the next one is written. Only one file of the stream is finalized at a time, so
+ * the memory held by the stream stays bounded.
+ * <p/>
+ * The caller numbers the records it writes, so that it can tell which of them are in finalized
+ * files, see {@link #getFirstPendingSequence()}. The age of a file is checked on each write, and
+ * whenever the caller calls {@link #rotateIfExpired()}, so that a stream that stops receiving
+ * records does not keep its last file open until the end of the sync.
+ */
+public class RotatingS3Writer {
+
+  /**
+   * Returned by {@link #getFirstPendingSequence()} when all the records written are in finalized
+   * files.
+   */
+  public static final long NO_PENDING_RECORD = Long.MAX_VALUE;
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(RotatingS3Writer.class);
+
+  private final String streamName;
+  private final S3FileRotationPolicy rotationPolicy;
+  private final CheckedFunction<Integer, S3Writer, Exception> partWriterFactory;
+  private final ExecutorService finalizeExecutor;
+  private final Supplier<Instant> timeSupplier;
+
+  private int nextPartId = 0;
+  // null between a rotation and the next record, so that no empty file is created.
+  private S3Writer currentPart;
+  private long currentPartRows = 0;
+  private long currentPartFirstSequence = NO_PENDING_RECORD;
+  private Instant currentPartFirstRecordTime;
+  private Future<?> finalizingPart;
+  private long finalizingPartFirstSequence = NO_PENDING_RECORD;
+
+  /**
+   * @param partWriterFactory creates the writer of the file with the given part id.
+   * @param finalizeExecutor runs the finalization of the full files.
+   */
+  public RotatingS3Writer(String streamName,
+                          S3FileRotationPolicy rotationPolicy,
+                          CheckedFunction<Integer, S3Writer, Exception> partWriterFactory,
+                          ExecutorService finalizeExecutor) {
+    this(streamName, rotationPolicy, partWriterFactory, finalizeExecutor, Instant::now);
+  }
+
+  @VisibleForTesting
+  RotatingS3Writer(String streamName,
+                   S3FileRotationPolicy rotationPolicy,
+                   CheckedFunction<Integer, S3Writer, Exception> partWriterFactory,
+                   ExecutorService finalizeExecutor,
+                   Supplier<Instant> timeSupplier) {
+    this.streamName = streamName;
+    this.rotationPolicy = rotationPolicy;
+    this.partWriterFactory = partWriterFactory;
+    this.finalizeExecutor = finalizeExecutor;
+    this.timeSupplier = timeSupplier;
+  }
+
+  public void initialize() throws Exception {
+    // only the first file prepares the output path, which purges it under OVERWRITE mode.
+    currentPart = partWriterFactory.apply(nextPartId++);
+    currentPart.initialize();
+  }
+
+  /**
+   * @param sequence number of the record among all the records received by the caller.
+   */
+  public void write(UUID id, AirbyteRecordMessage recordMessage, long sequence) throws Exception {
+    if (currentPart == null) {
+      currentPart = partWriterFactory.apply(nextPartId++);
+    }
+    if (currentPartRows == 0) {
+      currentPartFirstSequence = sequence;
+      currentPartFirstRecordTime = timeSupplier.get();
+    }
+    currentPart.write(id, recordMessage);
+    currentPartRows++;
+
+    if (rotationPolicy.isFull(currentPart.getBytesWritten(), currentPartRows, getCurrentPartAge())) {
+      rotate();
+    }
+  }
+
+  /**
+   * Rolls over to a new file if the current one holds records and is older than the maximum file
+   * age, even though no record was written to it since it expired.
+   */
+  public void rotateIfExpired() throws Exception {
+    if (currentPart != null && currentPartRows > 0 && rotationPolicy.isExpired(getCurrentPartAge())) {
+      rotate();
+    }
+  }
+
+  private Duration getCurrentPartAge() {
+    return currentPartRows == 0 ? Duration.ZERO : Duration.between(currentPartFirstRecordTime, timeSupplier.get());
+  }
+
+  private void rotate() throws Exception {
+    // waiting here applies backpressure when files fill up faster than they are finalized.
+    awaitFinalizingPart();
+
+    LOGGER.info("File {} of stream '{}' is full with {} records, finalizing it.", nextPartId - 1, streamName, currentPartRows);
+    final S3Writer fullPart = currentPart;
+    finalizingPart = finalizeExecutor.submit(() -> {
+      fullPart.close(false);
+      return null;
+    });
+    finalizingPartFirstSequence = currentPartFirstSequence;
+
+    currentPart = null;
+    currentPartRows = 0;
+    currentPartFirstSequence = NO_PENDING_RECORD;
+    currentPartFirstRecordTime = null;
+  }
+
+  /**
+   * @return sequence number of the first record written that is not in a finalized file yet, or
+   *         {@link #NO_PENDING_RECORD} if they all are.
+   * @throws Exception if the finalization of a file failed.
+   */
+  public long getFirstPendingSequence() throws Exception {
+    if (finalizingPart != null && finalizingPart.isDone()) {
+      awaitFinalizingPart();
+    }
+    return finalizingPart != null ? finalizingPartFirstSequence : currentPartFirstSequence;
+  }
+
+  private void awaitFinalizingPart() throws Exception {
+    if (finalizingPart == null) {
+      return;
+    }
+    try {
+      finalizingPart.get();
+    } catch (final ExecutionException e) {
+      throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+    } finally {
+      finalizingPart = null;
+      finalizingPartFirstSequence = NO_PENDING_RECORD;
+    }
+  }
+
+  /**
+   * Waits for the file being finalized, and closes the current file.
+   */
+  public void close(boolean hasFailed) throws Exception {
+    Exception finalizeFailure = null;
+    try {
+      awaitFinalizingPart();
+    } catch (final Exception e) {
+      LOGGER.error("Failed to finalize a file of stream '{}'.", streamName, e);
+      finalizeFailure = e;
+    }
+
+    if (currentPart != null) {
+      currentPart.close(hasFailed || finalizeFailure != null);
+    }
+    if (finalizeFailure != null && !hasFailed) {
+      throw finalizeFailure;
+    }
+  }
+
+}
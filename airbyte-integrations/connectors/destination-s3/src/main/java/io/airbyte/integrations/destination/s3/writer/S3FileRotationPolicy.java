@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.s3.writer;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.time.Duration;
+
+/**
+ * Decides when the file a stream is written to is full, and the stream rolls over to a new file. A
+ * file is full once it reaches a size, a number of records or an age, whichever comes first. The age
+ * bound keeps a low-volume stream from holding its records, and so the state of the whole sync, in
+ * an open file until the end of the sync.
+ */
+public class S3FileRotationPolicy {
+
+  /**
+   * Writes each stream to a single file.
+   */
+  public static final S3FileRotationPolicy NEVER = new S3FileRotationPolicy(0, 0);
+
+  private final long maxBytesPerFile;
+  private final long maxRowsPerFile;
+  private final Duration maxFileAge;
+
+  /**
+   * @param maxBytesPerFile size that makes a file full, 0 for no size limit.
+   * @param maxRowsPerFile number of records that makes a file full, 0 for no record limit.
+   */
+  public S3FileRotationPolicy(long maxBytesPerFile, long maxRowsPerFile) {
+    this(maxBytesPerFile, maxRowsPerFile, Duration.ZERO);
+  }
+
+  /**
+   * @param maxFileAge time since the first record of a file that makes it full, zero for no age
+   *        limit.
+   */
+  public S3FileRotationPolicy(long maxBytesPerFile, long maxRowsPerFile, Duration maxFileAge) {
+    this.maxBytesPerFile = maxBytesPerFile;
+    this.maxRowsPerFile = maxRowsPerFile;
+    this.maxFileAge = maxFileAge;
+  }
+
+  /**
+   * Reads the optional max_file_size_mb, max_rows_per_file and max_file_age_minutes fields of a
+   * destination config.
+   */
+  public static S3FileRotationPolicy fromConfig(JsonNode config) {
+    long maxFileSizeMb = config.has("max_file_size_mb") ? config.get("max_file_size_mb").asLong() : 0;
+    long maxRowsPerFile = config.has("max_rows_per_file") ? config.get("max_rows_per_file").asLong() : 0;
+    long maxFileAgeMinutes = config.has("max_file_age_minutes") ? config.get("max_file_age_minutes").asLong() : 0;
+    return new S3FileRotationPolicy(maxFileSizeMb * 1024 * 1024, maxRowsPerFile, Duration.ofMinutes(maxFileAgeMinutes));
+  }
+
+  public boolean isEnabled() {
+    return maxBytesPerFile > 0 || maxRowsPerFile > 0 || hasMaxFileAge();
+  }
+
+  public boolean isFull(long bytesWritten, long rowsWritten, Duration fileAge) {
+    return (maxBytesPerFile > 0 && bytesWritten >= maxBytesPerFile)
+        || (maxRowsPerFile > 0 && rowsWritten >= maxRowsPerFile)
+        || isExpired(fileAge);
+  }
+
+  public boolean isExpired(Duration fileAge) {
+    return hasMaxFileAge() && fileAge.compareTo(maxFileAge) >= 0;
+  }
+
+  private boolean hasMaxFileAge() {
+    return !maxFileAge.isZero() && !maxFileAge.isNegative();
+  }
+
+}
@@ -24,6 +24,12 @@ public interface S3Writer {
    */
   void write(UUID id, AirbyteRecordMessage recordMessage) throws IOException;
 
+  /**
+   * @return number of bytes written to the S3 object so far, including the bytes that are still
+   *         buffered.
+   */
+  long getBytesWritten();
+
   /**
    * Close the S3 writer for the stream.
    */
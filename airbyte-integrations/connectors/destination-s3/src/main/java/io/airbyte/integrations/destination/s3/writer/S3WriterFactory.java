@@ -14,10 +14,22 @@ import java.sql.Timestamp;
  */
 public interface S3WriterFactory {
 
+  default S3Writer create(S3DestinationConfig config,
+                          AmazonS3 s3Client,
+                          ConfiguredAirbyteStream configuredStream,
+                          Timestamp uploadTimestamp)
+      throws Exception {
+    return create(config, s3Client, configuredStream, uploadTimestamp, 0);
+  }
+
+  /**
+   * @param partId index of the file among the files written for the stream during this upload.
+   */
   S3Writer create(S3DestinationConfig config,
                   AmazonS3 s3Client,
                   ConfiguredAirbyteStream configuredStream,
-                  Timestamp uploadTimestamp)
+                  Timestamp uploadTimestamp,
+                  int partId)
       throws Exception;
 
 }
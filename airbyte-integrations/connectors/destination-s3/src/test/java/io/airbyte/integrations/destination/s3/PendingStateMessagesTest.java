@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.s3;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.integrations.destination.s3.writer.RotatingS3Writer;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteMessage.Type;
+import io.airbyte.protocol.models.AirbyteStateMessage;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+class PendingStateMessagesTest {
+
+  private static final AirbyteMessage STATE_1 = stateMessage(1);
+  private static final AirbyteMessage STATE_2 = stateMessage(2);
+  private static final AirbyteMessage STATE_3 = stateMessage(3);
+
+  @Test
+  void testNoStateMessage() {
+    assertTrue(new PendingStateMessages().pollCommitted(RotatingS3Writer.NO_PENDING_RECORD).isEmpty());
+  }
+
+  @Test
+  void testReturnsStateOnceItsRecordsAreCommitted() {
+    final PendingStateMessages pendingStateMessages = new PendingStateMessages();
+    pendingStateMessages.add(2, STATE_1);
+    pendingStateMessages.add(5, STATE_2);
+
+    // the second record is still pending.
+    assertTrue(pendingStateMessages.pollCommitted(1).isEmpty());
+    assertEquals(Optional.of(STATE_1), pendingStateMessages.pollCommitted(2));
+    // a state message is only returned once.
+    assertTrue(pendingStateMessages.pollCommitted(4).isEmpty());
+    assertEquals(Optional.of(STATE_2), pendingStateMessages.pollCommitted(RotatingS3Writer.NO_PENDING_RECORD));
+  }
+
+  @Test
+  void testReturnsLatestCommittedState() {
+    final PendingStateMessages pendingStateMessages = new PendingStateMessages();
+    pendingStateMessages.add(1, STATE_1);
+    pendingStateMessages.add(1, STATE_2);
+    pendingStateMessages.add(3, STATE_3);
+
+    assertEquals(Optional.of(STATE_2), pendingStateMessages.pollCommitted(2));
+    assertEquals(Optional.of(STATE_3), pendingStateMessages.pollCommitted(3));
+  }
+
+  private static AirbyteMessage stateMessage(int checkpoint) {
+    return new AirbyteMessage()
+        .withType(Type.STATE)
+        .withState(new AirbyteStateMessage().withData(Jsons.jsonNode(Map.of("checkpoint", checkpoint))));
+  }
+
+}
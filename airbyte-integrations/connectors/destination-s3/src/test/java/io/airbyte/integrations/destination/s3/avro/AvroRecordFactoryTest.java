@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.s3.avro;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.integrations.base.JavaBaseConstants;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.apache.avro.AvroTypeException;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tech.allegro.schema.json2avro.converter.JsonAvroConverter;
+
+class AvroRecordFactoryTest {
+
+  private static final JsonNode JSON_SCHEMA = Jsons.deserialize("{\n"
+      + "  \"type\": \"object\",\n"
+      + "  \"properties\": {\n"
+      + "    \"id\": { \"type\": \"integer\" },\n"
+      + "    \"name\": { \"type\": [\"null\", \"string\"] },\n"
+      + "    \"price\": { \"type\": \"number\" },\n"
+      + "    \"active\": { \"type\": \"boolean\" },\n"
+      + "    \"field-with-dash\": { \"type\": \"string\" },\n"
+      + "    \"tags\": { \"type\": \"array\", \"items\": { \"type\": \"string\" } },\n"
+      + "    \"mixed\": { \"type\": \"array\", \"items\": [{ \"type\": \"string\" }, { \"type\": \"integer\" }] },\n"
+      + "    \"id_or_name\": { \"anyOf\": [{ \"type\": \"integer\" }, { \"type\": \"string\" }] },\n"
+      + "    \"address\": {\n"
+      + "      \"type\": \"object\",\n"
+      + "      \"properties\": {\n"
+      + "        \"street name\": { \"type\": \"string\" },\n"
+      + "        \"number\": { \"type\": \"integer\" }\n"
+      + "      }\n"
+      + "    }\n"
+      + "  }\n"
+      + "}");
+
+  private JsonToAvroSchemaConverter schemaConverter;
+  private Schema schema;
+  private AvroRecordFactory recordFactory;
+
+  @BeforeEach
+  void setup() {
+    schemaConverter = new JsonToAvroSchemaConverter();
+    schema = schemaConverter.getAvroSchema(JSON_SCHEMA, "test_stream", "test_namespace", true);
+    recordFactory = new AvroRecordFactory(schema);
+  }
+
+  @Test
+  void testMatchesJsonAvroConverter() throws Exception {
+    final List<String> records = List.of(
+        "{ \"id\": 1, \"name\": \"apple\", \"price\": 1.5, \"active\": true, \"field-with-dash\": \"a\", \"tags\": [\"x\", \"y\"],"
+            + " \"mixed\": [\"x\", 2, null], \"id_or_name\": \"one\", \"address\": { \"street name\": \"main\", \"number\": 3 } }",
+        // missing fields, null values and integral numbers for a number field
+        "{ \"id\": 2, \"name\": null, \"price\": 2, \"tags\": [], \"id_or_name\": 2 }",
+        // fields that are not in the schema are dropped
+        "{ \"id\": 3, \"unknown\": { \"nested\": [1, 2] }, \"address\": { \"number\": 4, \"unknown\": \"a\" } }");
+
+    for (final String record : records) {
+      final UUID id = UUID.randomUUID();
+      final AirbyteRecordMessage recordMessage = new AirbyteRecordMessage()
+          .withEmittedAt(1_600_000_000_000L)
+          .withData(Jsons.deserialize(record));
+
+      final GenericData.Record expected = convertWithJsonAvroConverter(id, recordMessage);
+      assertEquals(expected, recordFactory.getAvroRecord(id, recordMessage));
+    }
+  }
+
+  @Test
+  void testFailsOnMismatchedType() {
+    final AirbyteRecordMessage recordMessage = new AirbyteRecordMessage()
+        .withEmittedAt(1_600_000_000_000L)
+        .withData(Jsons.deserialize("{ \"id\": 1, \"name\": { \"first\": \"apple\" } }"));
+
+    assertThrows(AvroTypeException.class, () -> recordFactory.getAvroRecord(UUID.randomUUID(), recordMessage));
+  }
+
+  /**
+   * How the records were converted before: by standardizing the field names of the json, and parsing
+   * it again with JsonAvroConverter.
+   */
+  private GenericData.Record convertWithJsonAvroConverter(final UUID id, final AirbyteRecordMessage recordMessage) throws Exception {
+    final JsonFieldNameUpdater nameUpdater = new JsonFieldNameUpdater(schemaConverter.getStandardizedNames());
+    final ObjectNode jsonRecord = (ObjectNode) Jsons.jsonNode(Map.of(
+        JavaBaseConstants.COLUMN_NAME_AB_ID, id.toString(),
+        JavaBaseConstants.COLUMN_NAME_EMITTED_AT, recordMessage.getEmittedAt()));
+    jsonRecord.setAll((ObjectNode) nameUpdater.getJsonWithStandardizedFieldNames(recordMessage.getData()));
+    return new JsonAvroConverter().convertToGenericDataRecord(Jsons.serialize(jsonRecord).getBytes(), schema);
+  }
+
+}
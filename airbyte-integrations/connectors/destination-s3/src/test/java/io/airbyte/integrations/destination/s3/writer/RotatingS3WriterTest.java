@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.s3.writer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.google.common.util.concurrent.MoreExecutors;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class RotatingS3WriterTest {
+
+  private static final AirbyteRecordMessage RECORD = new AirbyteRecordMessage().withStream("stream");
+
+  private List<S3Writer> parts;
+  private RotatingS3Writer writer;
+
+  @BeforeEach
+  void setup() {
+    parts = new ArrayList<>();
+    // files are finalized on the calling thread, so that they are finalized as soon as they are full.
+    writer = new RotatingS3Writer("stream", new S3FileRotationPolicy(0, 2), partId -> {
+      assertEquals(parts.size(), partId.intValue());
+      final S3Writer part = mock(S3Writer.class);
+      parts.add(part);
+      return part;
+    }, MoreExecutors.newDirectExecutorService());
+  }
+
+  @Test
+  void testRotatesFullFiles() throws Exception {
+    writer.initialize();
+    for (int i = 0; i < 5; i++) {
+      writer.write(UUID.randomUUID(), RECORD, i);
+    }
+    writer.close(false);
+
+    assertEquals(3, parts.size());
+    verify(parts.get(0)).initialize();
+    verify(parts.get(1), never()).initialize();
+    verify(parts.get(0), times(2)).write(any(), any());
+    verify(parts.get(2), times(1)).write(any(), any());
+    for (final S3Writer part : parts) {
+      verify(part).close(false);
+    }
+  }
+
+  @Test
+  void testDoesNotCreateEmptyFile() throws Exception {
+    writer.initialize();
+    for (int i = 0; i < 4; i++) {
+      writer.write(UUID.randomUUID(), RECORD, i);
+    }
+    writer.close(false);
+
+    assertEquals(2, parts.size());
+  }
+
+  @Test
+  void testFirstPendingSequence() throws Exception {
+    writer.initialize();
+    assertEquals(RotatingS3Writer.NO_PENDING_RECORD, writer.getFirstPendingSequence());
+
+    writer.write(UUID.randomUUID(), RECORD, 10);
+    assertEquals(10, writer.getFirstPendingSequence());
+    writer.write(UUID.randomUUID(), RECORD, 12);
+    assertEquals(RotatingS3Writer.NO_PENDING_RECORD, writer.getFirstPendingSequence());
+    writer.write(UUID.randomUUID(), RECORD, 15);
+    assertEquals(15, writer.getFirstPendingSequence());
+  }
+
+  @Test
+  void testFailedFinalization() throws Exception {
+    writer.initialize();
+    doThrow(new IOException("upload failed")).when(parts.get(0)).close(false);
+    writer.write(UUID.randomUUID(), RECORD, 0);
+    writer.write(UUID.randomUUID(), RECORD, 1);
+    writer.write(UUID.randomUUID(), RECORD, 2);
+
+    assertThrows(IOException.class, () -> writer.close(false));
+    verify(parts.get(1)).close(true);
+  }
+
+  @Test
+  void testRotatesExpiredFiles() throws Exception {
+    final AtomicReference<Instant> now = new AtomicReference<>(Instant.EPOCH);
+    final RotatingS3Writer writer = new RotatingS3Writer("stream", new S3FileRotationPolicy(0, 0, Duration.ofMinutes(10)), partId -> {
+      final S3Writer part = mock(S3Writer.class);
+      parts.add(part);
+      return part;
+    }, MoreExecutors.newDirectExecutorService(), now::get);
+    writer.initialize();
+
+    // an empty file is not rotated, however old it is.
+    now.set(now.get().plus(Duration.ofHours(1)));
+    writer.rotateIfExpired();
+    assertEquals(1, parts.size());
+
+    writer.write(UUID.randomUUID(), RECORD, 0);
+    now.set(now.get().plus(Duration.ofMinutes(9)));
+    writer.rotateIfExpired();
+    assertEquals(0, writer.getFirstPendingSequence());
+
+    // the file expires while the stream does not receive any record.
+    now.set(now.get().plus(Duration.ofMinutes(1)));
+    writer.rotateIfExpired();
+    verify(parts.get(0)).close(false);
+    assertEquals(RotatingS3Writer.NO_PENDING_RECORD, writer.getFirstPendingSequence());
+
+    // a file is also rotated when a record is written to it after it expired.
+    writer.write(UUID.randomUUID(), RECORD, 1);
+    now.set(now.get().plus(Duration.ofMinutes(10)));
+    writer.write(UUID.randomUUID(), RECORD, 2);
+    verify(parts.get(1)).close(false);
+    assertEquals(2, parts.size());
+  }
+
+}
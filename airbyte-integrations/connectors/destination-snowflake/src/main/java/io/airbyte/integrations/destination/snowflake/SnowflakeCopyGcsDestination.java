@@ -9,6 +9,7 @@ import io.airbyte.db.jdbc.JdbcDatabase;
 import io.airbyte.integrations.base.AirbyteMessageConsumer;
 import io.airbyte.integrations.destination.ExtendedNameTransformer;
 import io.airbyte.integrations.destination.jdbc.SqlOperations;
+import io.airbyte.integrations.destination.jdbc.copy.CopyCommitPolicy;
 import io.airbyte.integrations.destination.jdbc.copy.CopyConsumerFactory;
 import io.airbyte.integrations.destination.jdbc.copy.CopyDestination;
 import io.airbyte.integrations.destination.jdbc.copy.gcs.GcsConfig;
@@ -32,7 +33,8 @@ public class SnowflakeCopyGcsDestination extends CopyDestination {
         GcsConfig.getGcsConfig(config),
         catalog,
         new SnowflakeGcsStreamCopierFactory(),
-        getConfiguredSchema(config));
+        getConfiguredSchema(config),
+        CopyCommitPolicy.fromConfig(config));
   }
 
   @Override
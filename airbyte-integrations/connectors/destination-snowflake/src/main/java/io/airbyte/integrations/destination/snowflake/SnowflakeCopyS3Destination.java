@@ -9,6 +9,7 @@ import io.airbyte.db.jdbc.JdbcDatabase;
 import io.airbyte.integrations.base.AirbyteMessageConsumer;
 import io.airbyte.integrations.destination.ExtendedNameTransformer;
 import io.airbyte.integrations.destination.jdbc.SqlOperations;
+import io.airbyte.integrations.destination.jdbc.copy.CopyCommitPolicy;
 import io.airbyte.integrations.destination.jdbc.copy.CopyConsumerFactory;
 import io.airbyte.integrations.destination.jdbc.copy.CopyDestination;
 import io.airbyte.integrations.destination.jdbc.copy.s3.S3Config;
@@ -31,7 +32,8 @@ public class SnowflakeCopyS3Destination extends CopyDestination {
         getS3Config(config),
         catalog,
         new SnowflakeS3StreamCopierFactory(),
-        getConfiguredSchema(config));
+        getConfiguredSchema(config),
+        CopyCommitPolicy.fromConfig(config));
   }
 
   @Override
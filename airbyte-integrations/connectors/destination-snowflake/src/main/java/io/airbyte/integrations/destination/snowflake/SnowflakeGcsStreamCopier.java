@@ -5,6 +5,7 @@
 package io.airbyte.integrations.destination.snowflake;
 
 import com.google.cloud.storage.Storage;
+import com.google.common.collect.Lists;
 import io.airbyte.db.jdbc.JdbcDatabase;
 import io.airbyte.integrations.destination.ExtendedNameTransformer;
 import io.airbyte.integrations.destination.jdbc.SqlOperations;
@@ -12,9 +13,17 @@ import io.airbyte.integrations.destination.jdbc.copy.gcs.GcsConfig;
 import io.airbyte.integrations.destination.jdbc.copy.gcs.GcsStreamCopier;
 import io.airbyte.protocol.models.DestinationSyncMode;
 import java.sql.SQLException;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class SnowflakeGcsStreamCopier extends GcsStreamCopier {
 
+  private static final Logger LOGGER = LoggerFactory.getLogger(SnowflakeGcsStreamCopier.class);
+  // Snowflake accepts at most 1000 files in the FILES option of a COPY.
+  private static final int MAX_FILES_PER_COPY = 1000;
+
   public SnowflakeGcsStreamCopier(String stagingFolder,
                                   DestinationSyncMode destSyncMode,
                                   String schema,
@@ -27,6 +36,32 @@ public class SnowflakeGcsStreamCopier extends GcsStreamCopier {
     super(stagingFolder, destSyncMode, schema, streamName, storageClient, db, gcsConfig, nameTransformer, sqlOperations);
   }
 
+  /**
+   * Loads all the staging files of the stream with a single COPY listing them, rather than with one
+   * COPY per file.
+   */
+  @Override
+  public void copyStagingFileToTemporaryTable() throws Exception {
+    LOGGER.info("Starting copy to tmp table: {} in destination for stream: {}, schema: {}.", tmpTableName, streamName, schemaName);
+    final String stagingPrefix = String.join("/", stagingFolder, schemaName) + "/";
+    final List<String> fileNames = gcsStagingFiles.stream()
+        .map(gcsStagingFile -> gcsStagingFile.substring(stagingPrefix.length()))
+        .sorted()
+        .collect(Collectors.toList());
+    for (final List<String> files : Lists.partition(fileNames, MAX_FILES_PER_COPY)) {
+      final var copyQuery = String.format(
+          "COPY INTO %s.%s FROM '%s' storage_integration = gcs_airbyte_integration "
+              + "FILES = (%s) "
+              + "file_format = (type = csv field_delimiter = ',' skip_header = 0 FIELD_OPTIONALLY_ENCLOSED_BY = '\"');",
+          schemaName,
+          tmpTableName,
+          getFullGcsPath(gcsConfig.getBucketName(), stagingPrefix),
+          files.stream().map(file -> "'" + file + "'").collect(Collectors.joining(", ")));
+      db.execute(copyQuery);
+    }
+    LOGGER.info("Copy to tmp table {} in destination for stream {} complete.", tmpTableName, streamName);
+  }
+
   @Override
   public void copyGcsCsvFileIntoTable(JdbcDatabase database,
                                       String gcsFileLocation,
@@ -5,6 +5,7 @@
 package io.airbyte.integrations.destination.snowflake;
 
 import com.amazonaws.services.s3.AmazonS3;
+import com.google.common.collect.Lists;
 import io.airbyte.commons.string.Strings;
 import io.airbyte.db.jdbc.JdbcDatabase;
 import io.airbyte.integrations.destination.ExtendedNameTransformer;
@@ -13,6 +14,8 @@ import io.airbyte.integrations.destination.jdbc.copy.s3.S3Config;
 import io.airbyte.integrations.destination.jdbc.copy.s3.S3StreamCopier;
 import io.airbyte.protocol.models.DestinationSyncMode;
 import java.sql.SQLException;
+import java.util.List;
+import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -20,6 +23,8 @@ public class SnowflakeS3StreamCopier extends S3StreamCopier {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(SnowflakeS3StreamCopier.class);
   private static final int FILE_PREFIX_LENGTH = 5;
+  // Snowflake accepts at most 1000 files in the FILES option of a COPY.
+  private static final int MAX_FILES_PER_COPY = 1000;
 
   public SnowflakeS3StreamCopier(String stagingFolder,
                                  DestinationSyncMode destSyncMode,
@@ -34,6 +39,35 @@ public class SnowflakeS3StreamCopier extends S3StreamCopier {
         client, db, s3Config, nameTransformer, sqlOperations);
   }
 
+  /**
+   * Loads all the staging files of the stream with a single COPY listing them, rather than with one
+   * COPY per file.
+   */
+  @Override
+  public void copyStagingFileToTemporaryTable() throws Exception {
+    LOGGER.info("Starting copy to tmp table: {} in destination for stream: {}, schema: {}, .", tmpTableName, streamName, schemaName);
+    final String stagingPrefix = String.join("/", stagingFolder, schemaName) + "/";
+    final List<String> fileNames = s3StagingFiles.stream()
+        .map(s3StagingFile -> s3StagingFile.substring(stagingPrefix.length()))
+        .sorted()
+        .collect(Collectors.toList());
+    for (final List<String> files : Lists.partition(fileNames, MAX_FILES_PER_COPY)) {
+      final var copyQuery = String.format(
+          "COPY INTO %s.%s FROM '%s' "
+              + "CREDENTIALS=(aws_key_id='%s' aws_secret_key='%s') "
+              + "FILES = (%s) "
+              + "file_format = (type = csv field_delimiter = ',' skip_header = 0 FIELD_OPTIONALLY_ENCLOSED_BY = '\"');",
+          schemaName,
+          tmpTableName,
+          getFullS3Path(s3Config.getBucketName(), stagingPrefix),
+          s3Config.getAccessKeyId(),
+          s3Config.getSecretAccessKey(),
+          files.stream().map(file -> "'" + file + "'").collect(Collectors.joining(", ")));
+      db.execute(copyQuery);
+    }
+    LOGGER.info("Copy to tmp table {} in destination for stream {} complete.", tmpTableName, streamName);
+  }
+
   @Override
   public void copyS3CsvFileIntoTable(JdbcDatabase database, String s3FileLocation, String schema, String tableName, S3Config s3Config)
       throws SQLException {
@@ -4,6 +4,7 @@
 
 package io.airbyte.integrations.source.db2;
 
+import io.airbyte.db.jdbc.FetchSizeEstimator;
 import io.airbyte.db.jdbc.JdbcStreamingQueryConfiguration;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
@@ -16,7 +17,7 @@ public class Db2JdbcStreamingQueryConfiguration implements
   public void accept(Connection connection, PreparedStatement preparedStatement)
       throws SQLException {
     connection.setAutoCommit(false);
-    preparedStatement.setFetchSize(1000);
+    preparedStatement.setFetchSize(FetchSizeEstimator.INITIAL_FETCH_SIZE);
   }
 
 }
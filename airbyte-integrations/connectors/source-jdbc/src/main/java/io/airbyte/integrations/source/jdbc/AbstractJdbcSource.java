@@ -11,20 +11,32 @@ import io.airbyte.commons.functional.CheckedConsumer;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.util.AutoCloseableIterator;
 import io.airbyte.commons.util.AutoCloseableIterators;
+import io.airbyte.commons.util.MoreIterators;
 import io.airbyte.db.Databases;
 import io.airbyte.db.SqlDatabase;
 import io.airbyte.db.jdbc.JdbcDatabase;
 import io.airbyte.db.jdbc.JdbcSourceOperations;
 import io.airbyte.db.jdbc.JdbcStreamingQueryConfiguration;
 import io.airbyte.db.jdbc.JdbcUtils;
+import io.airbyte.integrations.base.AirbyteStreamNameNamespacePair;
 import io.airbyte.integrations.base.Source;
 import io.airbyte.integrations.source.relationaldb.AbstractRelationalDbSource;
+import io.airbyte.integrations.source.relationaldb.StateManager;
 import io.airbyte.integrations.source.relationaldb.TableInfo;
+import io.airbyte.integrations.source.relationaldb.models.DbFullRefreshChunk;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteMessage.Type;
+import io.airbyte.protocol.models.CatalogHelpers;
 import io.airbyte.protocol.models.CommonField;
+import io.airbyte.protocol.models.ConfiguredAirbyteStream;
+import io.airbyte.protocol.models.DestinationSyncMode;
 import io.airbyte.protocol.models.JsonSchemaPrimitive;
+import io.airbyte.protocol.models.SyncMode;
+import java.math.BigInteger;
 import java.sql.JDBCType;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.time.Instant;
 import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -32,6 +44,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -59,6 +72,8 @@ public abstract class AbstractJdbcSource extends AbstractRelationalDbSource<JDBC
   private static final String INTERNAL_COLUMN_NAME = "columnName";
   private static final String INTERNAL_COLUMN_TYPE = "columnType";
 
+  private static final Set<JDBCType> CHUNK_KEY_TYPES = Set.of(JDBCType.TINYINT, JDBCType.SMALLINT, JDBCType.INTEGER, JDBCType.BIGINT);
+
   private final String driverClass;
   private final JdbcStreamingQueryConfiguration jdbcStreamingQueryConfiguration;
   protected final JdbcSourceOperations sourceOperations;
@@ -211,6 +226,200 @@ public abstract class AbstractJdbcSource extends AbstractRelationalDbSource<JDBC
     return quoteString;
   }
 
+  /**
+   * Number of primary key ranges a full refresh of a table is split into, read concurrently by up to
+   * {@link #getCappedChunkReadParallelism(JsonNode)} connections. For streams appended to the destination, each
+   * completed range is recorded in the state so that a failed read only reads the remaining ranges
+   * again. Streams overwritten in the destination are read in full by every attempt, since the
+   * destination drops the records of a failed attempt. Only tables with a single integer primary key
+   * are split, other tables are read with a single query. 0, the default, reads each table with a
+   * single query.
+   *
+   * @param config source config of the read.
+   */
+  protected int getFullRefreshChunkCount(final JsonNode config) {
+    return 0;
+  }
+
+  @Override
+  protected AutoCloseableIterator<AirbyteMessage> createReadIterator(final JdbcDatabase database,
+                                                                     final ConfiguredAirbyteStream airbyteStream,
+                                                                     final TableInfo<CommonField<JDBCType>> table,
+                                                                     final StateManager stateManager,
+                                                                     final Instant emittedAt) {
+    final int chunkCount = getFullRefreshChunkCount(database.getSourceConfig());
+    if (chunkCount > 1 && airbyteStream.getSyncMode() == SyncMode.FULL_REFRESH) {
+      final Optional<CommonField<JDBCType>> chunkKey = getChunkKey(database, table);
+      if (chunkKey.isPresent()) {
+        return getChunkedFullRefreshStream(database, airbyteStream, table, chunkKey.get(), chunkCount, stateManager, emittedAt);
+      }
+    }
+    return super.createReadIterator(database, airbyteStream, table, stateManager, emittedAt);
+  }
+
+  private Optional<CommonField<JDBCType>> getChunkKey(final JdbcDatabase database, final TableInfo<CommonField<JDBCType>> table) {
+    final String fullyQualifiedTableName = sourceOperations.getFullyQualifiedTableName(table.getNameSpace(), table.getName());
+    final List<String> primaryKeys = discoverPrimaryKeys(database, List.of(table)).getOrDefault(fullyQualifiedTableName, List.of());
+    final Optional<CommonField<JDBCType>> chunkKey = primaryKeys.size() != 1 ? Optional.empty()
+        : table.getFields().stream()
+            .filter(field -> field.getName().equals(primaryKeys.get(0)))
+            .filter(field -> CHUNK_KEY_TYPES.contains(field.getType()))
+            .findFirst();
+    if (chunkKey.isEmpty()) {
+      LOGGER.info("Reading table {} with a single query, only tables with a single integer primary key are split. Primary key: {}",
+          fullyQualifiedTableName, primaryKeys);
+    }
+    return chunkKey;
+  }
+
+  private AutoCloseableIterator<AirbyteMessage> getChunkedFullRefreshStream(final JdbcDatabase database,
+                                                                            final ConfiguredAirbyteStream airbyteStream,
+                                                                            final TableInfo<CommonField<JDBCType>> table,
+                                                                            final CommonField<JDBCType> chunkKey,
+                                                                            final int chunkCount,
+                                                                            final StateManager stateManager,
+                                                                            final Instant emittedAt) {
+    final String streamName = airbyteStream.getStream().getName();
+    final String namespace = airbyteStream.getStream().getNamespace();
+    final AirbyteStreamNameNamespacePair pair = new AirbyteStreamNameNamespacePair(streamName, namespace);
+    final Set<String> selectedFieldsInCatalog = CatalogHelpers.getTopLevelFieldNames(airbyteStream);
+    final List<String> selectedDatabaseFields = table.getFields()
+        .stream()
+        .map(CommonField::getName)
+        .filter(selectedFieldsInCatalog::contains)
+        .collect(Collectors.toList());
+
+    // the records read by a failed attempt are only kept by the destination if it appends them.
+    final boolean resumable = airbyteStream.getDestinationSyncMode() == DestinationSyncMode.APPEND
+        || airbyteStream.getDestinationSyncMode() == DestinationSyncMode.APPEND_DEDUP;
+    final Optional<List<DbFullRefreshChunk>> previousChunks = stateManager.getFullRefreshChunks(pair);
+    final List<DbFullRefreshChunk> chunks;
+    if (previousChunks.isPresent() && resumable) {
+      LOGGER.info("Resuming chunked full refresh of stream {}", pair);
+      chunks = previousChunks.get();
+    } else {
+      if (previousChunks.isPresent()) {
+        LOGGER.info("Reading stream {} again from the start, its destination sync mode is {}", pair, airbyteStream.getDestinationSyncMode());
+      }
+      final Optional<List<DbFullRefreshChunk>> plannedChunks = planChunks(database, table, chunkKey, chunkCount);
+      if (plannedChunks.isEmpty() && previousChunks.isEmpty()) {
+        return getFullRefreshStream(database, streamName, namespace, selectedDatabaseFields, table, emittedAt);
+      }
+      // a table emptied since the previous attempt is read with a single unbounded range, so that the
+      // progress of the previous attempt is still cleared below.
+      chunks = plannedChunks.orElseGet(() -> List.of(new DbFullRefreshChunk().withCompleted(false)));
+      if (resumable) {
+        stateManager.setFullRefreshChunks(pair, chunks);
+      }
+    }
+
+    final List<AutoCloseableIterator<AirbyteMessage>> chunkIterators = new ArrayList<>();
+    for (int i = 0; i < chunks.size(); i++) {
+      final DbFullRefreshChunk chunk = chunks.get(i);
+      if (chunk.getCompleted()) {
+        continue;
+      }
+      final int chunkIndex = i;
+      final AutoCloseableIterator<AirbyteMessage> records = getMessageIterator(
+          queryTableChunk(database, selectedDatabaseFields, table.getNameSpace(), table.getName(), chunkKey, chunk),
+          streamName,
+          namespace,
+          emittedAt.toEpochMilli());
+      if (!resumable) {
+        chunkIterators.add(records);
+        continue;
+      }
+      // the state is built once all the records of the chunk have been read, on the same thread.
+      chunkIterators.add(AutoCloseableIterators.concatWithEagerClose(
+          records,
+          AutoCloseableIterators.lazyIterator(() -> AutoCloseableIterators.fromIterator(MoreIterators.of(new AirbyteMessage()
+              .withType(Type.STATE)
+              .withState(stateManager.completeFullRefreshChunkAndEmit(pair, chunkIndex)))))));
+    }
+    LOGGER.info("Reading {} of {} chunks of stream {}", chunkIterators.size(), chunks.size(), pair);
+
+    final int chunkReadParallelism = getCappedChunkReadParallelism(database.getSourceConfig());
+    final AutoCloseableIterator<AirbyteMessage> chunksIterator = chunkReadParallelism > 1
+        ? AutoCloseableIterators.concatInParallel(chunkIterators, chunkReadParallelism, PARALLEL_READ_QUEUE_CAPACITY)
+        : AutoCloseableIterators.concatWithEagerClose(chunkIterators);
+    if (!resumable && previousChunks.isEmpty()) {
+      return chunksIterator;
+    }
+    // also emitted for a stream that is not resumable, to drop the progress of a previous attempt.
+    return AutoCloseableIterators.concatWithEagerClose(
+        chunksIterator,
+        AutoCloseableIterators.lazyIterator(() -> AutoCloseableIterators.fromIterator(MoreIterators.of(new AirbyteMessage()
+            .withType(Type.STATE)
+            .withState(stateManager.clearFullRefreshChunksAndEmit(pair))))));
+  }
+
+  private Optional<List<DbFullRefreshChunk>> planChunks(final JdbcDatabase database,
+                                                        final TableInfo<CommonField<JDBCType>> table,
+                                                        final CommonField<JDBCType> chunkKey,
+                                                        final int chunkCount) {
+    try {
+      final List<BigInteger[]> bounds = database.bufferedResultSetQuery(
+          connection -> connection.createStatement().executeQuery(String.format("SELECT MIN(%s), MAX(%s) FROM %s",
+              sourceOperations.enquoteIdentifier(connection, chunkKey.getName()),
+              sourceOperations.enquoteIdentifier(connection, chunkKey.getName()),
+              sourceOperations.getFullyQualifiedTableNameWithQuoting(connection, table.getNameSpace(), table.getName()))),
+          resultSet -> new BigInteger[] {toBigInteger(resultSet.getObject(1)), toBigInteger(resultSet.getObject(2))});
+      if (bounds.isEmpty() || bounds.get(0)[0] == null || bounds.get(0)[1] == null) {
+        // empty table, nothing to split.
+        return Optional.empty();
+      }
+      return Optional.of(FullRefreshChunks.plan(bounds.get(0)[0], bounds.get(0)[1], chunkCount));
+    } catch (SQLException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  private static BigInteger toBigInteger(final Object value) {
+    return value == null ? null : new BigInteger(value.toString());
+  }
+
+  private AutoCloseableIterator<JsonNode> queryTableChunk(final JdbcDatabase database,
+                                                          final List<String> columnNames,
+                                                          final String schemaName,
+                                                          final String tableName,
+                                                          final CommonField<JDBCType> chunkKey,
+                                                          final DbFullRefreshChunk chunk) {
+    LOGGER.info("Queueing query for chunk [{}, {}) of table: {}", chunk.getLowerBound(), chunk.getUpperBound(), tableName);
+    return AutoCloseableIterators.lazyIterator(() -> {
+      try {
+        final Stream<JsonNode> stream = database.query(
+            connection -> {
+              final String quotedKey = sourceOperations.enquoteIdentifier(connection, chunkKey.getName());
+              final List<String> conditions = new ArrayList<>();
+              if (chunk.getLowerBound() != null) {
+                conditions.add(String.format("%s >= ?", quotedKey));
+              }
+              if (chunk.getUpperBound() != null) {
+                conditions.add(String.format("%s < ?", quotedKey));
+              }
+              final String sql = String.format("SELECT %s FROM %s%s",
+                  sourceOperations.enquoteIdentifierList(connection, columnNames),
+                  sourceOperations.getFullyQualifiedTableNameWithQuoting(connection, schemaName, tableName),
+                  conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions));
+
+              final PreparedStatement preparedStatement = connection.prepareStatement(sql);
+              int parameterIndex = 1;
+              if (chunk.getLowerBound() != null) {
+                sourceOperations.setStatementField(preparedStatement, parameterIndex++, chunkKey.getType(), chunk.getLowerBound());
+              }
+              if (chunk.getUpperBound() != null) {
+                sourceOperations.setStatementField(preparedStatement, parameterIndex, chunkKey.getType(), chunk.getUpperBound());
+              }
+              return preparedStatement;
+            },
+            sourceOperations::rowToJson);
+        return AutoCloseableIterators.fromStream(stream);
+      } catch (SQLException e) {
+        throw new RuntimeException(e);
+      }
+    });
+  }
+
   @Override
   public AutoCloseableIterator<JsonNode> queryTableIncremental(JdbcDatabase database,
                                                                List<String> columnNames,
@@ -219,20 +428,57 @@ public abstract class AbstractJdbcSource extends AbstractRelationalDbSource<JDBC
                                                                String cursorField,
                                                                JDBCType cursorFieldType,
                                                                String cursor) {
+    final String cursorCondition = cursor == null ? null : "%s > ?";
+    // intermediate states are only valid if records come in cursor order.
+    if (!isOrderedIncrementalRead(database.getSourceConfig())) {
+      return queryTableByCursor(database, columnNames, schemaName, tableName, cursorField, cursorFieldType, cursorCondition, cursor, false);
+    } else if (cursor != null) {
+      return queryTableByCursor(database, columnNames, schemaName, tableName, cursorField, cursorFieldType, cursorCondition, cursor, true);
+    }
+    // databases disagree on whether ORDER BY puts nulls first or last, so records without a cursor
+    // value are read first with their own query. states emitted while reading them hold no cursor,
+    // so a failed read starts over instead of skipping them with the > predicate.
+    return AutoCloseableIterators.concatWithEagerClose(
+        queryTableByCursor(database, columnNames, schemaName, tableName, cursorField, cursorFieldType, "%s IS NULL", null, false),
+        queryTableByCursor(database, columnNames, schemaName, tableName, cursorField, cursorFieldType, "%s IS NOT NULL", null, true));
+  }
+
+  /**
+   * @param cursorCondition condition on the quoted cursor field, null to read all records.
+   * @param cursor value bound to the parameter of cursorCondition, if any.
+   * @param ordered whether to order records by cursor.
+   */
+  private AutoCloseableIterator<JsonNode> queryTableByCursor(final JdbcDatabase database,
+                                                             final List<String> columnNames,
+                                                             final String schemaName,
+                                                             final String tableName,
+                                                             final String cursorField,
+                                                             final JDBCType cursorFieldType,
+                                                             final String cursorCondition,
+                                                             final String cursor,
+                                                             final boolean ordered) {
     LOGGER.info("Queueing query for table: {}", tableName);
     return AutoCloseableIterators.lazyIterator(() -> {
       try {
         final Stream<JsonNode> stream = database.query(
             connection -> {
               LOGGER.info("Preparing query for table: {}", tableName);
-              final String sql = String.format("SELECT %s FROM %s WHERE %s > ?",
+              final String quotedCursorField = sourceOperations.enquoteIdentifier(connection, cursorField);
+              final StringBuilder sql = new StringBuilder(String.format("SELECT %s FROM %s",
                   sourceOperations.enquoteIdentifierList(connection, columnNames),
                   sourceOperations
-                      .getFullyQualifiedTableNameWithQuoting(connection, schemaName, tableName),
-                  sourceOperations.enquoteIdentifier(connection, cursorField));
+                      .getFullyQualifiedTableNameWithQuoting(connection, schemaName, tableName)));
+              if (cursorCondition != null) {
+                sql.append(" WHERE ").append(String.format(cursorCondition, quotedCursorField));
+              }
+              if (ordered) {
+                sql.append(String.format(" ORDER BY %s ASC", quotedCursorField));
+              }
 
-              final PreparedStatement preparedStatement = connection.prepareStatement(sql);
-              sourceOperations.setStatementField(preparedStatement, 1, cursorFieldType, cursor);
+              final PreparedStatement preparedStatement = connection.prepareStatement(sql.toString());
+              if (cursor != null) {
+                sourceOperations.setStatementField(preparedStatement, 1, cursorFieldType, cursor);
+              }
               LOGGER.info("Executing query for table: {}", tableName);
               return preparedStatement;
             },
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.source.jdbc;
+
+import io.airbyte.integrations.source.relationaldb.models.DbFullRefreshChunk;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splits the key space of an integer primary key into ranges that can be read independently.
+ */
+public class FullRefreshChunks {
+
+  /**
+   * Splits [minKey, maxKey] into up to chunkCount ranges of equal width. The first range has no lower
+   * bound and the last one no upper bound, so that together they cover any key, including keys added
+   * after min and max were sampled.
+   *
+   * @param minKey smallest key of the table
+   * @param maxKey largest key of the table
+   * @param chunkCount number of ranges wanted
+   * @return ranges ordered by key, fewer than chunkCount if the key space is too small.
+   */
+  public static List<DbFullRefreshChunk> plan(final BigInteger minKey, final BigInteger maxKey, final int chunkCount) {
+    final BigInteger width = maxKey.subtract(minKey).add(BigInteger.ONE);
+    final List<DbFullRefreshChunk> chunks = new ArrayList<>();
+    String lowerBound = null;
+    BigInteger previousBoundary = minKey;
+    for (int i = 1; i < chunkCount; i++) {
+      final BigInteger boundary = minKey.add(width.multiply(BigInteger.valueOf(i)).divide(BigInteger.valueOf(chunkCount)));
+      if (boundary.compareTo(previousBoundary) <= 0) {
+        continue;
+      }
+      chunks.add(new DbFullRefreshChunk().withLowerBound(lowerBound).withUpperBound(boundary.toString()).withCompleted(false));
+      lowerBound = boundary.toString();
+      previousBoundary = boundary;
+    }
+    chunks.add(new DbFullRefreshChunk().withLowerBound(lowerBound).withUpperBound(null).withCompleted(false));
+    return chunks;
+  }
+
+}
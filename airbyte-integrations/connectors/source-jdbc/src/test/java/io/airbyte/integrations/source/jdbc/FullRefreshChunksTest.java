@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.source.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.airbyte.integrations.source.relationaldb.models.DbFullRefreshChunk;
+import java.math.BigInteger;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class FullRefreshChunksTest {
+
+  @Test
+  void testPlan() {
+    final List<DbFullRefreshChunk> expected = List.of(
+        chunk(null, "26"),
+        chunk("26", "51"),
+        chunk("51", "76"),
+        chunk("76", null));
+
+    assertEquals(expected, FullRefreshChunks.plan(BigInteger.ONE, BigInteger.valueOf(100), 4));
+  }
+
+  @Test
+  void testPlanSmallKeySpace() {
+    final List<DbFullRefreshChunk> expected = List.of(
+        chunk(null, "6"),
+        chunk("6", null));
+
+    assertEquals(expected, FullRefreshChunks.plan(BigInteger.valueOf(5), BigInteger.valueOf(6), 4));
+  }
+
+  @Test
+  void testPlanSingleKey() {
+    assertEquals(List.of(chunk(null, null)), FullRefreshChunks.plan(BigInteger.TEN, BigInteger.TEN, 4));
+  }
+
+  private static DbFullRefreshChunk chunk(final String lowerBound, final String upperBound) {
+    return new DbFullRefreshChunk().withLowerBound(lowerBound).withUpperBound(upperBound).withCompleted(false);
+  }
+
+}
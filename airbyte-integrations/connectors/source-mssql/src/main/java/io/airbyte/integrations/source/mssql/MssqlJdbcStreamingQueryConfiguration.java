@@ -4,6 +4,7 @@
 
 package io.airbyte.integrations.source.mssql;
 
+import io.airbyte.db.jdbc.FetchSizeEstimator;
 import io.airbyte.db.jdbc.JdbcStreamingQueryConfiguration;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
@@ -14,7 +15,7 @@ public class MssqlJdbcStreamingQueryConfiguration implements JdbcStreamingQueryC
   @Override
   public void accept(Connection connection, PreparedStatement preparedStatement) throws SQLException {
     connection.setAutoCommit(false);
-    preparedStatement.setFetchSize(1000);
+    preparedStatement.setFetchSize(FetchSizeEstimator.INITIAL_FETCH_SIZE);
   }
 
 }
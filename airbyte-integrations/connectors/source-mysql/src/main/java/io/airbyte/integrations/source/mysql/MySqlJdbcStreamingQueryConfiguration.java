@@ -4,6 +4,7 @@
 
 package io.airbyte.integrations.source.mysql;
 
+import io.airbyte.db.jdbc.FetchSizeEstimator;
 import io.airbyte.db.jdbc.JdbcStreamingQueryConfiguration;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
@@ -22,7 +23,7 @@ public class MySqlJdbcStreamingQueryConfiguration implements JdbcStreamingQueryC
     // "s3cr3t");
     // We set userCursorFetch in MySqlSource.
     connection.setAutoCommit(false);
-    preparedStatement.setFetchSize(1000);
+    preparedStatement.setFetchSize(FetchSizeEstimator.INITIAL_FETCH_SIZE);
     // If for some reason, you cannot set useCursorFetch in the connection, fall back on this
     // implementation below. It fetches records one at a time, which while inefficient, at least does
     // not risk OOM.
@@ -96,6 +96,21 @@ public class PostgresSource extends AbstractJdbcSource implements Source {
     return Jsons.jsonNode(configBuilder.build());
   }
 
+  @Override
+  protected int getReadParallelism(final JsonNode config) {
+    return config.hasNonNull("read_parallelism") ? config.get("read_parallelism").asInt() : 1;
+  }
+
+  @Override
+  protected int getFullRefreshChunkCount(final JsonNode config) {
+    return config.hasNonNull("full_refresh_chunk_count") ? config.get("full_refresh_chunk_count").asInt() : 0;
+  }
+
+  @Override
+  protected int getStateEmissionFrequency(final JsonNode config) {
+    return config.hasNonNull("state_emission_frequency") ? config.get("state_emission_frequency").asInt() : 0;
+  }
+
   @Override
   public Set<String> getExcludedInternalNameSpaces() {
     return Set.of("information_schema", "pg_catalog", "pg_internal", "catalog_history");
@@ -6,6 +6,7 @@ package io.airbyte.integrations.source.postgres;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.fasterxml.jackson.databind.JsonNode;
@@ -16,6 +17,7 @@ import com.google.common.collect.Sets;
 import io.airbyte.commons.io.IOs;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.string.Strings;
+import io.airbyte.commons.util.AutoCloseableIterator;
 import io.airbyte.commons.util.MoreIterators;
 import io.airbyte.db.Database;
 import io.airbyte.db.Databases;
@@ -26,17 +28,24 @@ import io.airbyte.protocol.models.AirbyteRecordMessage;
 import io.airbyte.protocol.models.AirbyteStream;
 import io.airbyte.protocol.models.CatalogHelpers;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
+import io.airbyte.protocol.models.DestinationSyncMode;
 import io.airbyte.protocol.models.Field;
 import io.airbyte.protocol.models.JsonSchemaPrimitive;
 import io.airbyte.protocol.models.SyncMode;
 import io.airbyte.test.utils.PostgreSQLContainerHelper;
 import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.jooq.SQLDialect;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
@@ -49,6 +58,9 @@ class PostgresSourceTest {
 
   private static final String SCHEMA_NAME = "public";
   private static final String STREAM_NAME = "id_and_name";
+  private static final String CHUNKED_STREAM_NAME = "chunked";
+  private static final int CHUNKED_ROW_COUNT = 100;
+  private static final String CURSORED_STREAM_NAME = "cursored";
   private static final AirbyteCatalog CATALOG = new AirbyteCatalog().withStreams(List.of(
       CatalogHelpers.createAirbyteStream(
           STREAM_NAME,
@@ -203,6 +215,40 @@ class PostgresSourceTest {
     assertEquals(ASCII_MESSAGES, actualMessages);
   }
 
+  @Test
+  void testReadsStreamsConcurrently() throws Exception {
+    final JsonNode config = getConfig(PSQL_DB, dbName);
+    ((ObjectNode) config).put("read_parallelism", 2);
+    final ConfiguredAirbyteCatalog configuredCatalog = Jsons.clone(CONFIGURED_CATALOG);
+    configuredCatalog.setStreams(configuredCatalog.getStreams().stream()
+        .filter(s -> s.getStream().getName().equals(STREAM_NAME) || s.getStream().getName().equals("names"))
+        .collect(Collectors.toList()));
+
+    // blocks any read of the first stream until the transaction ends.
+    try (final Connection connection = DriverManager.getConnection(
+        String.format("jdbc:postgresql://%s:%s/%s", config.get("host").asText(), config.get("port").asText(), dbName),
+        config.get("username").asText(),
+        config.get("password").asText())) {
+      connection.setAutoCommit(false);
+      connection.createStatement().execute("LOCK TABLE id_and_name IN ACCESS EXCLUSIVE MODE;");
+
+      try (final AutoCloseableIterator<AirbyteMessage> iterator = new PostgresSource().read(config, configuredCatalog, null)) {
+        // read one after the other, the second stream would wait for the first one.
+        final AirbyteMessage firstMessage = assertTimeoutPreemptively(Duration.ofMinutes(1), iterator::next);
+        assertEquals("names", firstMessage.getRecord().getStream());
+
+        connection.commit();
+        final List<AirbyteMessage> messages = Lists.newArrayList(firstMessage);
+        iterator.forEachRemaining(messages::add);
+        setEmittedAtToNull(messages);
+        assertEquals(
+            ASCII_MESSAGES,
+            messages.stream().filter(message -> message.getRecord().getStream().equals(STREAM_NAME)).collect(Collectors.toSet()));
+        assertEquals(3, messages.stream().filter(message -> message.getRecord().getStream().equals("names")).count());
+      }
+    }
+  }
+
   @Test
   void testIsCdc() {
     final JsonNode config = getConfig(PSQL_DB, dbName);
@@ -215,6 +261,151 @@ class PostgresSourceTest {
     assertTrue(PostgresSource.isCdc(config));
   }
 
+  @Test
+  void testChunkedFullRefreshResumesAppendStream() throws Exception {
+    final JsonNode config = createChunkedTable();
+    final ConfiguredAirbyteCatalog catalog = getChunkedCatalog(DestinationSyncMode.APPEND);
+
+    // the first attempt fails right after completing a chunk.
+    final List<AirbyteMessage> firstAttempt = readUntilFirstState(new PostgresSource().read(config, catalog, null));
+    final AirbyteMessage state = firstAttempt.get(firstAttempt.size() - 1);
+    assertEquals(Type.STATE, state.getType());
+    final JsonNode chunks = getFullRefreshChunks(state);
+    assertEquals(4, chunks.size());
+    assertEquals(1, MoreIterators.toList(chunks.elements()).stream().filter(chunk -> chunk.get("completed").asBoolean()).count());
+
+    final List<AirbyteMessage> secondAttempt = MoreIterators.toList(new PostgresSource().read(config, catalog, state.getState().getData()));
+    final List<Integer> firstIds = getRecordIds(firstAttempt);
+    final List<Integer> secondIds = getRecordIds(secondAttempt);
+    assertFalse(firstIds.isEmpty());
+    assertTrue(firstIds.stream().noneMatch(secondIds::contains));
+
+    final Set<Integer> allIds = Sets.newHashSet(firstIds);
+    allIds.addAll(secondIds);
+    assertEquals(IntStream.rangeClosed(1, CHUNKED_ROW_COUNT).boxed().collect(Collectors.toSet()), allIds);
+    assertEquals(CHUNKED_ROW_COUNT, firstIds.size() + secondIds.size());
+    assertEquals(0, getFullRefreshChunks(secondAttempt.get(secondAttempt.size() - 1)).size());
+  }
+
+  @Test
+  void testChunkedFullRefreshDoesNotResumeOverwriteStream() throws Exception {
+    final JsonNode config = createChunkedTable();
+    final ConfiguredAirbyteCatalog catalog = getChunkedCatalog(DestinationSyncMode.OVERWRITE);
+
+    // nothing of a failed attempt survives in the destination, so no progress is recorded.
+    final List<AirbyteMessage> firstAttempt = MoreIterators.toList(new PostgresSource().read(config, catalog, null));
+    assertTrue(firstAttempt.stream().noneMatch(message -> message.getType() == Type.STATE));
+    assertEquals(CHUNKED_ROW_COUNT, getRecordIds(firstAttempt).size());
+
+    // progress recorded while the stream was appended is ignored and cleared.
+    final List<AirbyteMessage> appendAttempt =
+        readUntilFirstState(new PostgresSource().read(config, getChunkedCatalog(DestinationSyncMode.APPEND), null));
+    final JsonNode appendState = appendAttempt.get(appendAttempt.size() - 1).getState().getData();
+
+    final List<AirbyteMessage> secondAttempt = MoreIterators.toList(new PostgresSource().read(config, catalog, appendState));
+    assertEquals(
+        IntStream.rangeClosed(1, CHUNKED_ROW_COUNT).boxed().collect(Collectors.toList()),
+        getRecordIds(secondAttempt).stream().sorted().collect(Collectors.toList()));
+    final AirbyteMessage lastMessage = secondAttempt.get(secondAttempt.size() - 1);
+    assertEquals(Type.STATE, lastMessage.getType());
+    assertEquals(0, getFullRefreshChunks(lastMessage).size());
+  }
+
+  private JsonNode createChunkedTable() throws Exception {
+    final JsonNode config = getConfig(PSQL_DB, dbName);
+    try (final Database database = getDatabaseFromConfig(config)) {
+      database.query(ctx -> {
+        ctx.fetch("CREATE TABLE chunked(id INTEGER, name VARCHAR(200), PRIMARY KEY (id));");
+        ctx.fetch(String.format("INSERT INTO chunked (id, name) SELECT i, 'name' || i FROM generate_series(1, %d) i;", CHUNKED_ROW_COUNT));
+        return null;
+      });
+    }
+    ((ObjectNode) config).put("full_refresh_chunk_count", 4);
+    return config;
+  }
+
+  private static ConfiguredAirbyteCatalog getChunkedCatalog(final DestinationSyncMode destinationSyncMode) {
+    return new ConfiguredAirbyteCatalog().withStreams(List.of(CatalogHelpers.createConfiguredAirbyteStream(
+        CHUNKED_STREAM_NAME,
+        SCHEMA_NAME,
+        Field.of("id", JsonSchemaPrimitive.NUMBER),
+        Field.of("name", JsonSchemaPrimitive.STRING))
+        .withSyncMode(SyncMode.FULL_REFRESH)
+        .withDestinationSyncMode(destinationSyncMode)));
+  }
+
+  @Test
+  void testOrderedIncrementalReadResumesWithoutSkippingNullCursors() throws Exception {
+    final JsonNode config = getConfig(PSQL_DB, dbName);
+    try (final Database database = getDatabaseFromConfig(config)) {
+      database.query(ctx -> {
+        ctx.fetch("CREATE TABLE cursored(id INTEGER, updated_at INTEGER, PRIMARY KEY (id));");
+        ctx.fetch("INSERT INTO cursored (id, updated_at) VALUES (1, 1), (2, NULL), (3, 2), (4, NULL), (5, 3), (6, 4), (7, NULL), (8, 5);");
+        return null;
+      });
+    }
+    ((ObjectNode) config).put("state_emission_frequency", 2);
+    final ConfiguredAirbyteCatalog catalog = new ConfiguredAirbyteCatalog().withStreams(List.of(CatalogHelpers.createConfiguredAirbyteStream(
+        CURSORED_STREAM_NAME,
+        SCHEMA_NAME,
+        Field.of("id", JsonSchemaPrimitive.NUMBER),
+        Field.of("updated_at", JsonSchemaPrimitive.NUMBER))
+        .withSyncMode(SyncMode.INCREMENTAL)
+        .withCursorField(List.of("updated_at"))
+        .withDestinationSyncMode(DestinationSyncMode.APPEND)));
+
+    // the first attempt fails right after the first state holding a cursor.
+    final List<AirbyteMessage> firstAttempt = readUntil(
+        new PostgresSource().read(config, catalog, null),
+        message -> message.getType() == Type.STATE && getCursor(message) != null);
+    final List<Integer> firstIds = getRecordIds(firstAttempt);
+    // records without a cursor are read first, since the > predicate of a resumed read skips them.
+    assertEquals(Set.of(2, 4, 7), Set.copyOf(firstIds.subList(0, 3)));
+    final AirbyteMessage state = firstAttempt.get(firstAttempt.size() - 1);
+    assertEquals(Type.STATE, state.getType());
+
+    final List<AirbyteMessage> secondAttempt = MoreIterators.toList(new PostgresSource().read(config, catalog, state.getState().getData()));
+    final List<Integer> allIds = new ArrayList<>(firstIds);
+    allIds.addAll(getRecordIds(secondAttempt));
+    assertEquals(IntStream.rangeClosed(1, 8).boxed().collect(Collectors.toList()), allIds.stream().sorted().collect(Collectors.toList()));
+    assertEquals("5", getCursor(secondAttempt.get(secondAttempt.size() - 1)));
+  }
+
+  private static List<AirbyteMessage> readUntilFirstState(final AutoCloseableIterator<AirbyteMessage> iterator) throws Exception {
+    return readUntil(iterator, message -> message.getType() == Type.STATE);
+  }
+
+  private static List<AirbyteMessage> readUntil(final AutoCloseableIterator<AirbyteMessage> iterator, final Predicate<AirbyteMessage> isLast)
+      throws Exception {
+    final List<AirbyteMessage> messages = new ArrayList<>();
+    try (iterator) {
+      while (iterator.hasNext()) {
+        final AirbyteMessage message = iterator.next();
+        messages.add(message);
+        if (isLast.test(message)) {
+          break;
+        }
+      }
+    }
+    return messages;
+  }
+
+  private static String getCursor(final AirbyteMessage stateMessage) {
+    final JsonNode cursor = stateMessage.getState().getData().get("streams").get(0).get("cursor");
+    return cursor == null || cursor.isNull() ? null : cursor.asText();
+  }
+
+  private static List<Integer> getRecordIds(final List<AirbyteMessage> messages) {
+    return messages.stream()
+        .filter(message -> message.getType() == Type.RECORD)
+        .map(message -> message.getRecord().getData().get("id").asInt())
+        .collect(Collectors.toList());
+  }
+
+  private static JsonNode getFullRefreshChunks(final AirbyteMessage stateMessage) {
+    return stateMessage.getState().getData().get("streams").get(0).path("full_refresh_chunks");
+  }
+
   private static AirbyteMessage createRecord(String stream, String namespace, Map<Object, Object> data) {
     return new AirbyteMessage().withType(Type.RECORD)
         .withRecord(new AirbyteRecordMessage().withData(Jsons.jsonNode(data)).withStream(stream).withNamespace(namespace));
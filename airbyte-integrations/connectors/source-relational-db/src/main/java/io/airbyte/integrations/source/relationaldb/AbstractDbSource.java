@@ -33,6 +33,7 @@ import io.airbyte.protocol.models.ConfiguredAirbyteStream;
 import io.airbyte.protocol.models.Field;
 import io.airbyte.protocol.models.JsonSchemaPrimitive;
 import io.airbyte.protocol.models.SyncMode;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -58,6 +59,10 @@ public abstract class AbstractDbSource<DataType, Database extends AbstractDataba
 
   private static final Logger LOGGER = LoggerFactory.getLogger(AbstractDbSource.class);
 
+  // each stream read at once holds a pooled connection, the connection pool allows 8 by default.
+  private static final int MAX_READ_PARALLELISM = 8;
+  protected static final int PARALLEL_READ_QUEUE_CAPACITY = 1000;
+
   @Override
   public AirbyteConnectionStatus check(final JsonNode config) throws Exception {
     try (final Database database = createDatabaseInternal(config)) {
@@ -116,8 +121,16 @@ public abstract class AbstractDbSource<DataType, Database extends AbstractDataba
         .flatMap(Collection::stream)
         .collect(Collectors.toList());
 
+    final int readParallelism = getCappedReadParallelism(config);
+    // each stream is read by a single thread, so its state messages stay behind its records. a state
+    // may include the cursor another stream just reached, but the records of that stream up to that
+    // cursor were queued before its own state was built, and thus before this state.
+    final AutoCloseableIterator<AirbyteMessage> messageIterator = readParallelism > 1
+        ? AutoCloseableIterators.concatInParallel(iteratorList, readParallelism, PARALLEL_READ_QUEUE_CAPACITY)
+        : AutoCloseableIterators.concatWithEagerClose(iteratorList);
+
     return AutoCloseableIterators
-        .appendOnClose(AutoCloseableIterators.concatWithEagerClose(iteratorList), () -> {
+        .appendOnClose(messageIterator, () -> {
           LOGGER.info("Closing database connection pool.");
           Exceptions.toRuntime(database::close);
           LOGGER.info("Closed database connection pool.");
@@ -208,6 +221,7 @@ public abstract class AbstractDbSource<DataType, Database extends AbstractDataba
         .filter(selectedFieldsInCatalog::contains)
         .collect(Collectors.toList());
 
+    final JsonNode config = database.getSourceConfig();
     final AutoCloseableIterator<AirbyteMessage> iterator;
     if (airbyteStream.getSyncMode() == SyncMode.INCREMENTAL) {
       final String cursorField = IncrementalUtils.getCursorField(airbyteStream);
@@ -216,6 +230,9 @@ public abstract class AbstractDbSource<DataType, Database extends AbstractDataba
       final AutoCloseableIterator<AirbyteMessage> airbyteMessageIterator;
       if (cursorOptional.isPresent()) {
         airbyteMessageIterator = getIncrementalStream(database, airbyteStream, selectedDatabaseFields, table, cursorOptional.get(), emittedAt);
+      } else if (isOrderedIncrementalRead(config)) {
+        // the first read still has to be ordered by cursor for intermediate states to be valid.
+        airbyteMessageIterator = getIncrementalStream(database, airbyteStream, selectedDatabaseFields, table, null, emittedAt);
       } else {
         // if no cursor is present then this is the first read for is the same as doing a full refresh read.
         airbyteMessageIterator = getFullRefreshStream(database, streamName, namespace, selectedDatabaseFields, table, emittedAt);
@@ -230,7 +247,9 @@ public abstract class AbstractDbSource<DataType, Database extends AbstractDataba
           pair,
           cursorField,
           cursorOptional.orElse(null),
-          cursorType),
+          cursorType,
+          getStateEmissionFrequency(config),
+          getStateEmissionInterval(config)),
           airbyteMessageIterator);
     } else if (airbyteStream.getSyncMode() == SyncMode.FULL_REFRESH) {
       iterator = getFullRefreshStream(database, streamName, namespace, selectedDatabaseFields, table, emittedAt);
@@ -291,6 +310,59 @@ public abstract class AbstractDbSource<DataType, Database extends AbstractDataba
     return getMessageIterator(queryStream, streamName, namespace, emittedAt.toEpochMilli());
   }
 
+  /**
+   * Number of streams read at once, each with its own connection from the pool of the database.
+   * Capped to {@value MAX_READ_PARALLELISM} to protect the source database. 1, the default, reads
+   * streams one after the other.
+   *
+   * @param config source config of the read.
+   */
+  protected int getReadParallelism(final JsonNode config) {
+    return 1;
+  }
+
+  protected final int getCappedReadParallelism(final JsonNode config) {
+    return Math.max(1, Math.min(getReadParallelism(config), MAX_READ_PARALLELISM));
+  }
+
+  /**
+   * Number of parts of a single stream read at once. Up to {@link #getCappedReadParallelism} streams
+   * are already read at once, so this is reduced for their product to stay within
+   * {@value MAX_READ_PARALLELISM} connections.
+   */
+  protected final int getCappedChunkReadParallelism(final JsonNode config) {
+    final int readParallelism = getCappedReadParallelism(config);
+    return Math.max(1, Math.min(readParallelism, MAX_READ_PARALLELISM / readParallelism));
+  }
+
+  /**
+   * Incremental reads emit an intermediate state every this many records (see
+   * {@link StateDecoratingIterator}), so that a failed read can resume from it. 0, the default,
+   * only emits a state once the stream has been fully read. Enabling it requires
+   * {@link #queryTableIncremental} to return records ordered by cursor, also when called without a
+   * cursor for the first read of a stream.
+   *
+   * @param config source config of the read.
+   */
+  protected int getStateEmissionFrequency(final JsonNode config) {
+    return 0;
+  }
+
+  /**
+   * Same as {@link #getStateEmissionFrequency(JsonNode)}, based on the time elapsed since the last
+   * state. Zero, the default, disables it.
+   */
+  protected Duration getStateEmissionInterval(final JsonNode config) {
+    return Duration.ZERO;
+  }
+
+  /**
+   * @return true if {@link #queryTableIncremental} has to return records ordered by cursor.
+   */
+  protected boolean isOrderedIncrementalRead(final JsonNode config) {
+    return getStateEmissionFrequency(config) > 0 || !getStateEmissionInterval(config).isZero();
+  }
+
   protected String getFullyQualifiedTableName(final String nameSpace, final String tableName) {
     return nameSpace != null ? nameSpace + "." + tableName : tableName;
   }
@@ -453,7 +525,9 @@ public abstract class AbstractDbSource<DataType, Database extends AbstractDataba
 
   /**
    * Read incremental data from a table. Incremental read should returns only records where cursor
-   * column value is bigger than cursor.
+   * column value is bigger than cursor. If {@link #isOrderedIncrementalRead(JsonNode)}, records must
+   * be ordered by cursor and a null cursor means all records of the table, starting with the records
+   * without a cursor value: they are not read again once a state holds a cursor.
    *
    * @param database source database
    * @param columnNames interested column names
@@ -461,7 +535,7 @@ public abstract class AbstractDbSource<DataType, Database extends AbstractDataba
    * @param tableName target table
    * @param cursorField cursor field name
    * @param cursorFieldType cursor field type
-   * @param cursor cursor value
+   * @param cursor cursor value, null only for ordered reads
    * @return iterator with read data
    */
   public abstract AutoCloseableIterator<JsonNode> queryTableIncremental(Database database,
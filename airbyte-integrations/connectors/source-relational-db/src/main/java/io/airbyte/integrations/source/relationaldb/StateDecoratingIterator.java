@@ -11,10 +11,22 @@ import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.AirbyteMessage.Type;
 import io.airbyte.protocol.models.AirbyteStateMessage;
 import io.airbyte.protocol.models.JsonSchemaPrimitive;
+import java.time.Duration;
 import java.util.Iterator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Emits the records of an incremental stream followed by a state message holding the max cursor
+ * seen.
+ *
+ * <p>
+ * If the records are ordered by cursor, intermediate states can also be emitted while the stream is
+ * read, every stateEmissionFrequency records or stateEmissionInterval, so that a failed read resumes
+ * from the last state instead of from the start. Such a state is only emitted right before the first
+ * record of a new cursor value: all records up to the previous cursor value have been emitted by
+ * then, while records sharing the current max cursor may still be coming.
+ */
 public class StateDecoratingIterator extends AbstractIterator<AirbyteMessage> implements Iterator<AirbyteMessage> {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(StateDecoratingIterator.class);
@@ -24,9 +36,15 @@ public class StateDecoratingIterator extends AbstractIterator<AirbyteMessage> im
   private final AirbyteStreamNameNamespacePair pair;
   private final String cursorField;
   private final JsonSchemaPrimitive cursorType;
+  private final int stateEmissionFrequency;
+  private final long stateEmissionIntervalMillis;
 
   private String maxCursor;
   private boolean hasEmittedState;
+  // record read while emitting an intermediate state, returned right after it.
+  private AirbyteMessage pendingMessage;
+  private long recordsSinceLastState;
+  private long lastStateEmittedAtMillis;
 
   public StateDecoratingIterator(Iterator<AirbyteMessage> messageIterator,
                                  StateManager stateManager,
@@ -34,44 +52,95 @@ public class StateDecoratingIterator extends AbstractIterator<AirbyteMessage> im
                                  String cursorField,
                                  String initialCursor,
                                  JsonSchemaPrimitive cursorType) {
+    this(messageIterator, stateManager, pair, cursorField, initialCursor, cursorType, 0, Duration.ZERO);
+  }
+
+  /**
+   * @param stateEmissionFrequency number of records after which an intermediate state is emitted, 0
+   *        to disable. Only valid if messageIterator is ordered by cursor.
+   * @param stateEmissionInterval time after which an intermediate state is emitted, zero to disable.
+   *        Only valid if messageIterator is ordered by cursor.
+   */
+  public StateDecoratingIterator(Iterator<AirbyteMessage> messageIterator,
+                                 StateManager stateManager,
+                                 AirbyteStreamNameNamespacePair pair,
+                                 String cursorField,
+                                 String initialCursor,
+                                 JsonSchemaPrimitive cursorType,
+                                 int stateEmissionFrequency,
+                                 Duration stateEmissionInterval) {
     this.messageIterator = messageIterator;
     this.stateManager = stateManager;
     this.pair = pair;
     this.cursorField = cursorField;
     this.cursorType = cursorType;
     this.maxCursor = initialCursor;
+    this.stateEmissionFrequency = stateEmissionFrequency;
+    this.stateEmissionIntervalMillis = stateEmissionInterval.toMillis();
+    this.lastStateEmittedAtMillis = System.currentTimeMillis();
     stateManager.setIsCdc(false);
   }
 
   @Override
   protected AirbyteMessage computeNext() {
+    if (pendingMessage != null) {
+      final AirbyteMessage message = pendingMessage;
+      pendingMessage = null;
+      return message;
+    }
+
     if (messageIterator.hasNext()) {
       final AirbyteMessage message = messageIterator.next();
       if (message.getRecord().getData().hasNonNull(cursorField)) {
         final String cursorCandidate = message.getRecord().getData().get(cursorField).asText();
         if (IncrementalUtils.compareCursors(maxCursor, cursorCandidate, cursorType) < 0) {
+          if (shouldEmitIntermediateState()) {
+            // the state covers the records emitted so far, it has to be built before moving the max
+            // cursor to the one of this record.
+            final AirbyteMessage stateMessage = createStateMessage();
+            maxCursor = cursorCandidate;
+            pendingMessage = message;
+            recordsSinceLastState = 1;
+            return stateMessage;
+          }
           maxCursor = cursorCandidate;
         }
       }
 
+      recordsSinceLastState++;
       return message;
     } else if (!hasEmittedState) {
-      final AirbyteStateMessage stateMessage = stateManager.updateAndEmit(pair, maxCursor);
-      LOGGER.info("State Report: stream name: {}, original cursor field: {}, original cursor {}, cursor field: {}, new cursor: {}",
-          pair,
-          stateManager.getOriginalCursorField(pair).orElse(null),
-          stateManager.getOriginalCursor(pair).orElse(null),
-          stateManager.getCursorField(pair).orElse(null),
-          stateManager.getCursor(pair).orElse(null));
+      final AirbyteMessage stateMessage = createStateMessage();
       if (stateManager.getCursor(pair).isEmpty()) {
         LOGGER.warn("Cursor was for stream {} was null. This stream will replicate all records on the next run", pair);
       }
 
       hasEmittedState = true;
-      return new AirbyteMessage().withType(Type.STATE).withState(stateMessage);
+      return stateMessage;
     } else {
       return endOfData();
     }
   }
 
+  private boolean shouldEmitIntermediateState() {
+    if (recordsSinceLastState == 0) {
+      return false;
+    }
+    return (stateEmissionFrequency > 0 && recordsSinceLastState >= stateEmissionFrequency)
+        || (stateEmissionIntervalMillis > 0 && System.currentTimeMillis() - lastStateEmittedAtMillis >= stateEmissionIntervalMillis);
+  }
+
+  private AirbyteMessage createStateMessage() {
+    final AirbyteStateMessage stateMessage = stateManager.updateAndEmit(pair, maxCursor);
+    LOGGER.info("State Report: stream name: {}, original cursor field: {}, original cursor {}, cursor field: {}, new cursor: {}",
+        pair,
+        stateManager.getOriginalCursorField(pair).orElse(null),
+        stateManager.getOriginalCursor(pair).orElse(null),
+        stateManager.getCursorField(pair).orElse(null),
+        stateManager.getCursor(pair).orElse(null));
+
+    lastStateEmittedAtMillis = System.currentTimeMillis();
+    return new AirbyteMessage().withType(Type.STATE).withState(stateMessage);
+  }
+
 }
@@ -10,6 +10,7 @@ import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.integrations.base.AirbyteStreamNameNamespacePair;
+import io.airbyte.integrations.source.relationaldb.models.DbFullRefreshChunk;
 import io.airbyte.integrations.source.relationaldb.models.DbState;
 import io.airbyte.integrations.source.relationaldb.models.DbStreamState;
 import io.airbyte.protocol.models.AirbyteStateMessage;
@@ -17,10 +18,12 @@ import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
 import io.airbyte.protocol.models.ConfiguredAirbyteStream;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -33,6 +36,7 @@ public class StateManager {
   private static final Logger LOGGER = LoggerFactory.getLogger(StateManager.class);
 
   private final Map<AirbyteStreamNameNamespacePair, CursorInfo> pairToCursorInfo;
+  private final Map<AirbyteStreamNameNamespacePair, List<DbFullRefreshChunk>> pairToFullRefreshChunks;
   private Boolean isCdc;
   private final CdcStateManager cdcStateManager;
 
@@ -49,6 +53,12 @@ public class StateManager {
 
     pairToCursorInfo =
         new ImmutableMap.Builder<AirbyteStreamNameNamespacePair, CursorInfo>().putAll(createCursorInfoMap(serialized, catalog)).build();
+    pairToFullRefreshChunks = new ConcurrentHashMap<>();
+    for (final DbStreamState streamState : serialized.getStreams()) {
+      if (streamState.getFullRefreshChunks() != null && !streamState.getFullRefreshChunks().isEmpty()) {
+        pairToFullRefreshChunks.put(toAirbyteStreamNameNamespacePair(streamState), streamState.getFullRefreshChunks());
+      }
+    }
   }
 
   private static Map<AirbyteStreamNameNamespacePair, CursorInfo> createCursorInfoMap(DbState serialized, ConfiguredAirbyteCatalog catalog) {
@@ -161,6 +171,33 @@ public class StateManager {
     return toState();
   }
 
+  /**
+   * @return primary key ranges of a chunked full refresh of the stream that did not complete, if any.
+   */
+  public Optional<List<DbFullRefreshChunk>> getFullRefreshChunks(AirbyteStreamNameNamespacePair pair) {
+    return Optional.ofNullable(pairToFullRefreshChunks.get(pair));
+  }
+
+  /**
+   * Records the primary key ranges a chunked full refresh of the stream is going to read. They are
+   * part of the emitted states until {@link #clearFullRefreshChunksAndEmit} is called.
+   */
+  synchronized public void setFullRefreshChunks(AirbyteStreamNameNamespacePair pair, List<DbFullRefreshChunk> chunks) {
+    pairToFullRefreshChunks.put(pair, chunks);
+  }
+
+  synchronized public AirbyteStateMessage completeFullRefreshChunkAndEmit(AirbyteStreamNameNamespacePair pair, int chunkIndex) {
+    final List<DbFullRefreshChunk> chunks = pairToFullRefreshChunks.get(pair);
+    Preconditions.checkState(chunks != null, "Could not find full refresh chunks for stream: " + pair);
+    chunks.get(chunkIndex).setCompleted(true);
+    return toState();
+  }
+
+  synchronized public AirbyteStateMessage clearFullRefreshChunksAndEmit(AirbyteStreamNameNamespacePair pair) {
+    pairToFullRefreshChunks.remove(pair);
+    return toState();
+  }
+
   public void setIsCdc(boolean isCdc) {
     if (this.isCdc == null) {
       this.isCdc = isCdc;
@@ -186,7 +223,8 @@ public class StateManager {
                 .withStreamName(e.getKey().getName())
                 .withStreamNamespace(e.getKey().getNamespace())
                 .withCursorField(e.getValue().getCursorField() == null ? Collections.emptyList() : Lists.newArrayList(e.getValue().getCursorField()))
-                .withCursor(e.getValue().getCursor()))
+                .withCursor(e.getValue().getCursor())
+                .withFullRefreshChunks(pairToFullRefreshChunks.get(e.getKey())))
             .collect(Collectors.toList()))
         .withCdcState(cdcStateManager.getCdcState());
 
@@ -6,6 +6,9 @@ package io.airbyte.validation.json;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.networknt.schema.JsonSchema;
 import com.networknt.schema.JsonSchemaFactory;
 import com.networknt.schema.SchemaValidatorsConfig;
 import com.networknt.schema.SpecVersion;
@@ -27,10 +30,15 @@ public class JsonSchemaValidator {
 
   private final SchemaValidatorsConfig schemaValidatorsConfig;
   private final JsonSchemaFactory jsonSchemaFactory;
+  // building the validators of a schema is expensive, so they are cached by identity of the schema
+  // node (weak keys compare by identity). schema nodes must therefore not be mutated once they have
+  // been used for validation. weak keys also let schemas that are no longer used be collected.
+  private final Cache<JsonNode, JsonSchema> compiledSchemas;
 
   public JsonSchemaValidator() {
     this.schemaValidatorsConfig = new SchemaValidatorsConfig();
     this.jsonSchemaFactory = JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V7);
+    this.compiledSchemas = CacheBuilder.newBuilder().weakKeys().build();
   }
 
   public Set<String> validate(JsonNode schemaJson, JsonNode objectJson) {
@@ -45,8 +53,16 @@ public class JsonSchemaValidator {
     Preconditions.checkNotNull(schemaJson);
     Preconditions.checkNotNull(objectJson);
 
-    return jsonSchemaFactory.getSchema(schemaJson, schemaValidatorsConfig)
-        .validate(objectJson);
+    return getCompiledSchema(schemaJson).validate(objectJson);
+  }
+
+  private JsonSchema getCompiledSchema(JsonNode schemaJson) {
+    JsonSchema compiledSchema = compiledSchemas.getIfPresent(schemaJson);
+    if (compiledSchema == null) {
+      compiledSchema = jsonSchemaFactory.getSchema(schemaJson, schemaValidatorsConfig);
+      compiledSchemas.put(schemaJson, compiledSchema);
+    }
+    return compiledSchema;
   }
 
   public boolean test(JsonNode schemaJson, JsonNode objectJson) {
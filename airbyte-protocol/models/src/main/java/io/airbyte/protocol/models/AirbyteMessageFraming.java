@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.protocol.models;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.airbyte.commons.jackson.MoreMappers;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.PushbackInputStream;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Binary alternative to json lines for exchanging AirbyteMessages between the worker and a
+ * connector. Each message is written as a frame made of its length (4 bytes, big endian) followed by
+ * the message encoded as Smile.
+ *
+ * <p>
+ * Framing is negotiated: the worker requests it by writing {@link #REQUESTED_FORMAT} to
+ * {@link #FORMAT_REQUEST_FILENAME} in the working directory of the connector. A connector that
+ * supports it starts its output with {@link #PREAMBLE}, which can never start a json line. Any other
+ * connector ignores the file and keeps writing json lines, which the worker detects by the absence
+ * of the preamble.
+ *
+ * <p>
+ * The last frame is followed by a zero length, after which the connector writes json lines again,
+ * e.g. the logs of its shutdown.
+ */
+public final class AirbyteMessageFraming {
+
+  public static final String FORMAT_REQUEST_FILENAME = "airbyte_message_format";
+  public static final String REQUESTED_FORMAT = "framed_smile";
+  public static final byte[] PREAMBLE = new byte[] {0, 'A', 'B', 'F', '1'};
+
+  // a single message larger than this is certainly a corrupted length.
+  private static final int MAX_FRAME_SIZE_BYTES = 256 * 1024 * 1024;
+
+  private static final ObjectMapper SMILE_MAPPER = MoreMappers.initSmileMapper();
+
+  private AirbyteMessageFraming() {}
+
+  public static void writePreamble(final DataOutputStream output) throws IOException {
+    output.write(PREAMBLE);
+  }
+
+  public static void writeFrame(final DataOutputStream output, final AirbyteMessage message) throws IOException {
+    final byte[] frame = SMILE_MAPPER.writeValueAsBytes(message);
+    output.writeInt(frame.length);
+    output.write(frame);
+  }
+
+  public static void writeEndOfFrames(final DataOutputStream output) throws IOException {
+    output.writeInt(0);
+  }
+
+  /**
+   * Consumes the preamble if the input starts with it. Otherwise the input is left untouched.
+   *
+   * @param input input to check, must be able to push back at least {@link #PREAMBLE} length bytes.
+   * @return true if the input starts with the preamble, i.e. holds frames.
+   */
+  public static boolean readPreamble(final PushbackInputStream input) throws IOException {
+    final byte[] start = input.readNBytes(PREAMBLE.length);
+    if (Arrays.equals(start, PREAMBLE)) {
+      return true;
+    }
+    input.unread(start);
+    return false;
+  }
+
+  /**
+   * @return the next message, or empty if the frames or the input ended. Once the frames ended, the
+   *         rest of the input holds json lines.
+   */
+  public static Optional<AirbyteMessage> readFrame(final DataInputStream input) throws IOException {
+    final int length;
+    try {
+      length = input.readInt();
+    } catch (final EOFException e) {
+      return Optional.empty();
+    }
+    if (length == 0) {
+      return Optional.empty();
+    }
+    if (length < 0 || length > MAX_FRAME_SIZE_BYTES) {
+      throw new IOException("Invalid frame length: " + length);
+    }
+
+    final byte[] frame = new byte[length];
+    input.readFully(frame);
+    return Optional.of(SMILE_MAPPER.readValue(frame, AirbyteMessage.class));
+  }
+
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.protocol.models;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.airbyte.commons.json.Jsons;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.PushbackInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+class AirbyteMessageFramingTest {
+
+  private static final AirbyteMessage RECORD = new AirbyteMessage()
+      .withType(AirbyteMessage.Type.RECORD)
+      .withRecord(new AirbyteRecordMessage()
+          .withStream("users")
+          .withNamespace("public")
+          .withEmittedAt(1L)
+          .withData(Jsons.jsonNode(Map.of("id", 1, "name", "ada"))));
+  private static final AirbyteMessage STATE = new AirbyteMessage()
+      .withType(AirbyteMessage.Type.STATE)
+      .withState(new AirbyteStateMessage().withData(Jsons.jsonNode(Map.of("cursor", "2021-01-01"))));
+
+  @Test
+  void testRoundTrip() throws IOException {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    final DataOutputStream output = new DataOutputStream(bytes);
+    AirbyteMessageFraming.writePreamble(output);
+    AirbyteMessageFraming.writeFrame(output, RECORD);
+    AirbyteMessageFraming.writeFrame(output, STATE);
+    output.flush();
+
+    final PushbackInputStream input = new PushbackInputStream(new ByteArrayInputStream(bytes.toByteArray()), AirbyteMessageFraming.PREAMBLE.length);
+    assertTrue(AirbyteMessageFraming.readPreamble(input));
+
+    final DataInputStream dataInput = new DataInputStream(input);
+    assertEquals(Optional.of(RECORD), AirbyteMessageFraming.readFrame(dataInput));
+    assertEquals(Optional.of(STATE), AirbyteMessageFraming.readFrame(dataInput));
+    assertEquals(Optional.empty(), AirbyteMessageFraming.readFrame(dataInput));
+  }
+
+  @Test
+  void testJsonLinesAfterEndOfFrames() throws IOException {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    final DataOutputStream output = new DataOutputStream(bytes);
+    AirbyteMessageFraming.writeFrame(output, RECORD);
+    AirbyteMessageFraming.writeEndOfFrames(output);
+    output.write("completed source\n".getBytes(StandardCharsets.UTF_8));
+    output.flush();
+
+    final DataInputStream input = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+    assertEquals(Optional.of(RECORD), AirbyteMessageFraming.readFrame(input));
+    assertEquals(Optional.empty(), AirbyteMessageFraming.readFrame(input));
+    assertEquals("completed source\n", new String(input.readAllBytes(), StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void testJsonLinesAreLeftUntouched() throws IOException {
+    final byte[] line = (Jsons.serialize(RECORD) + "\n").getBytes(StandardCharsets.UTF_8);
+    final PushbackInputStream input = new PushbackInputStream(new ByteArrayInputStream(line), AirbyteMessageFraming.PREAMBLE.length);
+
+    assertFalse(AirbyteMessageFraming.readPreamble(input));
+    assertEquals(new String(line, StandardCharsets.UTF_8), new String(input.readAllBytes(), StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void testInvalidFrameLength() {
+    final DataInputStream input = new DataInputStream(new ByteArrayInputStream(new byte[] {(byte) 0xff, 0, 0, 0}));
+
+    assertThrows(IOException.class, () -> AirbyteMessageFraming.readFrame(input));
+  }
+
+}
@@ -18,32 +18,66 @@ import io.airbyte.scheduler.persistence.job_factory.OAuthConfigSupplier;
 import io.airbyte.scheduler.persistence.job_factory.SyncJobFactory;
 import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.function.BiPredicate;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Schedules the sync jobs of the active connections. The scheduler keeps the last job and the next
+ * run time of each connection in memory, in a queue ordered by next run time, so that a run only
+ * looks at the connections that are due. The last jobs are refreshed with a single query for the
+ * connections whose jobs changed since the previous run, and the next run time of a connection is
+ * only recomputed when its last job or its config changes.
+ */
 public class JobScheduler implements Runnable {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(JobScheduler.class);
 
+  // jobs are timestamped by other processes, whose clocks can be slightly ahead of this one.
+  private static final Duration JOB_UPDATE_CLOCK_SKEW = Duration.ofMinutes(1);
+  // the last jobs of all the connections are reloaded this often, in case an update was missed.
+  private static final Duration FULL_REFRESH_INTERVAL = Duration.ofMinutes(10);
+
   private final JobPersistence jobPersistence;
   private final ConfigRepository configRepository;
-  private final BiPredicate<Optional<Job>, StandardSync> scheduleJobPredicate;
+  private final ScheduleJobPredicate scheduleJobPredicate;
   private final SyncJobFactory jobFactory;
+  private final Supplier<Instant> timeSupplier;
+
+  // these are only accessed by the scheduling thread.
+  private final Map<UUID, StandardSync> activeConnections = new HashMap<>();
+  // kept for inactive connections too, so that they are scheduled correctly once re-activated.
+  private final Map<UUID, Job> lastJobs = new HashMap<>();
+  private final Map<UUID, Instant> nextRunTimes = new HashMap<>();
+  // may hold outdated runs, which no longer match nextRunTimes and are skipped.
+  private final PriorityQueue<ScheduledRun> scheduledRuns = new PriorityQueue<>(Comparator.comparing(ScheduledRun::getRunTime));
+  private Instant lastJobsRefreshedAt;
+  private Instant lastFullRefreshAt;
 
   @VisibleForTesting
   JobScheduler(final JobPersistence jobPersistence,
                final ConfigRepository configRepository,
-               final BiPredicate<Optional<Job>, StandardSync> scheduleJobPredicate,
-               final SyncJobFactory jobFactory) {
+               final ScheduleJobPredicate scheduleJobPredicate,
+               final SyncJobFactory jobFactory,
+               final Supplier<Instant> timeSupplier) {
     this.jobPersistence = jobPersistence;
     this.configRepository = configRepository;
     this.scheduleJobPredicate = scheduleJobPredicate;
     this.jobFactory = jobFactory;
+    this.timeSupplier = timeSupplier;
   }
 
   public JobScheduler(final JobPersistence jobPersistence,
@@ -56,7 +90,8 @@ public class JobScheduler implements Runnable {
         new DefaultSyncJobFactory(
             new DefaultJobCreator(jobPersistence),
             configRepository,
-            new OAuthConfigSupplier(configRepository, false, trackingClient)));
+            new OAuthConfigSupplier(configRepository, false, trackingClient)),
+        Instant::now);
   }
 
   @Override
@@ -75,20 +110,41 @@ public class JobScheduler implements Runnable {
   private void scheduleSyncJobs() throws IOException {
     int jobsScheduled = 0;
     var start = System.currentTimeMillis();
-    final List<StandardSync> activeConnections = getAllActiveConnections();
+    final Instant now = timeSupplier.get();
+    final Set<UUID> changedConnections = new HashSet<>();
+    refreshActiveConnections(changedConnections);
+    refreshLastJobs(now, changedConnections);
     var queryEnd = System.currentTimeMillis();
-    LOGGER.debug("Total active connections: {}", activeConnections.size());
-    LOGGER.debug("Time to retrieve all connections: {} ms", queryEnd - start);
+    LOGGER.debug("Total active connections: {}, changed connections: {}", activeConnections.size(), changedConnections.size());
+    LOGGER.debug("Time to retrieve connections and jobs: {} ms", queryEnd - start);
 
-    for (StandardSync connection : activeConnections) {
-      final Optional<Job> previousJobOptional = jobPersistence.getLastReplicationJob(connection.getConnectionId());
+    changedConnections.forEach(this::updateNextRunTime);
 
-      if (scheduleJobPredicate.test(previousJobOptional, connection)) {
-        jobFactory.create(connection.getConnectionId());
+    final List<ScheduledRun> failedRuns = new ArrayList<>();
+    while (!scheduledRuns.isEmpty() && !scheduledRuns.peek().getRunTime().isAfter(now)) {
+      final ScheduledRun run = scheduledRuns.poll();
+      final UUID connectionId = run.getConnectionId();
+      if (!run.getRunTime().equals(nextRunTimes.get(connectionId))) {
+        continue;
+      }
+      // the connection is rescheduled once the job created here shows up as its last job.
+      nextRunTimes.remove(connectionId);
+
+      final StandardSync connection = activeConnections.get(connectionId);
+      if (scheduleJobPredicate.test(Optional.ofNullable(lastJobs.get(connectionId)), connection)) {
+        try {
+          jobFactory.create(connectionId);
+        } catch (RuntimeException e) {
+          LOGGER.error("Failed to create a job for connection {}", connectionId, e);
+          failedRuns.add(run);
+          continue;
+        }
         jobsScheduled++;
         SchedulerApp.PENDING_JOBS.getAndIncrement();
       }
     }
+    // retried on the next run, like the connections were before they were kept in memory.
+    failedRuns.forEach(this::schedule);
     var end = System.currentTimeMillis();
     LOGGER.debug("Time taken to schedule jobs: {} ms", end - start);
 
@@ -97,6 +153,62 @@ public class JobScheduler implements Runnable {
     }
   }
 
+  private void refreshActiveConnections(Set<UUID> changedConnections) {
+    final Map<UUID, StandardSync> connections = getAllActiveConnections().stream()
+        .collect(Collectors.toMap(StandardSync::getConnectionId, connection -> connection));
+
+    activeConnections.keySet().removeIf(connectionId -> {
+      if (!connections.containsKey(connectionId)) {
+        nextRunTimes.remove(connectionId);
+        return true;
+      }
+      return false;
+    });
+    connections.forEach((connectionId, connection) -> {
+      if (!connection.equals(activeConnections.get(connectionId))) {
+        activeConnections.put(connectionId, connection);
+        changedConnections.add(connectionId);
+      }
+    });
+  }
+
+  private void refreshLastJobs(Instant now, Set<UUID> changedConnections) throws IOException {
+    final boolean isFullRefresh = lastJobsRefreshedAt == null || !now.isBefore(lastFullRefreshAt.plus(FULL_REFRESH_INTERVAL));
+    final Instant updatedAfter = isFullRefresh ? Instant.EPOCH : lastJobsRefreshedAt.minus(JOB_UPDATE_CLOCK_SKEW);
+    final Map<UUID, Optional<Job>> updatedLastJobs = jobPersistence.getLastReplicationJobs(updatedAfter);
+
+    if (isFullRefresh) {
+      lastJobs.clear();
+      changedConnections.addAll(activeConnections.keySet());
+      lastFullRefreshAt = now;
+    }
+    updatedLastJobs.forEach((connectionId, lastJob) -> {
+      lastJob.ifPresentOrElse(job -> lastJobs.put(connectionId, job), () -> lastJobs.remove(connectionId));
+      changedConnections.add(connectionId);
+    });
+    lastJobsRefreshedAt = now;
+  }
+
+  private void updateNextRunTime(UUID connectionId) {
+    final StandardSync connection = activeConnections.get(connectionId);
+    final Optional<Instant> nextRunTime = connection == null
+        ? Optional.empty()
+        : scheduleJobPredicate.getNextRunTime(Optional.ofNullable(lastJobs.get(connectionId)), connection);
+    if (nextRunTime.isPresent()) {
+      // full refreshes recompute unchanged run times, which are already in the queue.
+      if (!nextRunTime.get().equals(nextRunTimes.get(connectionId))) {
+        schedule(new ScheduledRun(connectionId, nextRunTime.get()));
+      }
+    } else {
+      nextRunTimes.remove(connectionId);
+    }
+  }
+
+  private void schedule(ScheduledRun run) {
+    nextRunTimes.put(run.getConnectionId(), run.getRunTime());
+    scheduledRuns.add(run);
+  }
+
   private List<StandardSync> getAllActiveConnections() {
     try {
       return configRepository.listStandardSyncs()
@@ -108,4 +220,24 @@ public class JobScheduler implements Runnable {
     }
   }
 
+  private static class ScheduledRun {
+
+    private final UUID connectionId;
+    private final Instant runTime;
+
+    ScheduledRun(UUID connectionId, Instant runTime) {
+      this.connectionId = connectionId;
+      this.runTime = runTime;
+    }
+
+    UUID getConnectionId() {
+      return connectionId;
+    }
+
+    Instant getRunTime() {
+      return runTime;
+    }
+
+  }
+
 }
@@ -18,7 +18,7 @@ import io.airbyte.scheduler.persistence.JobPersistence;
 import io.airbyte.scheduler.persistence.job_tracker.JobTracker;
 import io.airbyte.scheduler.persistence.job_tracker.JobTracker.JobState;
 import java.nio.file.Path;
-import java.util.Optional;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.function.Consumer;
@@ -29,6 +29,9 @@ import org.slf4j.MDC;
 public class JobSubmitter implements Runnable {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(JobSubmitter.class);
+  // jobs of different connections are claimed in the same run, instead of one job per run. all of
+  // them run concurrently on the shared worker pool, which bounds how many run at once.
+  private static final int MAX_JOBS_PER_RUN = 10;
 
   private final ExecutorService threadPool;
   private final JobPersistence persistence;
@@ -57,9 +60,9 @@ public class JobSubmitter implements Runnable {
       LOGGER.debug("Running job-submitter...");
       var start = System.currentTimeMillis();
 
-      final Optional<Job> nextJob = persistence.getNextJob();
+      final List<Job> nextJobs = persistence.getNextJobs(MAX_JOBS_PER_RUN);
 
-      nextJob.ifPresent(attemptJobSubmit());
+      nextJobs.forEach(attemptJobSubmit());
 
       var end = System.currentTimeMillis();
       LOGGER.debug("Completed Job-Submitter. Time taken: {} ms", end - start);
@@ -77,9 +80,9 @@ public class JobSubmitter implements Runnable {
    * whether a job should be submitted. This job id is added here, and removed in the finish block of
    * {@link #submitJob(Job)}.
    *
-   * Since {@link JobPersistence#getNextJob()} returns the next queued job, this solution cause
-   * head-of-line blocking as the JobSubmitter tries to submit the same job. However, this suggests
-   * the Worker Pool needs more workers and is inevitable when dealing with pending jobs.
+   * {@link JobPersistence#getNextJobs(int)} claims the jobs it returns, so a job is only returned
+   * again after it went back to pending, e.g. when it is retried while its previous attempt is still
+   * finishing. Such a job is handed back to pending, so that it is submitted by a later run.
    *
    * See https://github.com/airbytehq/airbyte/issues/4378 for more info.
    */
@@ -87,13 +90,21 @@ public class JobSubmitter implements Runnable {
     return job -> {
       if (!runningJobs.contains(job.getId())) {
         runningJobs.add(job.getId());
-        trackSubmission(job);
-        submitJob(job);
+        try {
+          submitJob(job);
+        } catch (RuntimeException e) {
+          // the job was claimed by getNextJobs, hand it back so that it is picked up again.
+          LOGGER.error("Failed to submit job {}", job.getId(), e);
+          runningJobs.remove(job.getId());
+          releaseJob(job);
+          return;
+        }
         var pending = SchedulerApp.PENDING_JOBS.decrementAndGet();
         LOGGER.info("Job-Submitter Summary. Submitted job with scope {}", job.getScope());
         LOGGER.debug("Pending jobs: {}", pending);
       } else {
         LOGGER.info("Attempting to submit already running job {}. There are probably too many queued jobs.", job.getId());
+        releaseJob(job);
         LOGGER.debug("Pending jobs: {}", SchedulerApp.PENDING_JOBS.get());
       }
     };
@@ -110,6 +121,7 @@ public class JobSubmitter implements Runnable {
     final int attemptNumber = job.getAttempts().size();
     threadPool.submit(new LifecycledCallable.Builder<>(workerRun)
         .setOnStart(() -> {
+          trackSubmission(job);
           // TODO(Issue-4204): This should save the fully qualified job path.
           final Path logFilePath = workerRun.getJobRoot().resolve(LogClientSingleton.LOG_FILENAME);
           final long persistedAttemptId = persistence.createAttempt(job.getId(), logFilePath);
@@ -145,6 +157,14 @@ public class JobSubmitter implements Runnable {
         .build());
   }
 
+  private void releaseJob(Job job) {
+    try {
+      persistence.resetJob(job.getId());
+    } catch (Exception e) {
+      LOGGER.error("Failed to release job {}", job.getId(), e);
+    }
+  }
+
   private void assertSameIds(long expectedAttemptId, long actualAttemptId) {
     if (expectedAttemptId != actualAttemptId) {
       throw new IllegalStateException("Created attempt was not the expected attempt");
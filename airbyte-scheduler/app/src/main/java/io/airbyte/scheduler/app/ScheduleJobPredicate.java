@@ -32,6 +32,30 @@ public class ScheduleJobPredicate implements BiPredicate<Optional<Job>, Standard
     return shouldSchedule(previousJobOptional, timeForNewJob);
   }
 
+  /**
+   * @return the time from which {@link #test(Optional, StandardSync)} will be true, or empty if it
+   *         will stay false until the previous job or the connection changes.
+   */
+  @SuppressWarnings("OptionalUsedAsFieldOrParameterType")
+  public Optional<Instant> getNextRunTime(Optional<Job> previousJobOptional, StandardSync standardSync) {
+    if (standardSync.getManual()) {
+      return Optional.empty();
+    }
+    if (previousJobOptional.isEmpty()) {
+      return Optional.of(Instant.EPOCH);
+    }
+
+    final Job previousJob = previousJobOptional.get();
+    if (!JobStatus.TERMINAL_STATUSES.contains(previousJob.getStatus())) {
+      return Optional.empty();
+    }
+
+    long prevRunStart = previousJob.getStartedAtInSecond().orElse(previousJob.getCreatedAtInSecond());
+    long nextRunStart = prevRunStart + ScheduleHelpers.getIntervalInSecond(standardSync.getSchedule());
+    // the next run has to start strictly after nextRunStart, see isTimeForNewJob.
+    return Optional.of(Instant.ofEpochSecond(nextRunStart + 1));
+  }
+
   @SuppressWarnings("OptionalUsedAsFieldOrParameterType")
   private boolean shouldSchedule(Optional<Job> previousJobOptional, boolean timeForJobNewJob) {
     if (previousJobOptional.isEmpty()) {
@@ -4,8 +4,10 @@
 
 package io.airbyte.scheduler.app;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -26,8 +28,11 @@ import io.airbyte.scheduler.persistence.JobPersistence;
 import io.airbyte.scheduler.persistence.job_factory.SyncJobFactory;
 import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
@@ -38,6 +43,7 @@ class JobSchedulerTest {
   private static final StandardSync STANDARD_SYNC;
   private static final List<StandardSyncOperation> STANDARD_SYNC_OPERATIONS;
   private static final long JOB_ID = 12L;
+  private static final Instant NOW = Instant.now();
   private Job previousJob;
 
   private static final String STREAM_NAME = "users";
@@ -84,15 +90,16 @@ class JobSchedulerTest {
 
     scheduleJobPredicate = mock(ScheduleJobPredicate.class);
     jobFactory = mock(SyncJobFactory.class);
-    scheduler = new JobScheduler(jobPersistence, configRepository, scheduleJobPredicate, jobFactory);
+    scheduler = new JobScheduler(jobPersistence, configRepository, scheduleJobPredicate, jobFactory, () -> NOW);
 
     previousJob = mock(Job.class);
   }
 
   @Test
   public void testScheduleJob() throws JsonValidationException, ConfigNotFoundException, IOException {
-    when(jobPersistence.getLastReplicationJob(STANDARD_SYNC.getConnectionId()))
-        .thenReturn(java.util.Optional.of(previousJob));
+    when(jobPersistence.getLastReplicationJobs(Instant.EPOCH))
+        .thenReturn(Map.of(STANDARD_SYNC.getConnectionId(), Optional.of(previousJob)));
+    when(scheduleJobPredicate.getNextRunTime(Optional.of(previousJob), STANDARD_SYNC)).thenReturn(Optional.of(NOW.minusSeconds(1)));
     when(scheduleJobPredicate.test(Optional.of(previousJob), STANDARD_SYNC)).thenReturn(true);
     when(jobFactory.create(STANDARD_SYNC.getConnectionId())).thenReturn(JOB_ID);
     setConfigMocks();
@@ -101,14 +108,14 @@ class JobSchedulerTest {
 
     verifyConfigCalls();
     verify(scheduleJobPredicate).test(Optional.of(previousJob), STANDARD_SYNC);
-    verify(jobPersistence).getLastReplicationJob(STANDARD_SYNC.getConnectionId());
+    verify(jobPersistence).getLastReplicationJobs(Instant.EPOCH);
     verify(jobFactory).create(STANDARD_SYNC.getConnectionId());
   }
 
   @Test
   public void testScheduleJobNoPreviousJob() throws JsonValidationException, ConfigNotFoundException, IOException {
-    when(jobPersistence.getLastReplicationJob(STANDARD_SYNC.getConnectionId()))
-        .thenReturn(java.util.Optional.empty());
+    when(jobPersistence.getLastReplicationJobs(Instant.EPOCH)).thenReturn(Map.of());
+    when(scheduleJobPredicate.getNextRunTime(Optional.empty(), STANDARD_SYNC)).thenReturn(Optional.of(Instant.EPOCH));
     when(scheduleJobPredicate.test(Optional.empty(), STANDARD_SYNC)).thenReturn(true);
     when(jobFactory.create(STANDARD_SYNC.getConnectionId())).thenReturn(JOB_ID);
     setConfigMocks();
@@ -117,14 +124,15 @@ class JobSchedulerTest {
 
     verifyConfigCalls();
     verify(scheduleJobPredicate).test(Optional.empty(), STANDARD_SYNC);
-    verify(jobPersistence).getLastReplicationJob(STANDARD_SYNC.getConnectionId());
+    verify(jobPersistence).getLastReplicationJobs(Instant.EPOCH);
     verify(jobFactory).create(STANDARD_SYNC.getConnectionId());
   }
 
   @Test
   public void testDoNotScheduleJob() throws JsonValidationException, ConfigNotFoundException, IOException {
-    when(jobPersistence.getLastReplicationJob(STANDARD_SYNC.getConnectionId()))
-        .thenReturn(java.util.Optional.of(previousJob));
+    when(jobPersistence.getLastReplicationJobs(Instant.EPOCH))
+        .thenReturn(Map.of(STANDARD_SYNC.getConnectionId(), Optional.of(previousJob)));
+    when(scheduleJobPredicate.getNextRunTime(Optional.of(previousJob), STANDARD_SYNC)).thenReturn(Optional.of(NOW.minusSeconds(1)));
     when(scheduleJobPredicate.test(Optional.of(previousJob), STANDARD_SYNC)).thenReturn(false);
     setConfigMocks();
 
@@ -132,21 +140,54 @@ class JobSchedulerTest {
 
     verifyConfigCalls();
     verify(scheduleJobPredicate).test(Optional.of(previousJob), STANDARD_SYNC);
-    verify(jobPersistence).getLastReplicationJob(STANDARD_SYNC.getConnectionId());
+    verify(jobPersistence).getLastReplicationJobs(Instant.EPOCH);
     verify(jobFactory, never()).create(STANDARD_SYNC.getConnectionId());
   }
 
+  @Test
+  public void testDoNotScheduleJobBeforeNextRunTime() throws JsonValidationException, ConfigNotFoundException, IOException {
+    when(jobPersistence.getLastReplicationJobs(Instant.EPOCH))
+        .thenReturn(Map.of(STANDARD_SYNC.getConnectionId(), Optional.of(previousJob)));
+    when(scheduleJobPredicate.getNextRunTime(Optional.of(previousJob), STANDARD_SYNC)).thenReturn(Optional.of(NOW.plusSeconds(60)));
+    setConfigMocks();
+
+    scheduler.run();
+
+    verify(scheduleJobPredicate, never()).test(any(), any());
+    verify(jobFactory, never()).create(STANDARD_SYNC.getConnectionId());
+  }
+
+  @Test
+  public void testOnlyReadsChangedJobsAfterFirstRun() throws JsonValidationException, ConfigNotFoundException, IOException {
+    when(jobPersistence.getLastReplicationJobs(Instant.EPOCH)).thenReturn(Map.of());
+    when(jobPersistence.getLastReplicationJobs(NOW.minus(Duration.ofMinutes(1)))).thenReturn(Map.of());
+    when(scheduleJobPredicate.getNextRunTime(Optional.empty(), STANDARD_SYNC)).thenReturn(Optional.of(Instant.EPOCH));
+    when(scheduleJobPredicate.test(Optional.empty(), STANDARD_SYNC)).thenReturn(true);
+    when(jobFactory.create(STANDARD_SYNC.getConnectionId())).thenReturn(JOB_ID);
+    setConfigMocks();
+
+    scheduler.run();
+    scheduler.run();
+
+    verify(jobPersistence).getLastReplicationJobs(Instant.EPOCH);
+    verify(jobPersistence).getLastReplicationJobs(NOW.minus(Duration.ofMinutes(1)));
+    // neither the connection nor its jobs changed, so it is not looked at again.
+    verify(scheduleJobPredicate, times(1)).getNextRunTime(Optional.empty(), STANDARD_SYNC);
+    verify(jobFactory, times(1)).create(STANDARD_SYNC.getConnectionId());
+  }
+
   @Test
   public void testDoesNotScheduleNonActiveConnections() throws JsonValidationException, ConfigNotFoundException, IOException {
     final StandardSync standardSync = Jsons.clone(STANDARD_SYNC);
     standardSync.setStatus(Status.INACTIVE);
     when(configRepository.listStandardSyncs()).thenReturn(Collections.singletonList(standardSync));
+    when(jobPersistence.getLastReplicationJobs(Instant.EPOCH)).thenReturn(Map.of());
 
     scheduler.run();
 
     verify(configRepository).listStandardSyncs();
     verify(scheduleJobPredicate, never()).test(Optional.of(previousJob), STANDARD_SYNC);
-    verify(jobPersistence, never()).getLastReplicationJob(standardSync.getConnectionId());
+    verify(scheduleJobPredicate, never()).getNextRunTime(any(), any());
     verify(jobFactory, never()).create(standardSync.getConnectionId());
   }
 
@@ -38,8 +38,8 @@ import io.airbyte.workers.OutputAndStatus;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicReference;
 import org.junit.jupiter.api.BeforeEach;
@@ -82,7 +82,7 @@ public class JobSubmitterTest {
 
     persistence = mock(JobPersistence.class);
     this.logPath = jobRoot.resolve(LogClientSingleton.LOG_FILENAME);
-    when(persistence.getNextJob()).thenReturn(Optional.of(job));
+    when(persistence.getNextJobs(anyInt())).thenReturn(List.of(job));
     when(persistence.createAttempt(JOB_ID, logPath)).thenReturn(ATTEMPT_NUMBER);
     jobNotifier = mock(JobNotifier.class);
 
@@ -95,8 +95,8 @@ public class JobSubmitterTest {
   }
 
   @Test
-  public void testRun() {
-    doNothing().when(jobSubmitter).submitJob(any());
+  public void testRun() throws Exception {
+    doReturn(SUCCESS_OUTPUT).when(workerRun).call();
 
     jobSubmitter.run();
 
@@ -104,9 +104,35 @@ public class JobSubmitterTest {
     verify(jobSubmitter).submitJob(job);
   }
 
+  @Test
+  public void testRunSubmitsAllJobs() throws IOException {
+    final Job job2 = mock(Job.class);
+    when(job2.getId()).thenReturn(JOB_ID + 1);
+    doReturn(List.of(job, job2)).when(persistence).getNextJobs(anyInt());
+    doNothing().when(jobSubmitter).submitJob(any());
+
+    jobSubmitter.run();
+
+    verify(jobSubmitter).submitJob(job);
+    verify(jobSubmitter).submitJob(job2);
+  }
+
+  @Test
+  public void testSubmissionFailureReleasesJob() throws IOException {
+    when(workerRunFactory.create(job)).thenThrow(new RuntimeException());
+
+    jobSubmitter.run();
+    jobSubmitter.run();
+
+    // the claimed job goes back to pending, and is not considered running by the next run.
+    verify(persistence, Mockito.times(2)).resetJob(JOB_ID);
+    verify(jobSubmitter, Mockito.times(2)).submitJob(job);
+    verifyNoInteractions(jobTracker);
+  }
+
   @Test
   public void testPersistenceNoJob() throws Exception {
-    doReturn(Optional.empty()).when(persistence).getNextJob();
+    doReturn(List.of()).when(persistence).getNextJobs(anyInt());
 
     jobSubmitter.run();
 
@@ -244,7 +270,7 @@ public class JobSubmitterTest {
 
       simulatedJobSubmitterPool.shutdownNow();
       // This is expected to be called at least once due to the various threads.
-      verify(persistence, atLeast(2)).getNextJob();
+      verify(persistence, atLeast(2)).getNextJobs(anyInt());
       // Assert that the job is actually only submitted once.
       verify(jobSubmitter, Mockito.times(1)).submitJob(Mockito.any());
     }
@@ -261,7 +287,7 @@ public class JobSubmitterTest {
       // If the id was not removed, the second call would not trigger submitJob().
       jobSubmitter.run();
 
-      verify(persistence, Mockito.times(2)).getNextJob();
+      verify(persistence, Mockito.times(2)).getNextJobs(anyInt());
       verify(jobSubmitter, Mockito.times(2)).submitJob(Mockito.any());
     }
 
@@ -277,7 +303,7 @@ public class JobSubmitterTest {
       // If the id was not removed, the second call would not trigger submitJob().
       jobSubmitter.run();
 
-      verify(persistence, Mockito.times(2)).getNextJob();
+      verify(persistence, Mockito.times(2)).getNextJobs(anyInt());
       verify(jobSubmitter, Mockito.times(2)).submitJob(Mockito.any());
     }
 
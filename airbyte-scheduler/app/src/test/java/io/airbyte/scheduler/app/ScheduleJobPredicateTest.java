@@ -4,6 +4,7 @@
 
 package io.airbyte.scheduler.app;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
@@ -65,6 +66,25 @@ class ScheduleJobPredicateTest {
     assertFalse(scheduleJobPredicate.test(Optional.of(job), STANDARD_SYNC));
   }
 
+  @Test
+  public void testNextRunTime() {
+    when(job.getStatus()).thenReturn(JobStatus.SUCCEEDED);
+    final Instant prevRunStart = now.minus(Duration.ofHours(1));
+    when(job.getStartedAtInSecond()).thenReturn(Optional.of(prevRunStart.getEpochSecond()));
+
+    final Instant nextRunTime = scheduleJobPredicate.getNextRunTime(Optional.of(job), STANDARD_SYNC).orElseThrow();
+    assertEquals(prevRunStart.getEpochSecond() + Duration.ofDays(1).toSeconds() + 1, nextRunTime.getEpochSecond());
+  }
+
+  @Test
+  public void testNoNextRunTime() {
+    when(job.getStatus()).thenReturn(JobStatus.RUNNING);
+
+    assertEquals(Optional.empty(), scheduleJobPredicate.getNextRunTime(Optional.of(job), STANDARD_SYNC));
+    assertEquals(Optional.empty(), scheduleJobPredicate.getNextRunTime(Optional.empty(), new StandardSync().withManual(true)));
+    assertEquals(Optional.of(Instant.EPOCH), scheduleJobPredicate.getNextRunTime(Optional.empty(), STANDARD_SYNC));
+  }
+
   // use Mode.EXCLUDE so that when new values are added to the enum, these tests will fail if that
   // value has not also been added to the switch statement.
   @ParameterizedTest
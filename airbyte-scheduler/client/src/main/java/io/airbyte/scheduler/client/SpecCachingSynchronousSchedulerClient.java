@@ -4,33 +4,62 @@
 
 package io.airbyte.scheduler.client;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import io.airbyte.commons.json.Jsons;
 import io.airbyte.config.DestinationConnection;
 import io.airbyte.config.SourceConnection;
 import io.airbyte.config.StandardCheckConnectionOutput;
 import io.airbyte.protocol.models.AirbyteCatalog;
 import io.airbyte.protocol.models.ConnectorSpecification;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * This client caches only the results of spec jobs as their output should not change (except in the
- * case where the docker image is replaced with an image of the same name and tag) and they are
- * called very frequently.
+ * This client caches the results of spec jobs as their output should not change (except in the case
+ * where the docker image is replaced with an image of the same name and tag) and they are called
+ * very frequently.
+ * <p/>
+ * It also caches the results of discover jobs for a short while, as the UI discovers the same source
+ * several times in a row and a discover job can take minutes on a large database. They are keyed by
+ * the connector image and a hash of the source configuration. The stored configuration refers to
+ * its secrets by versioned coordinates, so a change to a secret also changes the key.
  */
 public class SpecCachingSynchronousSchedulerClient implements CachingSynchronousSchedulerClient {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(SpecCachingSynchronousSchedulerClient.class);
 
+  private static final long SPEC_CACHE_MAXIMUM_SIZE = 1000;
+  private static final Duration SPEC_CACHE_EXPIRY = Duration.ofDays(1);
+  // catalogs can be large, so keep fewer of them.
+  private static final long DISCOVER_CACHE_MAXIMUM_SIZE = 100;
+  private static final Duration DISCOVER_CACHE_EXPIRY = Duration.ofMinutes(10);
+
   private final Cache<String, SynchronousResponse<ConnectorSpecification>> specCache;
+  private final Cache<String, SynchronousResponse<AirbyteCatalog>> discoverCache;
   private final SynchronousSchedulerClient decoratedClient;
 
   public SpecCachingSynchronousSchedulerClient(SynchronousSchedulerClient decoratedClient) {
+    this(decoratedClient, SPEC_CACHE_EXPIRY, DISCOVER_CACHE_EXPIRY);
+  }
+
+  @VisibleForTesting
+  SpecCachingSynchronousSchedulerClient(SynchronousSchedulerClient decoratedClient, Duration specCacheExpiry, Duration discoverCacheExpiry) {
     this.decoratedClient = decoratedClient;
-    this.specCache = CacheBuilder.newBuilder().build();
+    this.specCache = CacheBuilder.newBuilder()
+        .maximumSize(SPEC_CACHE_MAXIMUM_SIZE)
+        .expireAfterWrite(specCacheExpiry)
+        .build();
+    this.discoverCache = CacheBuilder.newBuilder()
+        .maximumSize(DISCOVER_CACHE_MAXIMUM_SIZE)
+        .expireAfterWrite(discoverCacheExpiry)
+        .build();
   }
 
   @Override
@@ -48,7 +77,36 @@ public class SpecCachingSynchronousSchedulerClient implements CachingSynchronous
 
   @Override
   public SynchronousResponse<AirbyteCatalog> createDiscoverSchemaJob(final SourceConnection source, final String dockerImage) throws IOException {
-    return decoratedClient.createDiscoverSchemaJob(source, dockerImage);
+    return createDiscoverSchemaJob(source, dockerImage, false);
+  }
+
+  @Override
+  public SynchronousResponse<AirbyteCatalog> createDiscoverSchemaJob(final SourceConnection source,
+                                                                     final String dockerImage,
+                                                                     final boolean disableCache)
+      throws IOException {
+    final String key = getDiscoverCacheKey(source, dockerImage);
+    final Optional<SynchronousResponse<AirbyteCatalog>> cachedJob =
+        disableCache ? Optional.empty() : Optional.ofNullable(discoverCache.getIfPresent(key));
+    if (cachedJob.isPresent()) {
+      LOGGER.debug("discover cache hit: " + dockerImage);
+      return cachedJob.get();
+    } else {
+      LOGGER.debug("discover cache miss: " + dockerImage);
+      final SynchronousResponse<AirbyteCatalog> response = decoratedClient.createDiscoverSchemaJob(source, dockerImage);
+      if (response.isSuccess()) {
+        discoverCache.put(key, response);
+      }
+      return response;
+    }
+  }
+
+  // the oauth parameters injected into the configuration depend on the workspace and the definition.
+  private static String getDiscoverCacheKey(final SourceConnection source, final String dockerImage) {
+    final String configurationHash = Hashing.sha256()
+        .hashString(Jsons.serialize(source.getConfiguration()), StandardCharsets.UTF_8)
+        .toString();
+    return String.join(" ", dockerImage, String.valueOf(source.getSourceDefinitionId()), String.valueOf(source.getWorkspaceId()), configurationHash);
   }
 
   @Override
@@ -70,6 +128,7 @@ public class SpecCachingSynchronousSchedulerClient implements CachingSynchronous
   @Override
   public void resetCache() {
     specCache.invalidateAll();
+    discoverCache.invalidateAll();
   }
 
 }
@@ -25,6 +25,15 @@ public interface SynchronousSchedulerClient {
 
   SynchronousResponse<AirbyteCatalog> createDiscoverSchemaJob(SourceConnection source, String dockerImage) throws IOException;
 
+  /**
+   * @param disableCache if the client caches discovered catalogs, run a new discover job instead of
+   *        returning a cached catalog.
+   */
+  default SynchronousResponse<AirbyteCatalog> createDiscoverSchemaJob(SourceConnection source, String dockerImage, boolean disableCache)
+      throws IOException {
+    return createDiscoverSchemaJob(source, dockerImage);
+  }
+
   SynchronousResponse<ConnectorSpecification> createGetSpecJob(String dockerImage) throws IOException;
 
 }
@@ -11,25 +11,39 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.config.SourceConnection;
+import io.airbyte.protocol.models.AirbyteCatalog;
 import io.airbyte.protocol.models.ConnectorSpecification;
 import java.io.IOException;
+import java.util.Map;
+import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 class SpecCachingSynchronousSchedulerClientTest {
 
   private static final String DOCKER_IMAGE = "airbyte/space_cop";
+  private static final SourceConnection SOURCE = new SourceConnection()
+      .withSourceId(UUID.randomUUID())
+      .withSourceDefinitionId(UUID.randomUUID())
+      .withWorkspaceId(UUID.randomUUID())
+      .withConfiguration(Jsons.jsonNode(Map.of("host", "space.cop")));
 
   private SynchronousSchedulerClient decoratedClient;
   private CachingSynchronousSchedulerClient client;
   private SynchronousResponse<ConnectorSpecification> response1;
   private SynchronousResponse<ConnectorSpecification> response2;
+  private SynchronousResponse<AirbyteCatalog> discoverResponse1;
+  private SynchronousResponse<AirbyteCatalog> discoverResponse2;
 
   @SuppressWarnings("unchecked")
   @BeforeEach
   void setup() {
     response1 = mock(SynchronousResponse.class, RETURNS_DEEP_STUBS);
     response2 = mock(SynchronousResponse.class, RETURNS_DEEP_STUBS);
+    discoverResponse1 = mock(SynchronousResponse.class, RETURNS_DEEP_STUBS);
+    discoverResponse2 = mock(SynchronousResponse.class, RETURNS_DEEP_STUBS);
     decoratedClient = mock(SynchronousSchedulerClient.class);
     client = new SpecCachingSynchronousSchedulerClient(decoratedClient);
   }
@@ -72,4 +86,57 @@ class SpecCachingSynchronousSchedulerClientTest {
     verify(decoratedClient, times(2)).createGetSpecJob(DOCKER_IMAGE);
   }
 
+  @Test
+  void testCreateDiscoverSchemaJobCacheHit() throws IOException {
+    when(decoratedClient.createDiscoverSchemaJob(SOURCE, DOCKER_IMAGE)).thenReturn(discoverResponse1);
+    when(discoverResponse1.isSuccess()).thenReturn(true);
+    client.createDiscoverSchemaJob(SOURCE, DOCKER_IMAGE);
+    assertEquals(discoverResponse1, client.createDiscoverSchemaJob(Jsons.clone(SOURCE), DOCKER_IMAGE));
+    verify(decoratedClient, times(1)).createDiscoverSchemaJob(SOURCE, DOCKER_IMAGE);
+  }
+
+  @Test
+  void testCreateDiscoverSchemaJobCacheMissOnConfigurationChange() throws IOException {
+    final SourceConnection updatedSource = Jsons.clone(SOURCE).withConfiguration(Jsons.jsonNode(Map.of("host", "space.cop.2")));
+    when(decoratedClient.createDiscoverSchemaJob(SOURCE, DOCKER_IMAGE)).thenReturn(discoverResponse1);
+    when(decoratedClient.createDiscoverSchemaJob(updatedSource, DOCKER_IMAGE)).thenReturn(discoverResponse2);
+    when(discoverResponse1.isSuccess()).thenReturn(true);
+    when(discoverResponse2.isSuccess()).thenReturn(true);
+    client.createDiscoverSchemaJob(SOURCE, DOCKER_IMAGE);
+    assertEquals(discoverResponse2, client.createDiscoverSchemaJob(updatedSource, DOCKER_IMAGE));
+  }
+
+  @Test
+  void testCreateDiscoverSchemaJobDisableCache() throws IOException {
+    when(decoratedClient.createDiscoverSchemaJob(SOURCE, DOCKER_IMAGE)).thenReturn(discoverResponse1).thenReturn(discoverResponse2);
+    when(discoverResponse1.isSuccess()).thenReturn(true);
+    when(discoverResponse2.isSuccess()).thenReturn(true);
+    client.createDiscoverSchemaJob(SOURCE, DOCKER_IMAGE);
+    assertEquals(discoverResponse2, client.createDiscoverSchemaJob(SOURCE, DOCKER_IMAGE, true));
+    // the refreshed catalog replaces the cached one.
+    assertEquals(discoverResponse2, client.createDiscoverSchemaJob(SOURCE, DOCKER_IMAGE));
+    verify(decoratedClient, times(2)).createDiscoverSchemaJob(SOURCE, DOCKER_IMAGE);
+  }
+
+  @Test
+  void testCreateDiscoverSchemaJobFails() throws IOException {
+    when(decoratedClient.createDiscoverSchemaJob(SOURCE, DOCKER_IMAGE)).thenReturn(discoverResponse1).thenReturn(discoverResponse2);
+    when(discoverResponse1.isSuccess()).thenReturn(false);
+    when(discoverResponse2.isSuccess()).thenReturn(true);
+    client.createDiscoverSchemaJob(SOURCE, DOCKER_IMAGE);
+    assertEquals(discoverResponse2, client.createDiscoverSchemaJob(SOURCE, DOCKER_IMAGE));
+    verify(decoratedClient, times(2)).createDiscoverSchemaJob(SOURCE, DOCKER_IMAGE);
+  }
+
+  @Test
+  void testInvalidateDiscoverCache() throws IOException {
+    when(decoratedClient.createDiscoverSchemaJob(SOURCE, DOCKER_IMAGE)).thenReturn(discoverResponse1).thenReturn(discoverResponse2);
+    when(discoverResponse1.isSuccess()).thenReturn(true);
+    when(discoverResponse2.isSuccess()).thenReturn(true);
+    client.createDiscoverSchemaJob(SOURCE, DOCKER_IMAGE);
+    client.resetCache();
+    assertEquals(discoverResponse2, client.createDiscoverSchemaJob(SOURCE, DOCKER_IMAGE));
+    verify(decoratedClient, times(2)).createDiscoverSchemaJob(SOURCE, DOCKER_IMAGE);
+  }
+
 }
@@ -37,6 +37,7 @@ import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -101,6 +102,18 @@ public class DefaultJobPersistence implements JobPersistence {
           + "attempts.ended_at AS attempt_ended_at\n"
           + "FROM jobs LEFT OUTER JOIN attempts ON jobs.id = attempts.job_id ";
 
+  // rules:
+  // 1. get oldest, pending jobs
+  // 2. job is excluded if another job of the same scope is already running
+  // 3. job is excluded if another job of the same scope is already incomplete
+  // 4. job is excluded if an older job of the same scope is pending
+  private static final String NEXT_JOB_IDS_SELECT = "SELECT id FROM jobs WHERE " +
+      "CAST(status AS VARCHAR) = 'pending' AND " +
+      "NOT EXISTS ( SELECT 1 FROM jobs AS other WHERE other.scope = jobs.scope AND (" +
+      "CAST(other.status AS VARCHAR) IN ('running', 'incomplete') OR " +
+      "(CAST(other.status AS VARCHAR) = 'pending' AND (other.created_at, other.id) < (jobs.created_at, jobs.id)) ) ) " +
+      "ORDER BY created_at ASC, id ASC LIMIT ?";
+
   private static final String AIRBYTE_METADATA_TABLE = "airbyte_metadata";
   public static final String ORDER_BY_JOB_TIME_ATTEMPT_TIME =
       "ORDER BY jobs.created_at DESC, jobs.id DESC, attempts.created_at ASC, attempts.id ASC ";
@@ -376,6 +389,49 @@ public class DefaultJobPersistence implements JobPersistence {
         .flatMap(r -> getJobOptional(ctx, r.get("job_id", Long.class))));
   }
 
+  @Override
+  public Map<UUID, Optional<Job>> getLastReplicationJobs(Instant updatedAfter) throws IOException {
+    final LocalDateTime updatedAfterDateTime = LocalDateTime.ofInstant(updatedAfter, ZoneOffset.UTC);
+    final String updatedScopes = "SELECT DISTINCT scope FROM jobs WHERE " +
+        "CAST(config_type AS VARCHAR) in " + Sqls.toSqlInFragment(Job.REPLICATION_TYPES) + " AND " +
+        "updated_at > ? ";
+    return database.query(ctx -> {
+      final Map<UUID, Optional<Job>> lastJobs = new HashMap<>();
+      ctx.fetch(updatedScopes, updatedAfterDateTime)
+          .forEach(r -> lastJobs.put(UUID.fromString(r.get("scope", String.class)), Optional.empty()));
+      if (lastJobs.isEmpty()) {
+        return lastJobs;
+      }
+
+      getJobsFromResult(ctx.fetch(BASE_JOB_SELECT_AND_JOIN + "WHERE jobs.id IN ( " +
+          "SELECT DISTINCT ON (scope) id FROM jobs WHERE " +
+          "CAST(config_type AS VARCHAR) in " + Sqls.toSqlInFragment(Job.REPLICATION_TYPES) + " AND " +
+          "CAST(status AS VARCHAR) <> ? AND " +
+          "scope IN ( " + updatedScopes + ") " +
+          "ORDER BY scope, created_at DESC ) " +
+          ORDER_BY_JOB_TIME_ATTEMPT_TIME,
+          Sqls.toSqlName(JobStatus.CANCELLED),
+          updatedAfterDateTime))
+              .forEach(job -> lastJobs.put(UUID.fromString(job.getScope()), Optional.of(job)));
+      return lastJobs;
+    });
+  }
+
+  @Override
+  public List<Job> getLastSyncJobForConnections(List<UUID> connectionIds) throws IOException {
+    if (connectionIds.isEmpty()) {
+      return Collections.emptyList();
+    }
+
+    return database.query(ctx -> getJobsFromResult(ctx.fetch(BASE_JOB_SELECT_AND_JOIN + "WHERE jobs.id IN ( " +
+        "SELECT DISTINCT ON (scope) id FROM jobs WHERE " +
+        "CAST(config_type AS VARCHAR) = ? AND " +
+        "scope IN " + connectionIds.stream().map(UUID::toString).map(Names::singleQuote).collect(Collectors.joining(",", "(", ")")) + " " +
+        "ORDER BY scope, created_at DESC, id DESC ) " +
+        ORDER_BY_JOB_TIME_ATTEMPT_TIME,
+        Sqls.toSqlName(ConfigType.SYNC))));
+  }
+
   @Override
   public Optional<State> getCurrentState(UUID connectionId) throws IOException {
     return database.query(ctx -> ctx
@@ -396,18 +452,33 @@ public class DefaultJobPersistence implements JobPersistence {
 
   @Override
   public Optional<Job> getNextJob() throws IOException {
-    // rules:
-    // 1. get oldest, pending job
-    // 2. job is excluded if another job of the same scope is already running
-    // 3. job is excluded if another job of the same scope is already incomplete
-    return database.query(ctx -> ctx
-        .fetch(BASE_JOB_SELECT_AND_JOIN + "WHERE " +
-            "CAST(jobs.status AS VARCHAR) = 'pending' AND " +
-            "jobs.scope NOT IN ( SELECT scope FROM jobs WHERE status = 'running' OR status = 'incomplete' ) " +
-            "ORDER BY jobs.created_at ASC LIMIT 1")
+    return database.query(ctx -> getJobs(ctx, ctx.fetch(NEXT_JOB_IDS_SELECT, 1).getValues("id", Long.class)))
         .stream()
-        .findFirst()
-        .flatMap(r -> getJobOptional(ctx, r.get("job_id", Long.class))));
+        .findFirst();
+  }
+
+  @Override
+  public List<Job> getNextJobs(int limit) throws IOException {
+    final LocalDateTime now = LocalDateTime.ofInstant(timeSupplier.get(), ZoneOffset.UTC);
+    // the jobs are claimed by marking them as running in the same statement that selects them. rows
+    // locked by a concurrent dequeue are skipped, and once it commits, rule 2 excludes their scopes.
+    return database.transaction(ctx -> getJobs(ctx, ctx
+        .fetch("UPDATE jobs SET status = CAST(? as JOB_STATUS), updated_at = ? WHERE id IN (" +
+            NEXT_JOB_IDS_SELECT + " FOR UPDATE SKIP LOCKED) RETURNING id",
+            Sqls.toSqlName(JobStatus.RUNNING),
+            now,
+            limit)
+        .getValues("id", Long.class)));
+  }
+
+  private static List<Job> getJobs(DSLContext ctx, List<Long> jobIds) {
+    if (jobIds.isEmpty()) {
+      return Collections.emptyList();
+    }
+
+    return getJobsFromResult(ctx.fetch(BASE_JOB_SELECT_AND_JOIN + "WHERE jobs.id IN (" +
+        jobIds.stream().map(String::valueOf).collect(Collectors.joining(", ")) + ") " +
+        "ORDER BY jobs.created_at ASC, jobs.id ASC, attempts.created_at ASC, attempts.id ASC"));
   }
 
   @Override
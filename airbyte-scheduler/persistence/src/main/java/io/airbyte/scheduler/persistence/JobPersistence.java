@@ -146,6 +146,27 @@ public interface JobPersistence {
 
   Optional<Job> getLastReplicationJob(UUID connectionId) throws IOException;
 
+  /**
+   * Set based version of {@link #getLastReplicationJob(UUID)}, restricted to the connections whose
+   * replication jobs changed recently.
+   *
+   * @param updatedAfter only the connections with a replication job created or updated after this
+   *        time are returned.
+   * @return the last replication job of each of these connections, or empty if they only have
+   *         cancelled jobs.
+   * @throws IOException exception due to interaction with persistence
+   */
+  Map<UUID, Optional<Job>> getLastReplicationJobs(Instant updatedAfter) throws IOException;
+
+  /**
+   * Set based version of listing the sync jobs of a connection with a page size of 1.
+   *
+   * @param connectionIds connections to look up
+   * @return the last sync job of each of these connections that has one, cancelled or not.
+   * @throws IOException exception due to interaction with persistence
+   */
+  List<Job> getLastSyncJobForConnections(List<UUID> connectionIds) throws IOException;
+
   /**
    * if a job does not succeed, we assume that it synced nothing. that is the most conservative
    * assumption we can make. as long as all destinations write the final data output in a
@@ -161,6 +182,18 @@ public interface JobPersistence {
 
   Optional<Job> getNextJob() throws IOException;
 
+  /**
+   * Claims the oldest pending jobs, at most one per scope, and none for a scope that already has a
+   * running or incomplete job. Claimed jobs are marked as running before they are returned, so
+   * dequeues running at the same time never return the same job, nor two jobs of the same scope.
+   * Unlike {@link #getNextJob()}, the caller is expected to create an attempt for every returned job.
+   *
+   * @param limit maximum number of jobs returned.
+   * @return the jobs, oldest first.
+   * @throws IOException exception due to interaction with persistence
+   */
+  List<Job> getNextJobs(int limit) throws IOException;
+
   /// ARCHIVE
 
   /**
@@ -47,12 +47,16 @@ import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -715,6 +719,48 @@ class DefaultJobPersistenceTest {
       assertEquals(Optional.of(expected), actual);
     }
 
+    @Test
+    @DisplayName("Should return the last job of the connections updated since the given time")
+    public void testGetLastReplicationJobs() throws IOException {
+      final long jobId1 = jobPersistence.enqueueJob(SCOPE, SYNC_JOB_CONFIG).orElseThrow();
+      jobPersistence.succeedAttempt(jobId1, jobPersistence.createAttempt(jobId1, LOG_PATH));
+
+      final Instant afterNow = NOW.plusSeconds(1000);
+      when(timeSupplier.get()).thenReturn(afterNow);
+      final long jobId2 = jobPersistence.enqueueJob(SCOPE, SYNC_JOB_CONFIG).orElseThrow();
+
+      final Job expected = createJob(jobId2, SYNC_JOB_CONFIG, JobStatus.PENDING, Collections.emptyList(), afterNow.getEpochSecond());
+      assertEquals(Map.of(CONNECTION_ID, Optional.of(expected)), jobPersistence.getLastReplicationJobs(NOW.minusSeconds(1)));
+      assertEquals(Map.of(), jobPersistence.getLastReplicationJobs(afterNow));
+    }
+
+    @Test
+    @DisplayName("Should return an empty job for connections that only have cancelled jobs")
+    public void testGetLastReplicationJobsCancelled() throws IOException {
+      final long jobId = jobPersistence.enqueueJob(SCOPE, SYNC_JOB_CONFIG).orElseThrow();
+      jobPersistence.cancelJob(jobId);
+
+      assertEquals(Map.of(CONNECTION_ID, Optional.empty()), jobPersistence.getLastReplicationJobs(NOW.minusSeconds(1)));
+    }
+
+    @Test
+    @DisplayName("Should return the last sync job of each connection, including cancelled jobs")
+    public void testGetLastSyncJobForConnections() throws IOException {
+      final UUID otherConnectionId = UUID.randomUUID();
+      final long jobId1 = jobPersistence.enqueueJob(SCOPE, SYNC_JOB_CONFIG).orElseThrow();
+      jobPersistence.succeedAttempt(jobId1, jobPersistence.createAttempt(jobId1, LOG_PATH));
+
+      final Instant afterNow = NOW.plusSeconds(1000);
+      when(timeSupplier.get()).thenReturn(afterNow);
+      final long jobId2 = jobPersistence.enqueueJob(SCOPE, SYNC_JOB_CONFIG).orElseThrow();
+      jobPersistence.cancelJob(jobId2);
+      jobPersistence.enqueueJob(otherConnectionId.toString(), SPEC_JOB_CONFIG).orElseThrow();
+
+      final Job expected = createJob(jobId2, SYNC_JOB_CONFIG, JobStatus.CANCELLED, Collections.emptyList(), afterNow.getEpochSecond());
+      assertEquals(List.of(expected), jobPersistence.getLastSyncJobForConnections(List.of(CONNECTION_ID, otherConnectionId)));
+      assertEquals(List.of(), jobPersistence.getLastSyncJobForConnections(List.of()));
+    }
+
   }
 
   @Nested
@@ -950,6 +996,65 @@ class DefaultJobPersistenceTest {
       assertTrue(actual.isEmpty());
     }
 
+    @Test
+    @DisplayName("Should return the oldest pending job of each scope, up to the limit")
+    public void testGetNextJobs() throws IOException {
+      final long jobId = createJobAt(NOW);
+      createJobAt(NOW.plusSeconds(1));
+      final long jobId2 = jobPersistence.enqueueJob(SPEC_SCOPE, SPEC_JOB_CONFIG).orElseThrow();
+      jobPersistence.enqueueJob(CHECK_SCOPE, SPEC_JOB_CONFIG).orElseThrow();
+
+      final List<Long> actual = jobPersistence.getNextJobs(2).stream().map(Job::getId).collect(Collectors.toList());
+
+      assertEquals(List.of(jobId, jobId2), actual);
+    }
+
+    @Test
+    @DisplayName("Should claim the returned jobs, so that they are not returned again")
+    public void testGetNextJobsClaimsJobs() throws IOException {
+      final long jobId = createJobAt(NOW);
+      createJobAt(NOW.plusSeconds(1));
+
+      final List<Job> claimed = jobPersistence.getNextJobs(10);
+
+      assertEquals(List.of(jobId), claimed.stream().map(Job::getId).collect(Collectors.toList()));
+      assertEquals(JobStatus.RUNNING, claimed.get(0).getStatus());
+      assertEquals(JobStatus.RUNNING, jobPersistence.getJob(jobId).getStatus());
+      // the newer job of the same scope waits for the claimed one.
+      assertTrue(jobPersistence.getNextJobs(10).isEmpty());
+      assertTrue(jobPersistence.getNextJob().isEmpty());
+      // the claimed job gets its first attempt.
+      assertEquals(0, jobPersistence.createAttempt(jobId, LOG_PATH));
+    }
+
+    @Test
+    @DisplayName("Should not return the same job to concurrent dequeues")
+    public void testGetNextJobsConcurrently() throws Exception {
+      final Set<Long> jobIds = new HashSet<>();
+      for (int i = 0; i < 40; i++) {
+        jobIds.add(jobPersistence.enqueueJob(UUID.randomUUID().toString(), SPEC_JOB_CONFIG).orElseThrow());
+      }
+
+      final ExecutorService executor = Executors.newFixedThreadPool(4);
+      try {
+        final List<Future<List<Job>>> dequeues = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+          dequeues.add(executor.submit(() -> jobPersistence.getNextJobs(5)));
+        }
+
+        final List<Long> claimed = new ArrayList<>();
+        for (final Future<List<Job>> dequeue : dequeues) {
+          dequeue.get().forEach(job -> claimed.add(job.getId()));
+        }
+        jobPersistence.getNextJobs(40).forEach(job -> claimed.add(job.getId()));
+
+        assertEquals(jobIds.size(), claimed.size());
+        assertEquals(jobIds, new HashSet<>(claimed));
+      } finally {
+        executor.shutdownNow();
+      }
+    }
+
   }
 
   @Nested
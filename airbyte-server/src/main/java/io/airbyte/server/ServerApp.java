@@ -4,6 +4,7 @@
 
 package io.airbyte.server;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.airbyte.analytics.Deployment;
 import io.airbyte.analytics.TrackingClient;
 import io.airbyte.analytics.TrackingClientSingleton;
@@ -15,6 +16,7 @@ import io.airbyte.config.Configs.WorkerEnvironment;
 import io.airbyte.config.EnvConfigs;
 import io.airbyte.config.StandardWorkspace;
 import io.airbyte.config.helpers.LogClientSingleton;
+import io.airbyte.config.persistence.CachingConfigPersistence;
 import io.airbyte.config.persistence.ConfigPersistence;
 import io.airbyte.config.persistence.ConfigRepository;
 import io.airbyte.config.persistence.DatabaseConfigPersistence;
@@ -51,10 +53,14 @@ import io.airbyte.workers.temporal.TemporalClient;
 import io.airbyte.workers.temporal.TemporalUtils;
 import io.temporal.serviceclient.WorkflowServiceStubs;
 import java.io.IOException;
+import java.time.Duration;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import org.eclipse.jetty.server.Server;
 import org.eclipse.jetty.servlet.ServletContextHandler;
 import org.eclipse.jetty.servlet.ServletHolder;
@@ -69,6 +75,7 @@ public class ServerApp implements ServerRunnable {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(ServerApp.class);
   private static final int PORT = 8001;
+  private static final Duration CONFIG_CACHE_STATS_INTERVAL = Duration.ofMinutes(10);
   /**
    * We can't support automatic migration for kube before this version because we had a bug in kube
    * which would cause airbyte db to erase state upon termination, as a result the automatic migration
@@ -154,6 +161,20 @@ public class ServerApp implements ServerRunnable {
     TrackingClientSingleton.get().identify(workspaceId);
   }
 
+  private static void scheduleConfigCacheStatsLogging(final CachingConfigPersistence configCache) {
+    final ScheduledExecutorService statsPool = Executors.newSingleThreadScheduledExecutor(
+        new ThreadFactoryBuilder().setNameFormat("config-cache-stats-%d").setDaemon(true).build());
+    statsPool.scheduleWithFixedDelay(
+        () -> LOGGER.info("Config cache: {} (hit rate {}). Config list cache: {} (hit rate {}).",
+            configCache.getConfigCacheStats(),
+            configCache.getConfigCacheStats().hitRate(),
+            configCache.getListCacheStats(),
+            configCache.getListCacheStats().hitRate()),
+        CONFIG_CACHE_STATS_INTERVAL.toSeconds(),
+        CONFIG_CACHE_STATS_INTERVAL.toSeconds(),
+        TimeUnit.SECONDS);
+  }
+
   public static ServerRunnable getServer(final ServerFactory apiFactory, final ConfigPersistence seed) throws Exception {
     final Configs configs = new EnvConfigs();
 
@@ -175,8 +196,18 @@ public class ServerApp implements ServerRunnable {
     final Optional<SecretPersistence> secretPersistence = SecretPersistence.getLongLived(configs);
     final Optional<SecretPersistence> ephemeralSecretPersistence = SecretPersistence.getEphemeral(configs);
 
+    // the server is the only process writing configs, so it can cache them.
+    final ConfigPersistence cachingConfigPersistence;
+    if (configs.getConfigCacheMaximumSize() > 0) {
+      final CachingConfigPersistence configCache =
+          new CachingConfigPersistence(configPersistence.withValidation(), configs.getConfigCacheMaximumSize());
+      scheduleConfigCacheStatsLogging(configCache);
+      cachingConfigPersistence = configCache;
+    } else {
+      cachingConfigPersistence = configPersistence.withValidation();
+    }
     final ConfigRepository configRepository =
-        new ConfigRepository(configPersistence.withValidation(), secretsHydrator, secretPersistence, ephemeralSecretPersistence);
+        new ConfigRepository(cachingConfigPersistence, secretsHydrator, secretPersistence, ephemeralSecretPersistence);
 
     LOGGER.info("Creating Scheduler persistence...");
     final Database jobDatabase = new JobsDatabaseInstance(
@@ -239,7 +270,8 @@ public class ServerApp implements ServerRunnable {
       LOGGER.info("Starting server...");
 
       runFlywayMigration(configs, configDatabase, jobDatabase);
-      configPersistence.loadData(seed);
+      // goes through the repository so that the cache drops what the migrations changed.
+      configRepository.loadData(seed);
 
       return apiFactory.create(
           schedulerJobClient,
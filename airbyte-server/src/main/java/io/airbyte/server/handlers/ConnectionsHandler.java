@@ -52,6 +52,7 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -235,16 +236,22 @@ public class ConnectionsHandler {
   public ConnectionReadList listConnectionsForWorkspace(WorkspaceIdRequestBody workspaceIdRequestBody)
       throws JsonValidationException, IOException, ConfigNotFoundException {
     final List<ConnectionRead> connectionReads = Lists.newArrayList();
+    // look the sources up once rather than once per connection.
+    final Set<UUID> workspaceSourceIds = configRepository.listSourceConnection()
+        .stream()
+        .filter(source -> source.getWorkspaceId().equals(workspaceIdRequestBody.getWorkspaceId()))
+        .map(SourceConnection::getSourceId)
+        .collect(Collectors.toSet());
 
     for (StandardSync standardSync : configRepository.listStandardSyncs()) {
       if (standardSync.getStatus() == StandardSync.Status.DEPRECATED) {
         continue;
       }
-      if (!isStandardSyncInWorkspace(workspaceIdRequestBody.getWorkspaceId(), standardSync)) {
+      if (!workspaceSourceIds.contains(standardSync.getSourceId())) {
         continue;
       }
 
-      connectionReads.add(buildConnectionRead(standardSync.getConnectionId()));
+      connectionReads.add(buildConnectionRead(standardSync));
     }
 
     return new ConnectionReadList().connections(connectionReads);
@@ -257,7 +264,7 @@ public class ConnectionsHandler {
       if (standardSync.getStatus() == StandardSync.Status.DEPRECATED) {
         continue;
       }
-      connectionReads.add(buildConnectionRead(standardSync.getConnectionId()));
+      connectionReads.add(buildConnectionRead(standardSync));
     }
 
     return new ConnectionReadList().connections(connectionReads);
@@ -273,7 +280,7 @@ public class ConnectionsHandler {
     final List<ConnectionRead> reads = Lists.newArrayList();
     for (StandardSync standardSync : configRepository.listStandardSyncs()) {
       if (standardSync.getStatus() != StandardSync.Status.DEPRECATED) {
-        ConnectionRead connectionRead = buildConnectionRead(standardSync.getConnectionId());
+        ConnectionRead connectionRead = buildConnectionRead(standardSync);
         if (matchSearch(connectionSearch, connectionRead)) {
           reads.add(connectionRead);
         }
@@ -338,12 +345,6 @@ public class ConnectionsHandler {
     updateConnection(connectionUpdate);
   }
 
-  private boolean isStandardSyncInWorkspace(final UUID workspaceId,
-                                            final StandardSync standardSync)
-      throws ConfigNotFoundException, IOException, JsonValidationException {
-    return configRepository.getSourceConnection(standardSync.getSourceId()).getWorkspaceId().equals(workspaceId);
-  }
-
   private ConnectionRead buildConnectionRead(UUID connectionId)
       throws ConfigNotFoundException, IOException, JsonValidationException {
     final StandardSync standardSync = configRepository.getStandardSync(connectionId);
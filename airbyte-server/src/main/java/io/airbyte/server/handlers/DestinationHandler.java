@@ -29,9 +29,14 @@ import io.airbyte.server.converters.SpecFetcher;
 import io.airbyte.validation.json.JsonSchemaValidator;
 import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -167,6 +172,47 @@ public class DestinationHandler {
     return buildDestinationRead(destinationIdRequestBody.getDestinationId());
   }
 
+  /**
+   * Bulk version of {@link #getDestination(DestinationIdRequestBody)}. Lists the destinations and
+   * their definitions once, and fetches the spec once per definition, however many destinations are
+   * requested.
+   */
+  public Map<UUID, DestinationRead> getDestinations(Set<UUID> destinationIds)
+      throws JsonValidationException, IOException, ConfigNotFoundException {
+    final Map<UUID, StandardDestinationDefinition> destinationDefs = configRepository.listStandardDestinationDefinitions()
+        .stream()
+        .collect(Collectors.toMap(StandardDestinationDefinition::getDestinationDefinitionId, Function.identity()));
+    final Map<UUID, ConnectorSpecification> specs = new HashMap<>();
+    final Map<UUID, DestinationRead> reads = new HashMap<>();
+
+    for (DestinationConnection dci : configRepository.listDestinationConnection()) {
+      final UUID destinationId = dci.getDestinationId();
+      if (!destinationIds.contains(destinationId)) {
+        continue;
+      }
+      if (dci.getTombstone()) {
+        throw new ConfigNotFoundException(ConfigSchema.DESTINATION_CONNECTION, destinationId.toString());
+      }
+
+      final UUID destinationDefId = dci.getDestinationDefinitionId();
+      final StandardDestinationDefinition destinationDef = destinationDefs.get(destinationDefId);
+      if (destinationDef == null) {
+        throw new ConfigNotFoundException(ConfigSchema.STANDARD_DESTINATION_DEFINITION, destinationDefId.toString());
+      }
+      if (!specs.containsKey(destinationDefId)) {
+        specs.put(destinationDefId, getSpec(specFetcher, destinationDef));
+      }
+      reads.put(destinationId, buildDestinationRead(dci, destinationDef, specs.get(destinationDefId)));
+    }
+
+    for (UUID destinationId : destinationIds) {
+      if (!reads.containsKey(destinationId)) {
+        throw new ConfigNotFoundException(ConfigSchema.DESTINATION_CONNECTION, destinationId.toString());
+      }
+    }
+    return reads;
+  }
+
   public DestinationReadList listDestinationsForWorkspace(WorkspaceIdRequestBody workspaceIdRequestBody)
       throws ConfigNotFoundException, IOException, JsonValidationException {
     final List<DestinationRead> reads = Lists.newArrayList();
@@ -241,12 +287,18 @@ public class DestinationHandler {
   private DestinationRead buildDestinationRead(final UUID destinationId, ConnectorSpecification spec)
       throws ConfigNotFoundException, IOException, JsonValidationException {
 
-    // remove secrets from config before returning the read
-    final DestinationConnection dci = Jsons.clone(configRepository.getDestinationConnection(destinationId));
-    dci.setConfiguration(secretsProcessor.maskSecrets(dci.getConfiguration(), spec.getConnectionSpecification()));
-
+    final DestinationConnection dci = configRepository.getDestinationConnection(destinationId);
     final StandardDestinationDefinition standardDestinationDefinition =
         configRepository.getStandardDestinationDefinition(dci.getDestinationDefinitionId());
+    return buildDestinationRead(dci, standardDestinationDefinition, spec);
+  }
+
+  private DestinationRead buildDestinationRead(final DestinationConnection destinationConnection,
+                                               final StandardDestinationDefinition standardDestinationDefinition,
+                                               final ConnectorSpecification spec) {
+    // remove secrets from config before returning the read
+    final DestinationConnection dci = Jsons.clone(destinationConnection);
+    dci.setConfiguration(secretsProcessor.maskSecrets(dci.getConfiguration(), spec.getConnectionSpecification()));
     return toDestinationRead(dci, standardDestinationDefinition);
   }
 
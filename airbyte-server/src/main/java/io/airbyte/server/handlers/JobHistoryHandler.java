@@ -8,6 +8,7 @@ import com.google.common.base.Preconditions;
 import io.airbyte.api.model.JobIdRequestBody;
 import io.airbyte.api.model.JobInfoRead;
 import io.airbyte.api.model.JobListRequestBody;
+import io.airbyte.api.model.JobRead;
 import io.airbyte.api.model.JobReadList;
 import io.airbyte.api.model.JobWithAttemptsRead;
 import io.airbyte.commons.enums.Enums;
@@ -18,7 +19,9 @@ import io.airbyte.scheduler.persistence.JobPersistence;
 import io.airbyte.server.converters.JobConverter;
 import java.io.IOException;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 public class JobHistoryHandler {
@@ -52,6 +55,15 @@ public class JobHistoryHandler {
     return new JobReadList().jobs(jobReads);
   }
 
+  /**
+   * @return the latest sync job of each of the given connections that has one, by connection id.
+   */
+  public Map<UUID, JobRead> getLatestSyncJobs(List<UUID> connectionIds) throws IOException {
+    return jobPersistence.getLastSyncJobForConnections(connectionIds)
+        .stream()
+        .collect(Collectors.toMap(job -> UUID.fromString(job.getScope()), job -> JobConverter.getJobWithAttemptsRead(job).getJob()));
+  }
+
   public JobInfoRead getJobInfo(JobIdRequestBody jobIdRequestBody) throws IOException {
     final Job job = jobPersistence.getJob(jobIdRequestBody.getId());
 
@@ -10,6 +10,7 @@ import com.google.common.collect.Lists;
 import io.airbyte.api.model.CheckOperationRead;
 import io.airbyte.api.model.CheckOperationRead.StatusEnum;
 import io.airbyte.api.model.ConnectionIdRequestBody;
+import io.airbyte.api.model.ConnectionRead;
 import io.airbyte.api.model.OperationCreate;
 import io.airbyte.api.model.OperationIdRequestBody;
 import io.airbyte.api.model.OperationRead;
@@ -30,7 +31,9 @@ import io.airbyte.config.persistence.ConfigRepository;
 import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.function.Supplier;
 
@@ -148,6 +151,37 @@ public class OperationsHandler {
     return new OperationReadList().operations(operationReads);
   }
 
+  /**
+   * Bulk version of {@link #listOperationsForConnection(ConnectionIdRequestBody)}, which lists the
+   * operations once for all the connections.
+   *
+   * @return the operations of each connection, by connection id.
+   */
+  public Map<UUID, OperationReadList> listOperationsForConnections(List<ConnectionRead> connectionReads)
+      throws JsonValidationException, ConfigNotFoundException, IOException {
+    final Map<UUID, StandardSyncOperation> operations = new HashMap<>();
+    for (StandardSyncOperation standardSyncOperation : configRepository.listStandardSyncOperations()) {
+      operations.put(standardSyncOperation.getOperationId(), standardSyncOperation);
+    }
+
+    final Map<UUID, OperationReadList> operationReadLists = new HashMap<>();
+    for (ConnectionRead connectionRead : connectionReads) {
+      final List<OperationRead> operationReads = Lists.newArrayList();
+      for (UUID operationId : connectionRead.getOperationIds()) {
+        final StandardSyncOperation standardSyncOperation = operations.get(operationId);
+        if (standardSyncOperation == null) {
+          throw new ConfigNotFoundException(ConfigSchema.STANDARD_SYNC_OPERATION, operationId.toString());
+        }
+        if (standardSyncOperation.getTombstone() != null && standardSyncOperation.getTombstone()) {
+          continue;
+        }
+        operationReads.add(buildOperationRead(standardSyncOperation));
+      }
+      operationReadLists.put(connectionRead.getConnectionId(), new OperationReadList().operations(operationReads));
+    }
+    return operationReadLists;
+  }
+
   public OperationRead getOperation(OperationIdRequestBody operationIdRequestBody)
       throws JsonValidationException, IOException, ConfigNotFoundException {
     return buildOperationRead(operationIdRequestBody.getOperationId());
@@ -27,9 +27,14 @@ import io.airbyte.server.converters.SpecFetcher;
 import io.airbyte.validation.json.JsonSchemaValidator;
 import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 public class SourceHandler {
 
@@ -128,6 +133,46 @@ public class SourceHandler {
     return buildSourceRead(sourceId);
   }
 
+  /**
+   * Bulk version of {@link #getSource(SourceIdRequestBody)}. Lists the sources and their definitions
+   * once, and fetches the spec once per definition, however many sources are requested.
+   */
+  public Map<UUID, SourceRead> getSources(Set<UUID> sourceIds)
+      throws JsonValidationException, IOException, ConfigNotFoundException {
+    final Map<UUID, StandardSourceDefinition> sourceDefs = configRepository.listStandardSourceDefinitions()
+        .stream()
+        .collect(Collectors.toMap(StandardSourceDefinition::getSourceDefinitionId, Function.identity()));
+    final Map<UUID, ConnectorSpecification> specs = new HashMap<>();
+    final Map<UUID, SourceRead> reads = new HashMap<>();
+
+    for (SourceConnection sourceConnection : configRepository.listSourceConnection()) {
+      final UUID sourceId = sourceConnection.getSourceId();
+      if (!sourceIds.contains(sourceId)) {
+        continue;
+      }
+      if (sourceConnection.getTombstone()) {
+        throw new ConfigNotFoundException(ConfigSchema.SOURCE_CONNECTION, sourceId.toString());
+      }
+
+      final UUID sourceDefId = sourceConnection.getSourceDefinitionId();
+      final StandardSourceDefinition sourceDef = sourceDefs.get(sourceDefId);
+      if (sourceDef == null) {
+        throw new ConfigNotFoundException(ConfigSchema.STANDARD_SOURCE_DEFINITION, sourceDefId.toString());
+      }
+      if (!specs.containsKey(sourceDefId)) {
+        specs.put(sourceDefId, getSpecFromSourceDefinitionId(specFetcher, sourceDef));
+      }
+      reads.put(sourceId, buildSourceRead(sourceConnection, sourceDef, specs.get(sourceDefId)));
+    }
+
+    for (UUID sourceId : sourceIds) {
+      if (!reads.containsKey(sourceId)) {
+        throw new ConfigNotFoundException(ConfigSchema.SOURCE_CONNECTION, sourceId.toString());
+      }
+    }
+    return reads;
+  }
+
   public SourceReadList listSourcesForWorkspace(WorkspaceIdRequestBody workspaceIdRequestBody)
       throws ConfigNotFoundException, IOException, JsonValidationException {
     final List<SourceRead> reads = Lists.newArrayList();
@@ -218,6 +263,12 @@ public class SourceHandler {
     final SourceConnection sourceConnection = configRepository.getSourceConnection(sourceId);
     final StandardSourceDefinition standardSourceDefinition = configRepository
         .getStandardSourceDefinition(sourceConnection.getSourceDefinitionId());
+    return buildSourceRead(sourceConnection, standardSourceDefinition, spec);
+  }
+
+  private SourceRead buildSourceRead(final SourceConnection sourceConnection,
+                                     final StandardSourceDefinition standardSourceDefinition,
+                                     final ConnectorSpecification spec) {
     final JsonNode sanitizedConfig = secretsProcessor.maskSecrets(
         sourceConnection.getConfiguration(), spec.getConnectionSpecification());
     sourceConnection.setConfiguration(sanitizedConfig);
@@ -4,7 +4,9 @@
 
 package io.airbyte.server.handlers;
 
+import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toMap;
+import static java.util.stream.Collectors.toSet;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Lists;
@@ -30,6 +32,7 @@ import io.airbyte.api.model.OperationCreate;
 import io.airbyte.api.model.OperationReadList;
 import io.airbyte.api.model.OperationUpdate;
 import io.airbyte.api.model.SourceDiscoverSchemaRead;
+import io.airbyte.api.model.SourceDiscoverSchemaRequestBody;
 import io.airbyte.api.model.SourceIdRequestBody;
 import io.airbyte.api.model.SourceRead;
 import io.airbyte.api.model.WebBackendConnectionCreate;
@@ -81,11 +84,43 @@ public class WebBackendConnectionsHandler {
   public WebBackendConnectionReadList webBackendListConnectionsForWorkspace(WorkspaceIdRequestBody workspaceIdRequestBody)
       throws ConfigNotFoundException, IOException, JsonValidationException {
 
+    final List<ConnectionRead> connectionReads = connectionsHandler.listConnectionsForWorkspace(workspaceIdRequestBody).getConnections();
+    return new WebBackendConnectionReadList().connections(buildWebBackendConnectionReads(connectionReads));
+  }
+
+  /**
+   * Bulk version of {@link #buildWebBackendConnectionRead(ConnectionRead)}, which makes the same
+   * number of lookups however many connections there are.
+   */
+  private List<WebBackendConnectionRead> buildWebBackendConnectionReads(List<ConnectionRead> connectionReads)
+      throws ConfigNotFoundException, IOException, JsonValidationException {
+    final Map<UUID, SourceRead> sources =
+        sourceHandler.getSources(connectionReads.stream().map(ConnectionRead::getSourceId).collect(toSet()));
+    final Map<UUID, DestinationRead> destinations =
+        destinationHandler.getDestinations(connectionReads.stream().map(ConnectionRead::getDestinationId).collect(toSet()));
+    final Map<UUID, OperationReadList> operations = operationsHandler.listOperationsForConnections(connectionReads);
+    // a sync job is only created once the previous job of the connection has finished, so the
+    // connection is syncing if and only if its latest sync job is running.
+    final Map<UUID, JobRead> latestSyncJobs =
+        jobHistoryHandler.getLatestSyncJobs(connectionReads.stream().map(ConnectionRead::getConnectionId).collect(toList()));
+
     final List<WebBackendConnectionRead> reads = Lists.newArrayList();
-    for (ConnectionRead connection : connectionsHandler.listConnectionsForWorkspace(workspaceIdRequestBody).getConnections()) {
-      reads.add(buildWebBackendConnectionRead(connection));
+    for (ConnectionRead connectionRead : connectionReads) {
+      final WebBackendConnectionRead webBackendConnectionRead = getWebBackendConnectionRead(
+          connectionRead,
+          sources.get(connectionRead.getSourceId()),
+          destinations.get(connectionRead.getDestinationId()),
+          operations.get(connectionRead.getConnectionId()));
+
+      final JobRead latestSyncJob = latestSyncJobs.get(connectionRead.getConnectionId());
+      webBackendConnectionRead.setIsSyncing(latestSyncJob != null && !TERMINAL_STATUSES.contains(latestSyncJob.getStatus()));
+      if (latestSyncJob != null) {
+        webBackendConnectionRead.setLatestSyncJobCreatedAt(latestSyncJob.getCreatedAt());
+        webBackendConnectionRead.setLatestSyncJobStatus(latestSyncJob.getStatus());
+      }
+      reads.add(webBackendConnectionRead);
     }
-    return new WebBackendConnectionReadList().connections(reads);
+    return reads;
   }
 
   private WebBackendConnectionRead buildWebBackendConnectionRead(ConnectionRead connectionRead)
@@ -157,14 +192,14 @@ public class WebBackendConnectionsHandler {
   public WebBackendConnectionReadList webBackendSearchConnections(WebBackendConnectionSearch webBackendConnectionSearch)
       throws ConfigNotFoundException, IOException, JsonValidationException {
 
-    final List<WebBackendConnectionRead> reads = Lists.newArrayList();
+    final List<ConnectionRead> connectionReads = Lists.newArrayList();
     for (ConnectionRead connectionRead : connectionsHandler.listConnections().getConnections()) {
       if (connectionsHandler.matchSearch(toConnectionSearch(webBackendConnectionSearch), connectionRead)) {
-        reads.add(buildWebBackendConnectionRead(connectionRead));
+        connectionReads.add(connectionRead);
       }
     }
 
-    return new WebBackendConnectionReadList().connections(reads);
+    return new WebBackendConnectionReadList().connections(buildWebBackendConnectionReads(connectionReads));
   }
 
   public WebBackendConnectionRead webBackendGetConnection(WebBackendConnectionRequestBody webBackendConnectionRequestBody)
@@ -175,8 +210,11 @@ public class WebBackendConnectionsHandler {
     final ConnectionRead connection = connectionsHandler.getConnection(connectionIdRequestBody);
 
     if (MoreBooleans.isTruthy(webBackendConnectionRequestBody.getWithRefreshedCatalog())) {
-      final SourceIdRequestBody sourceId = new SourceIdRequestBody().sourceId(connection.getSourceId());
-      final SourceDiscoverSchemaRead discoverSchema = schedulerHandler.discoverSchemaForSourceFromSourceId(sourceId);
+      // the user asked for the latest catalog, so do not use a cached one.
+      final SourceDiscoverSchemaRequestBody discoverSchemaRequestBody = new SourceDiscoverSchemaRequestBody()
+          .sourceId(connection.getSourceId())
+          .disableCache(true);
+      final SourceDiscoverSchemaRead discoverSchema = schedulerHandler.discoverSchemaForSourceFromSourceId(discoverSchemaRequestBody);
 
       final AirbyteCatalog original = connection.getSyncCatalog();
       final AirbyteCatalog discovered = discoverSchema.getCatalog();
@@ -322,10 +322,8 @@ class ConnectionsHandlerTest {
   void testListConnectionsForWorkspace() throws JsonValidationException, ConfigNotFoundException, IOException {
     when(configRepository.listStandardSyncs())
         .thenReturn(Lists.newArrayList(standardSync));
-    when(configRepository.getSourceConnection(source.getSourceId()))
-        .thenReturn(source);
-    when(configRepository.getStandardSync(standardSync.getConnectionId()))
-        .thenReturn(standardSync);
+    when(configRepository.listSourceConnection())
+        .thenReturn(Lists.newArrayList(source));
 
     final WorkspaceIdRequestBody workspaceIdRequestBody = new WorkspaceIdRequestBody().workspaceId(source.getWorkspaceId());
     final ConnectionReadList actualConnectionReadList = connectionsHandler.listConnectionsForWorkspace(workspaceIdRequestBody);
@@ -41,6 +41,9 @@ import io.airbyte.validation.json.JsonSchemaValidator;
 import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.function.Supplier;
 import org.junit.jupiter.api.BeforeEach;
@@ -184,6 +187,21 @@ class SourceHandlerTest {
     verify(secretsProcessor).maskSecrets(sourceConnection.getConfiguration(), sourceDefinitionSpecificationRead.getConnectionSpecification());
   }
 
+  @Test
+  void testGetSources() throws JsonValidationException, ConfigNotFoundException, IOException {
+    final SourceRead expectedSourceRead = SourceHelpers.getSourceRead(sourceConnection, standardSourceDefinition);
+    final SourceConnection otherSourceConnection = SourceHelpers.generateSource(UUID.randomUUID());
+
+    when(configRepository.listSourceConnection()).thenReturn(List.of(sourceConnection, otherSourceConnection));
+    when(configRepository.listStandardSourceDefinitions()).thenReturn(List.of(standardSourceDefinition));
+    when(specFetcher.execute(imageName)).thenReturn(connectorSpecification);
+    when(secretsProcessor.maskSecrets(sourceConnection.getConfiguration(), sourceDefinitionSpecificationRead.getConnectionSpecification()))
+        .thenReturn(sourceConnection.getConfiguration());
+
+    assertEquals(Map.of(expectedSourceRead.getSourceId(), expectedSourceRead), sourceHandler.getSources(Set.of(expectedSourceRead.getSourceId())));
+    assertThrows(ConfigNotFoundException.class, () -> sourceHandler.getSources(Set.of(UUID.randomUUID())));
+  }
+
   @Test
   void testGetDeletedSource() throws JsonValidationException, ConfigNotFoundException, IOException {
     final UUID sourceId = sourceConnection.getSourceId();
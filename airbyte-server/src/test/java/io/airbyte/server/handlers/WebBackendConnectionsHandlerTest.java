@@ -41,6 +41,7 @@ import io.airbyte.api.model.OperationReadList;
 import io.airbyte.api.model.OperationUpdate;
 import io.airbyte.api.model.ResourceRequirements;
 import io.airbyte.api.model.SourceDiscoverSchemaRead;
+import io.airbyte.api.model.SourceDiscoverSchemaRequestBody;
 import io.airbyte.api.model.SourceIdRequestBody;
 import io.airbyte.api.model.SourceRead;
 import io.airbyte.api.model.SyncMode;
@@ -76,6 +77,7 @@ import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -154,6 +156,14 @@ class WebBackendConnectionsHandlerTest {
     jobListRequestBody.setConfigId(connectionRead.getConnectionId().toString());
     when(jobHistoryHandler.listJobsFor(jobListRequestBody)).thenReturn(jobReadList);
 
+    when(sourceHandler.getSources(Set.of(connectionRead.getSourceId()))).thenReturn(Map.of(connectionRead.getSourceId(), sourceRead));
+    when(destinationHandler.getDestinations(Set.of(connectionRead.getDestinationId())))
+        .thenReturn(Map.of(connectionRead.getDestinationId(), destinationRead));
+    when(operationsHandler.listOperationsForConnections(List.of(connectionRead)))
+        .thenReturn(Map.of(connectionRead.getConnectionId(), operationReadList));
+    when(jobHistoryHandler.getLatestSyncJobs(List.of(connectionRead.getConnectionId())))
+        .thenReturn(Map.of(connectionRead.getConnectionId(), jobRead.getJob()));
+
     expected = new WebBackendConnectionRead()
         .connectionId(connectionRead.getConnectionId())
         .sourceId(connectionRead.getSourceId())
@@ -180,7 +190,10 @@ class WebBackendConnectionsHandlerTest {
 
     final AirbyteCatalog modifiedCatalog = ConnectionHelpers.generateBasicApiCatalog();
 
-    when(schedulerHandler.discoverSchemaForSourceFromSourceId(sourceIdRequestBody)).thenReturn(
+    final SourceDiscoverSchemaRequestBody discoverSchemaRequestBody = new SourceDiscoverSchemaRequestBody()
+        .sourceId(connectionRead.getSourceId())
+        .disableCache(true);
+    when(schedulerHandler.discoverSchemaForSourceFromSourceId(discoverSchemaRequestBody)).thenReturn(
         new SourceDiscoverSchemaRead()
             .jobInfo(mock(SynchronousJobRead.class))
             .catalog(modifiedCatalog));
@@ -219,10 +232,7 @@ class WebBackendConnectionsHandlerTest {
 
     final ConnectionReadList connectionReadList = new ConnectionReadList();
     connectionReadList.setConnections(Collections.singletonList(connectionRead));
-    final ConnectionIdRequestBody connectionIdRequestBody = new ConnectionIdRequestBody();
-    connectionIdRequestBody.setConnectionId(connectionRead.getConnectionId());
     when(connectionsHandler.listConnectionsForWorkspace(workspaceIdRequestBody)).thenReturn(connectionReadList);
-    when(operationsHandler.listOperationsForConnection(connectionIdRequestBody)).thenReturn(operationReadList);
 
     final WebBackendConnectionReadList WebBackendConnectionReadList = wbHandler.webBackendListConnectionsForWorkspace(workspaceIdRequestBody);
     assertEquals(1, WebBackendConnectionReadList.getConnections().size());
@@ -233,10 +243,7 @@ class WebBackendConnectionsHandlerTest {
   public void testWebBackendSearchConnections() throws ConfigNotFoundException, IOException, JsonValidationException {
     final ConnectionReadList connectionReadList = new ConnectionReadList();
     connectionReadList.setConnections(Collections.singletonList(connectionRead));
-    final ConnectionIdRequestBody connectionIdRequestBody = new ConnectionIdRequestBody();
-    connectionIdRequestBody.setConnectionId(connectionRead.getConnectionId());
 
-    when(operationsHandler.listOperationsForConnection(connectionIdRequestBody)).thenReturn(operationReadList);
     when(connectionsHandler.listConnections()).thenReturn(connectionReadList);
     when(connectionsHandler.matchSearch(new ConnectionSearch(), connectionRead)).thenReturn(true);
 
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.protocols.airbyte;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.networknt.schema.JsonSchemaFactory;
+import com.networknt.schema.SchemaValidatorsConfig;
+import com.networknt.schema.SpecVersion;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteProtocolSchema;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import io.airbyte.validation.json.JsonSchemaValidator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.lang3.RandomStringUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the throughput of validating RECORD messages against the protocol schema: compiling the
+ * schema for every message (what JsonSchemaValidator used to do), reusing the compiled schema, and
+ * the structural envelope check of {@link AirbyteProtocolPredicate}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class AirbyteProtocolPredicateBenchmark {
+
+  private static final int FIELD_SIZE = 64;
+
+  @Param({"1024", "10240"})
+  public int recordSizeBytes;
+
+  private JsonNode schema;
+  private JsonNode message;
+  private JsonSchemaFactory jsonSchemaFactory;
+  private SchemaValidatorsConfig schemaValidatorsConfig;
+  private JsonSchemaValidator jsonSchemaValidator;
+  private AirbyteProtocolPredicate predicate;
+
+  @Setup
+  public void setup() {
+    schema = JsonSchemaValidator.getSchema(AirbyteProtocolSchema.PROTOCOL.getFile(), "AirbyteMessage");
+    jsonSchemaFactory = JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V7);
+    schemaValidatorsConfig = new SchemaValidatorsConfig();
+    jsonSchemaValidator = new JsonSchemaValidator();
+    predicate = new AirbyteProtocolPredicate();
+
+    final Map<String, String> data = new HashMap<>();
+    for (int i = 0; i < recordSizeBytes / FIELD_SIZE; i++) {
+      data.put("field_" + i, RandomStringUtils.randomAlphanumeric(FIELD_SIZE - 10));
+    }
+    message = Jsons.jsonNode(new AirbyteMessage()
+        .withType(AirbyteMessage.Type.RECORD)
+        .withRecord(new AirbyteRecordMessage()
+            .withStream("benchmark_stream")
+            .withEmittedAt(System.currentTimeMillis())
+            .withData(Jsons.jsonNode(data))));
+  }
+
+  @Benchmark
+  public boolean compileSchemaPerMessage() {
+    return jsonSchemaFactory.getSchema(schema, schemaValidatorsConfig).validate(message).isEmpty();
+  }
+
+  @Benchmark
+  public boolean cachedSchema() {
+    return jsonSchemaValidator.test(schema, message);
+  }
+
+  @Benchmark
+  public boolean structuralEnvelopeCheck() {
+    return predicate.test(message);
+  }
+
+}
@@ -19,6 +19,8 @@ import io.airbyte.workers.protocols.Source;
 import java.nio.file.Path;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
@@ -33,6 +35,10 @@ public class DefaultReplicationWorker implements ReplicationWorker {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(DefaultReplicationWorker.class);
 
+  // marks the end of the stream in the hand-off queues of the pipelined mode. compared by identity.
+  private static final AirbyteMessage END_OF_STREAM = new AirbyteMessage();
+  private static final long PIPELINE_POLL_INTERVAL_MS = 100;
+
   private final String jobId;
   private final int attempt;
   private final Source<AirbyteMessage> source;
@@ -40,6 +46,7 @@ public class DefaultReplicationWorker implements ReplicationWorker {
   private final Destination<AirbyteMessage> destination;
   private final MessageTracker<AirbyteMessage> sourceMessageTracker;
   private final MessageTracker<AirbyteMessage> destinationMessageTracker;
+  private final int pipelineBufferSize;
 
   private final ExecutorService executors;
   private final AtomicBoolean cancelled;
@@ -52,6 +59,23 @@ public class DefaultReplicationWorker implements ReplicationWorker {
                                   final Destination<AirbyteMessage> destination,
                                   final MessageTracker<AirbyteMessage> sourceMessageTracker,
                                   final MessageTracker<AirbyteMessage> destinationMessageTracker) {
+    this(jobId, attempt, source, mapper, destination, sourceMessageTracker, destinationMessageTracker, 0);
+  }
+
+  /**
+   * @param pipelineBufferSize when greater than 0, replication runs as a pipeline where reading from
+   *        the source, mapping/tracking and writing to the destination each happen on their own
+   *        thread, connected by bounded queues of this size. when 0, all of these steps happen
+   *        serially on a single thread.
+   */
+  public DefaultReplicationWorker(final String jobId,
+                                  final int attempt,
+                                  final Source<AirbyteMessage> source,
+                                  final Mapper<AirbyteMessage> mapper,
+                                  final Destination<AirbyteMessage> destination,
+                                  final MessageTracker<AirbyteMessage> sourceMessageTracker,
+                                  final MessageTracker<AirbyteMessage> destinationMessageTracker,
+                                  final int pipelineBufferSize) {
     this.jobId = jobId;
     this.attempt = attempt;
     this.source = source;
@@ -59,7 +83,8 @@ public class DefaultReplicationWorker implements ReplicationWorker {
     this.destination = destination;
     this.sourceMessageTracker = sourceMessageTracker;
     this.destinationMessageTracker = destinationMessageTracker;
-    this.executors = Executors.newFixedThreadPool(2);
+    this.pipelineBufferSize = pipelineBufferSize;
+    this.executors = Executors.newFixedThreadPool(pipelineBufferSize > 0 ? 4 : 2);
 
     this.cancelled = new AtomicBoolean(false);
     this.hasFailed = new AtomicBoolean(false);
@@ -72,6 +97,10 @@ public class DefaultReplicationWorker implements ReplicationWorker {
    * should be treated as state that is safe to return from run. In the case when the destination
    * emits no state, we fall back on whatever state is pass in as an argument to this method.
    *
+   * If a pipeline buffer size is configured, the first thread is split into three stages (read,
+   * map/track, write) that hand messages to each other through bounded queues, so that a slow stage
+   * applies backpressure instead of capping the throughput of the others.
+   *
    * @param syncInput all configuration for running replication
    * @param jobRoot file root that worker is allowed to use
    * @return output of the replication attempt (including state)
@@ -108,17 +137,21 @@ public class DefaultReplicationWorker implements ReplicationWorker {
             destinationMessageTracker,
             mdc));
 
-        final Future<?> replicationThreadFuture = executors.submit(getReplicationRunnable(
-            source,
-            destination,
-            cancelled,
-            mapper,
-            sourceMessageTracker,
-            mdc));
-
-        LOGGER.info("Waiting for source thread to join.");
-        replicationThreadFuture.get();
-        LOGGER.info("Source thread complete.");
+        if (pipelineBufferSize > 0) {
+          runPipeline(mdc);
+        } else {
+          final Future<?> replicationThreadFuture = executors.submit(getReplicationRunnable(
+              source,
+              destination,
+              cancelled,
+              mapper,
+              sourceMessageTracker,
+              mdc));
+
+          LOGGER.info("Waiting for source thread to join.");
+          replicationThreadFuture.get();
+          LOGGER.info("Source thread complete.");
+        }
         LOGGER.info("Waiting for destination thread to join.");
         destinationOutputThreadFuture.get();
         LOGGER.info("Destination thread complete.");
@@ -146,6 +179,7 @@ public class DefaultReplicationWorker implements ReplicationWorker {
           .withStatus(outputStatus)
           .withRecordsSynced(sourceMessageTracker.getRecordCount())
           .withBytesSynced(sourceMessageTracker.getBytesCount())
+          .withStreamStats(sourceMessageTracker.getStreamStats())
           .withStartTime(startTime)
           .withEndTime(System.currentTimeMillis());
 
@@ -179,6 +213,182 @@ public class DefaultReplicationWorker implements ReplicationWorker {
 
   }
 
+  private void runPipeline(final Map<String, String> mdc) throws Exception {
+    LOGGER.info("Running replication as a pipeline with buffer size {}.", pipelineBufferSize);
+    final BlockingQueue<AirbyteMessage> readQueue = new ArrayBlockingQueue<>(pipelineBufferSize);
+    final BlockingQueue<AirbyteMessage> mappedQueue = new ArrayBlockingQueue<>(pipelineBufferSize);
+    // set by the first stage that fails so that the other stages stop instead of blocking on the queues
+    // forever. only the failing stage throws, so that its exception is the one surfaced by the worker.
+    final AtomicBoolean pipelineAborted = new AtomicBoolean(false);
+
+    final Future<?> readThreadFuture = executors.submit(getSourceReadRunnable(
+        source,
+        readQueue,
+        cancelled,
+        pipelineAborted,
+        mdc));
+
+    final Future<?> mapThreadFuture = executors.submit(getMapAndTrackRunnable(
+        readQueue,
+        mappedQueue,
+        cancelled,
+        pipelineAborted,
+        mapper,
+        sourceMessageTracker,
+        mdc));
+
+    final Future<?> writeThreadFuture = executors.submit(getDestinationWriteRunnable(
+        mappedQueue,
+        destination,
+        cancelled,
+        pipelineAborted,
+        mdc));
+
+    LOGGER.info("Waiting for source read thread to join.");
+    readThreadFuture.get();
+    LOGGER.info("Source read thread complete.");
+    LOGGER.info("Waiting for map thread to join.");
+    mapThreadFuture.get();
+    LOGGER.info("Map thread complete.");
+    LOGGER.info("Waiting for destination write thread to join.");
+    writeThreadFuture.get();
+    LOGGER.info("Destination write thread complete.");
+  }
+
+  private static Runnable getSourceReadRunnable(Source<AirbyteMessage> source,
+                                                BlockingQueue<AirbyteMessage> output,
+                                                AtomicBoolean cancelled,
+                                                AtomicBoolean pipelineAborted,
+                                                Map<String, String> mdc) {
+    return () -> {
+      MDC.setContextMap(mdc);
+      LOGGER.info("Source read thread started.");
+      try {
+        while (!cancelled.get() && !pipelineAborted.get() && !source.isFinished()) {
+          final Optional<AirbyteMessage> messageOptional = source.attemptRead();
+          if (messageOptional.isPresent() && !put(output, messageOptional.get(), cancelled, pipelineAborted)) {
+            return;
+          }
+        }
+        put(output, END_OF_STREAM, cancelled, pipelineAborted);
+      } catch (Exception e) {
+        pipelineAborted.set(true);
+        if (!cancelled.get()) {
+          // same race with the source's closure as in the single threaded replication runnable.
+          throw new RuntimeException(e);
+        }
+      }
+    };
+  }
+
+  private static Runnable getMapAndTrackRunnable(BlockingQueue<AirbyteMessage> input,
+                                                 BlockingQueue<AirbyteMessage> output,
+                                                 AtomicBoolean cancelled,
+                                                 AtomicBoolean pipelineAborted,
+                                                 Mapper<AirbyteMessage> mapper,
+                                                 MessageTracker<AirbyteMessage> sourceMessageTracker,
+                                                 Map<String, String> mdc) {
+    return () -> {
+      MDC.setContextMap(mdc);
+      LOGGER.info("Map thread started.");
+      try {
+        while (true) {
+          final AirbyteMessage inputMessage = take(input, cancelled, pipelineAborted);
+          if (inputMessage == null) {
+            return;
+          }
+          if (inputMessage == END_OF_STREAM) {
+            put(output, END_OF_STREAM, cancelled, pipelineAborted);
+            return;
+          }
+
+          final AirbyteMessage message = mapper.mapMessage(inputMessage);
+          sourceMessageTracker.accept(message);
+          if (!put(output, message, cancelled, pipelineAborted)) {
+            return;
+          }
+        }
+      } catch (Exception e) {
+        pipelineAborted.set(true);
+        if (!cancelled.get()) {
+          throw new RuntimeException(e);
+        }
+      }
+    };
+  }
+
+  private static Runnable getDestinationWriteRunnable(BlockingQueue<AirbyteMessage> input,
+                                                      Destination<AirbyteMessage> destination,
+                                                      AtomicBoolean cancelled,
+                                                      AtomicBoolean pipelineAborted,
+                                                      Map<String, String> mdc) {
+    return () -> {
+      MDC.setContextMap(mdc);
+      LOGGER.info("Destination write thread started.");
+      var recordsRead = 0;
+      try {
+        while (true) {
+          final AirbyteMessage message = take(input, cancelled, pipelineAborted);
+          if (message == null) {
+            return;
+          }
+          if (message == END_OF_STREAM) {
+            break;
+          }
+
+          destination.accept(message);
+          recordsRead += 1;
+
+          if (recordsRead % 1000 == 0) {
+            LOGGER.info("Records read: {}", recordsRead);
+          }
+        }
+        destination.notifyEndOfStream();
+      } catch (Exception e) {
+        pipelineAborted.set(true);
+        if (!cancelled.get()) {
+          // same race with the destination's closure as in the single threaded replication runnable.
+          throw new RuntimeException(e);
+        }
+      }
+    };
+  }
+
+  /**
+   * Blocks until the message fits in the queue.
+   *
+   * @return false if the pipeline was stopped before the message could be handed off.
+   */
+  private static boolean put(BlockingQueue<AirbyteMessage> queue,
+                             AirbyteMessage message,
+                             AtomicBoolean cancelled,
+                             AtomicBoolean pipelineAborted)
+      throws InterruptedException {
+    while (!queue.offer(message, PIPELINE_POLL_INTERVAL_MS, TimeUnit.MILLISECONDS)) {
+      if (cancelled.get() || pipelineAborted.get()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Blocks until a message is available in the queue.
+   *
+   * @return the next message, or null if the pipeline was stopped before one arrived.
+   */
+  private static AirbyteMessage take(BlockingQueue<AirbyteMessage> queue, AtomicBoolean cancelled, AtomicBoolean pipelineAborted)
+      throws InterruptedException {
+    AirbyteMessage message = null;
+    while (message == null) {
+      if (cancelled.get() || pipelineAborted.get()) {
+        return null;
+      }
+      message = queue.poll(PIPELINE_POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    }
+    return message;
+  }
+
   private static Runnable getReplicationRunnable(Source<AirbyteMessage> source,
                                                  Destination<AirbyteMessage> destination,
                                                  AtomicBoolean cancelled,
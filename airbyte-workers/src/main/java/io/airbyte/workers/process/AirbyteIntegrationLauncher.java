@@ -8,6 +8,7 @@ import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 import io.airbyte.config.ResourceRequirements;
+import io.airbyte.protocol.models.AirbyteMessageFraming;
 import io.airbyte.workers.WorkerException;
 import io.airbyte.workers.WorkerUtils;
 import java.nio.file.Path;
@@ -27,6 +28,7 @@ public class AirbyteIntegrationLauncher implements IntegrationLauncher {
   private final String imageName;
   private final ProcessFactory processFactory;
   private final ResourceRequirements resourceRequirement;
+  private final boolean requestFramedOutput;
 
   public AirbyteIntegrationLauncher(String jobId,
                                     int attempt,
@@ -40,11 +42,25 @@ public class AirbyteIntegrationLauncher implements IntegrationLauncher {
                                     final String imageName,
                                     final ProcessFactory processFactory,
                                     final ResourceRequirements resourceRequirement) {
+    this(jobId, attempt, imageName, processFactory, resourceRequirement, false);
+  }
+
+  /**
+   * @param requestFramedOutput if true, asks the connector to write framed messages when reading (see
+   *        {@link AirbyteMessageFraming}). Connectors that do not support it keep writing json lines.
+   */
+  public AirbyteIntegrationLauncher(String jobId,
+                                    int attempt,
+                                    final String imageName,
+                                    final ProcessFactory processFactory,
+                                    final ResourceRequirements resourceRequirement,
+                                    final boolean requestFramedOutput) {
     this.jobId = jobId;
     this.attempt = attempt;
     this.imageName = imageName;
     this.processFactory = processFactory;
     this.resourceRequirement = resourceRequirement;
+    this.requestFramedOutput = requestFramedOutput;
   }
 
   @Override
@@ -120,6 +136,10 @@ public class AirbyteIntegrationLauncher implements IntegrationLauncher {
       files.put(stateFilename, stateContents);
     }
 
+    if (requestFramedOutput) {
+      files.put(AirbyteMessageFraming.FORMAT_REQUEST_FILENAME, AirbyteMessageFraming.REQUESTED_FORMAT);
+    }
+
     return processFactory.create(
         jobId,
         attempt,
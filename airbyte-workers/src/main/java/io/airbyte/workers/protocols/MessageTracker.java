@@ -5,6 +5,8 @@
 package io.airbyte.workers.protocols;
 
 import io.airbyte.config.State;
+import io.airbyte.config.StreamSyncStats;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Consumer;
 
@@ -17,6 +19,8 @@ public interface MessageTracker<T> extends Consumer<T> {
 
   long getBytesCount();
 
+  List<StreamSyncStats> getStreamStats();
+
   Optional<State> getOutputState();
 
 }
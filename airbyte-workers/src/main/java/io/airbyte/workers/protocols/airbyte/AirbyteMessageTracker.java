@@ -7,36 +7,75 @@ package io.airbyte.workers.protocols.airbyte;
 import com.google.common.base.Charsets;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.config.State;
+import io.airbyte.config.StreamSyncStats;
 import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
 import io.airbyte.workers.protocols.MessageTracker;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
 
 public class AirbyteMessageTracker implements MessageTracker<AirbyteMessage> {
 
   private final AtomicLong recordCount;
   private final AtomicLong numBytes;
   private final AtomicReference<State> outputState;
+  private final Map<StreamKey, StreamCounter> streamCounters;
+
+  // records of a stream usually come in long runs, so the counter of the previous record is kept at
+  // hand to skip the map lookup.
+  private StreamCounter lastStreamCounter;
 
   public AirbyteMessageTracker() {
     this.recordCount = new AtomicLong();
     this.numBytes = new AtomicLong();
     this.outputState = new AtomicReference<>();
+    this.streamCounters = new ConcurrentHashMap<>();
   }
 
   @Override
   public void accept(AirbyteMessage message) {
     if (message.getType() == AirbyteMessage.Type.RECORD) {
+      final long messageBytes = getSizeInBytes(message);
       recordCount.incrementAndGet();
-      // todo (cgardens) - pretty wasteful to do an extra serialization just to get size.
-      numBytes.addAndGet(Jsons.serialize(message.getRecord().getData()).getBytes(Charsets.UTF_8).length);
+      numBytes.addAndGet(messageBytes);
+
+      final StreamCounter streamCounter = getStreamCounter(message.getRecord());
+      streamCounter.records.incrementAndGet();
+      streamCounter.bytes.addAndGet(messageBytes);
     }
     if (message.getType() == AirbyteMessage.Type.STATE) {
       outputState.set(new State().withState(message.getState().getData()));
     }
   }
 
+  private static long getSizeInBytes(AirbyteMessage message) {
+    if (message instanceof RawRecordMessage) {
+      // the data of raw records is never materialized, its size is measured on the line instead.
+      return ((RawRecordMessage) message).getDataSizeInBytes();
+    }
+    // todo (cgardens) - pretty wasteful to do an extra serialization just to get size.
+    return Jsons.serialize(message.getRecord().getData()).getBytes(Charsets.UTF_8).length;
+  }
+
+  private StreamCounter getStreamCounter(AirbyteRecordMessage record) {
+    final StreamCounter last = lastStreamCounter;
+    if (last != null && last.key.matches(record.getStream(), record.getNamespace())) {
+      return last;
+    }
+
+    final StreamCounter streamCounter = streamCounters.computeIfAbsent(
+        new StreamKey(record.getStream(), record.getNamespace()),
+        StreamCounter::new);
+    lastStreamCounter = streamCounter;
+    return streamCounter;
+  }
+
   @Override
   public long getRecordCount() {
     return recordCount.get();
@@ -47,9 +86,65 @@ public class AirbyteMessageTracker implements MessageTracker<AirbyteMessage> {
     return numBytes.get();
   }
 
+  @Override
+  public List<StreamSyncStats> getStreamStats() {
+    return streamCounters.values().stream()
+        .map(counter -> new StreamSyncStats()
+            .withStreamName(counter.key.stream)
+            .withStreamNamespace(counter.key.namespace)
+            .withRecordsSynced(counter.records.get())
+            .withBytesSynced(counter.bytes.get()))
+        .collect(Collectors.toList());
+  }
+
   @Override
   public Optional<State> getOutputState() {
     return Optional.ofNullable(outputState.get());
   }
 
+  private static class StreamKey {
+
+    private final String stream;
+    private final String namespace;
+
+    private StreamKey(String stream, String namespace) {
+      this.stream = stream;
+      this.namespace = namespace;
+    }
+
+    private boolean matches(String stream, String namespace) {
+      return Objects.equals(this.stream, stream) && Objects.equals(this.namespace, namespace);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      final StreamKey that = (StreamKey) o;
+      return matches(that.stream, that.namespace);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(stream, namespace);
+    }
+
+  }
+
+  private static class StreamCounter {
+
+    private final StreamKey key;
+    private final AtomicLong records = new AtomicLong();
+    private final AtomicLong bytes = new AtomicLong();
+
+    private StreamCounter(StreamKey key) {
+      this.key = key;
+    }
+
+  }
+
 }
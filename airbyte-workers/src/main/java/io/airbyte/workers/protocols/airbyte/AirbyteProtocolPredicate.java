@@ -5,12 +5,34 @@
 package io.airbyte.workers.protocols.airbyte;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import io.airbyte.protocol.models.AirbyteLogMessage;
+import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.AirbyteProtocolSchema;
 import io.airbyte.validation.json.JsonSchemaValidator;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Set;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
+/**
+ * Tests that a json object is a valid AirbyteMessage.
+ *
+ * <p>
+ * Messages that only hold a RECORD, STATE or LOG (the bulk of what flows through a sync) are
+ * checked with a hand-written structural check of the fields the protocol schema constrains. It
+ * only ever accepts messages the schema accepts; anything it does not accept is validated against
+ * the full protocol schema, so that invalid messages still get the same verdict and error logs.
+ */
 public class AirbyteProtocolPredicate implements Predicate<JsonNode> {
 
+  private static final Set<String> MESSAGE_TYPES = Arrays.stream(AirbyteMessage.Type.values())
+      .map(AirbyteMessage.Type::value)
+      .collect(Collectors.toUnmodifiableSet());
+  private static final Set<String> LOG_LEVELS = Arrays.stream(AirbyteLogMessage.Level.values())
+      .map(AirbyteLogMessage.Level::value)
+      .collect(Collectors.toUnmodifiableSet());
+
   private final JsonSchemaValidator jsonSchemaValidator;
   private final JsonNode schema;
 
@@ -21,7 +43,68 @@ public class AirbyteProtocolPredicate implements Predicate<JsonNode> {
 
   @Override
   public boolean test(JsonNode s) {
-    return jsonSchemaValidator.test(schema, s);
+    return isValidEnvelope(s) || jsonSchemaValidator.test(schema, s);
+  }
+
+  static boolean isValidEnvelope(final JsonNode message) {
+    if (!message.isObject()) {
+      return false;
+    }
+
+    final JsonNode type = message.get("type");
+    if (type == null || !type.isTextual() || !MESSAGE_TYPES.contains(type.textValue())) {
+      return false;
+    }
+
+    final Iterator<String> fieldNames = message.fieldNames();
+    while (fieldNames.hasNext()) {
+      final String fieldName = fieldNames.next();
+      final JsonNode field = message.get(fieldName);
+      final boolean isValidField = switch (fieldName) {
+        case "type" -> true;
+        case "record" -> isValidRecord(field);
+        case "state" -> isValidState(field);
+        case "log" -> isValidLog(field);
+        // other message types have schemas that are too large to be worth checking by hand.
+        default -> false;
+      };
+      if (!isValidField) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isValidRecord(final JsonNode record) {
+    if (!record.isObject()) {
+      return false;
+    }
+    final JsonNode stream = record.get("stream");
+    final JsonNode data = record.get("data");
+    final JsonNode emittedAt = record.get("emitted_at");
+    final JsonNode namespace = record.get("namespace");
+    return stream != null && stream.isTextual()
+        && data != null && data.isObject()
+        && emittedAt != null && emittedAt.canConvertToLong() && emittedAt.isIntegralNumber()
+        && (namespace == null || namespace.isTextual());
+  }
+
+  private static boolean isValidState(final JsonNode state) {
+    if (!state.isObject()) {
+      return false;
+    }
+    final JsonNode data = state.get("data");
+    return data != null && data.isObject();
+  }
+
+  private static boolean isValidLog(final JsonNode log) {
+    if (!log.isObject()) {
+      return false;
+    }
+    final JsonNode level = log.get("level");
+    final JsonNode message = log.get("message");
+    return level != null && level.isTextual() && LOG_LEVELS.contains(level.textValue())
+        && message != null && message.isTextual();
   }
 
 }
@@ -76,7 +76,11 @@ public class DefaultAirbyteDestination implements AirbyteDestination {
   public void accept(AirbyteMessage message) throws IOException {
     Preconditions.checkState(destinationProcess != null && !endOfStream.get());
 
-    writer.write(Jsons.serialize(message));
+    if (message instanceof RawRecordMessage) {
+      writer.write(((RawRecordMessage) message).serialize());
+    } else {
+      writer.write(Jsons.serialize(message));
+    }
     writer.newLine();
   }
 
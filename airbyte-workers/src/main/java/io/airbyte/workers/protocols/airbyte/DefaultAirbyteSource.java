@@ -6,21 +6,38 @@ package io.airbyte.workers.protocols.airbyte;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import com.google.common.collect.AbstractIterator;
 import io.airbyte.commons.io.IOs;
 import io.airbyte.commons.io.LineGobbler;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.config.WorkerSourceConfig;
 import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.AirbyteMessage.Type;
+import io.airbyte.protocol.models.AirbyteMessageFraming;
 import io.airbyte.workers.WorkerConstants;
 import io.airbyte.workers.WorkerException;
 import io.airbyte.workers.WorkerUtils;
 import io.airbyte.workers.process.IntegrationLauncher;
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -37,13 +54,14 @@ public class DefaultAirbyteSource implements AirbyteSource {
 
   private final IntegrationLauncher integrationLauncher;
   private final AirbyteStreamFactory streamFactory;
+  private final FramedAirbyteStreamFactory framedStreamFactory = new FramedAirbyteStreamFactory();
   private final HeartbeatMonitor heartbeatMonitor;
 
   private Process sourceProcess = null;
   private Iterator<AirbyteMessage> messageIterator = null;
 
   public DefaultAirbyteSource(final IntegrationLauncher integrationLauncher) {
-    this(integrationLauncher, new DefaultAirbyteStreamFactory(), new HeartbeatMonitor(HEARTBEAT_FRESH_DURATION));
+    this(integrationLauncher, new DefaultAirbyteStreamFactory(true), new HeartbeatMonitor(HEARTBEAT_FRESH_DURATION));
   }
 
   @VisibleForTesting
@@ -69,10 +87,71 @@ public class DefaultAirbyteSource implements AirbyteSource {
     // stdout logs are logged elsewhere since stdout also contains data
     LineGobbler.gobble(sourceProcess.getErrorStream(), LOGGER::error, "airbyte-source");
 
-    messageIterator = streamFactory.create(IOs.newBufferedReader(sourceProcess.getInputStream()))
+    // the format of the output is only detected once it is first read, so that starting does not
+    // block on the source.
+    final InputStream inputStream = sourceProcess.getInputStream();
+    final Supplier<Iterator<AirbyteMessage>> iteratorSupplier = Suppliers.memoize(() -> createMessageStream(inputStream)
         .peek(message -> heartbeatMonitor.beat())
         .filter(message -> message.getType() == Type.RECORD || message.getType() == Type.STATE)
-        .iterator();
+        .iterator());
+    messageIterator = new AbstractIterator<>() {
+
+      @Override
+      protected AirbyteMessage computeNext() {
+        final Iterator<AirbyteMessage> iterator = iteratorSupplier.get();
+        return iterator.hasNext() ? iterator.next() : endOfData();
+      }
+
+    };
+  }
+
+  /**
+   * A java source logs to stdout until it starts writing frames, so the preamble is looked for at the
+   * start of each line. The lines before it are parsed as json lines, like the lines after the end of
+   * the frames. The first record or state message shows that the output is json lines, and the rest of
+   * it is then read as such.
+   */
+  private Stream<AirbyteMessage> createMessageStream(final InputStream inputStream) {
+    final PushbackInputStream input = new PushbackInputStream(new BufferedInputStream(inputStream), AirbyteMessageFraming.PREAMBLE.length);
+    final List<AirbyteMessage> leadingMessages = new ArrayList<>();
+    try {
+      while (true) {
+        if (AirbyteMessageFraming.readPreamble(input)) {
+          LOGGER.info("Source output is framed.");
+          return Stream.concat(
+              Stream.concat(leadingMessages.stream(), framedStreamFactory.create(input)),
+              streamFactory.create(IOs.newBufferedReader(input)));
+        }
+
+        final Optional<String> line = readLine(input);
+        if (line.isEmpty()) {
+          break;
+        }
+        final List<AirbyteMessage> messages = streamFactory.create(new BufferedReader(new StringReader(line.get()))).collect(Collectors.toList());
+        leadingMessages.addAll(messages);
+        if (messages.stream().anyMatch(message -> message.getType() == Type.RECORD || message.getType() == Type.STATE)) {
+          break;
+        }
+      }
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return Stream.concat(leadingMessages.stream(), streamFactory.create(IOs.newBufferedReader(input)));
+  }
+
+  /**
+   * @return the next line without its line break, or empty if the input ended.
+   */
+  private static Optional<String> readLine(final InputStream input) throws IOException {
+    final ByteArrayOutputStream line = new ByteArrayOutputStream();
+    int b;
+    while ((b = input.read()) != -1 && b != '\n') {
+      line.write(b);
+    }
+    if (b == -1 && line.size() == 0) {
+      return Optional.empty();
+    }
+    return Optional.of(line.toString(StandardCharsets.UTF_8));
   }
 
   @Override
@@ -23,6 +23,11 @@ import org.slf4j.LoggerFactory;
  * If a line starts with a AirbyteMessage and then has other characters after it, that
  * AirbyteMessage will still be parsed. If there are multiple AirbyteMessage records on the same
  * line, only the first will be parsed.
+ *
+ * <p>
+ * When records passthrough is enabled, only the envelope of RECORD messages is read and the data
+ * is left as is in the original line (see {@link RawRecordMessage}). Every other message is fully
+ * parsed and validated.
  */
 public class DefaultAirbyteStreamFactory implements AirbyteStreamFactory {
 
@@ -30,20 +35,50 @@ public class DefaultAirbyteStreamFactory implements AirbyteStreamFactory {
 
   private final AirbyteProtocolPredicate protocolValidator;
   private final Logger logger;
+  private final boolean passthroughRecords;
 
   public DefaultAirbyteStreamFactory() {
-    this(new AirbyteProtocolPredicate(), LOGGER);
+    this(false);
+  }
+
+  public DefaultAirbyteStreamFactory(final boolean passthroughRecords) {
+    this(new AirbyteProtocolPredicate(), LOGGER, passthroughRecords);
   }
 
   DefaultAirbyteStreamFactory(final AirbyteProtocolPredicate protocolPredicate, final Logger logger) {
+    this(protocolPredicate, logger, false);
+  }
+
+  DefaultAirbyteStreamFactory(final AirbyteProtocolPredicate protocolPredicate, final Logger logger, final boolean passthroughRecords) {
     protocolValidator = protocolPredicate;
     this.logger = logger;
+    this.passthroughRecords = passthroughRecords;
   }
 
   @Override
   public Stream<AirbyteMessage> create(BufferedReader bufferedReader) {
     return bufferedReader
         .lines()
+        .flatMap(this::toAirbyteMessage)
+        // filter logs
+        .filter(m -> {
+          boolean isLog = m.getType() == AirbyteMessage.Type.LOG;
+          if (isLog) {
+            internalLog(logger, m.getLog());
+          }
+          return !isLog;
+        });
+  }
+
+  private Stream<AirbyteMessage> toAirbyteMessage(final String line) {
+    if (passthroughRecords) {
+      final Optional<AirbyteMessage> rawRecord = RawRecordMessage.tryParse(line);
+      if (rawRecord.isPresent()) {
+        return Stream.of(rawRecord.get());
+      }
+    }
+
+    return Stream.of(line)
         .map(s -> {
           Optional<JsonNode> j = Jsons.tryDeserialize(s);
           if (j.isEmpty()) {
@@ -72,18 +107,10 @@ public class DefaultAirbyteStreamFactory implements AirbyteStreamFactory {
           return m;
         })
         .filter(Optional::isPresent)
-        .map(Optional::get)
-        // filter logs
-        .filter(m -> {
-          boolean isLog = m.getType() == AirbyteMessage.Type.LOG;
-          if (isLog) {
-            internalLog(m.getLog());
-          }
-          return !isLog;
-        });
+        .map(Optional::get);
   }
 
-  private void internalLog(AirbyteLogMessage logMessage) {
+  static void internalLog(Logger logger, AirbyteLogMessage logMessage) {
     switch (logMessage.getLevel()) {
       case FATAL, ERROR -> logger.error(logMessage.getMessage());
       case WARN -> logger.warn(logMessage.getMessage());
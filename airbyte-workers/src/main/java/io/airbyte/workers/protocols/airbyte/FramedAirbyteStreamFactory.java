@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.protocols.airbyte;
+
+import com.google.common.collect.AbstractIterator;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteMessageFraming;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Creates a stream of AirbyteMessages from an input stream holding frames written by a connector
+ * that accepted the framed format (see {@link AirbyteMessageFraming}). The preamble must already
+ * have been consumed.
+ *
+ * <p>
+ * Frames are decoded straight into AirbyteMessages. Unlike json lines they cannot hold anything else
+ * than a message, so they are not validated against the protocol schema.
+ */
+public class FramedAirbyteStreamFactory {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(FramedAirbyteStreamFactory.class);
+
+  public Stream<AirbyteMessage> create(final InputStream inputStream) {
+    final DataInputStream input = new DataInputStream(inputStream);
+    final AbstractIterator<AirbyteMessage> iterator = new AbstractIterator<>() {
+
+      @Override
+      protected AirbyteMessage computeNext() {
+        try {
+          return AirbyteMessageFraming.readFrame(input).orElseGet(this::endOfData);
+        } catch (final IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      }
+
+    };
+
+    return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+        // filter logs
+        .filter(m -> {
+          final boolean isLog = m.getType() == AirbyteMessage.Type.LOG;
+          if (isLog) {
+            DefaultAirbyteStreamFactory.internalLog(LOGGER, m.getLog());
+          }
+          return !isLog;
+        });
+  }
+
+}
@@ -8,10 +8,12 @@ import io.airbyte.commons.json.Jsons;
 import io.airbyte.config.JobSyncConfig.NamespaceDefinitionType;
 import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.AirbyteMessage.Type;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
 import io.airbyte.protocol.models.AirbyteStream;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
 import io.airbyte.workers.protocols.Mapper;
-import java.util.regex.Pattern;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import org.apache.logging.log4j.util.Strings;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -25,15 +27,23 @@ import org.slf4j.LoggerFactory;
 public class NamespacingMapper implements Mapper<AirbyteMessage> {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(NamespacingMapper.class);
+  private static final String SOURCE_NAMESPACE_VARIABLE = "${SOURCE_NAMESPACE}";
 
   private final NamespaceDefinitionType namespaceDefinition;
   private final String namespaceFormat;
   private final String streamPrefix;
+  // source namespace -> source stream name -> destination namespace and stream name. filled by
+  // mapCatalog so that records only need a lookup. streams missing from the catalog are added on the
+  // fly. concurrent maps do not support null keys, so streams without namespace have their own map.
+  private final Map<String, Map<String, StreamTarget>> streamTargets;
+  private final Map<String, StreamTarget> noNamespaceStreamTargets;
 
   public NamespacingMapper(NamespaceDefinitionType namespaceDefinition, String namespaceFormat, String streamPrefix) {
     this.namespaceDefinition = namespaceDefinition;
     this.namespaceFormat = namespaceFormat;
     this.streamPrefix = streamPrefix;
+    this.streamTargets = new ConcurrentHashMap<>();
+    this.noNamespaceStreamTargets = new ConcurrentHashMap<>();
   }
 
   @Override
@@ -41,47 +51,77 @@ public class NamespacingMapper implements Mapper<AirbyteMessage> {
     final ConfiguredAirbyteCatalog catalog = Jsons.clone(inputCatalog);
     catalog.getStreams().forEach(s -> {
       final AirbyteStream stream = s.getStream();
-      // Default behavior if namespaceDefinition is not set is to follow SOURCE
-      if (namespaceDefinition != null) {
-        if (namespaceDefinition.equals(NamespaceDefinitionType.DESTINATION)) {
-          stream.withNamespace(null);
-        } else if (namespaceDefinition.equals(NamespaceDefinitionType.CUSTOMFORMAT)) {
-          final String namespace = formatNamespace(stream.getNamespace(), namespaceFormat);
-          if (namespace == null) {
-            LOGGER.error("Namespace Format cannot be blank for Stream {}. Falling back to default namespace from destination settings",
-                stream.getName());
-          }
-          stream.withNamespace(namespace);
-        }
+      final StreamTarget target = getStreamTarget(stream.getNamespace(), stream.getName());
+      if (namespaceDefinition == NamespaceDefinitionType.CUSTOMFORMAT && target.namespace == null) {
+        LOGGER.error("Namespace Format cannot be blank for Stream {}. Falling back to default namespace from destination settings",
+            stream.getName());
       }
-      stream.withName(transformStreamName(stream.getName(), streamPrefix));
+      stream.withNamespace(target.namespace);
+      stream.withName(target.name);
     });
     return catalog;
   }
 
+  /**
+   * Only the stream and namespace of records are rewritten. The returned message is a shallow copy
+   * of the input, so the record data is shared with the input message instead of being cloned.
+   */
   @Override
   public AirbyteMessage mapMessage(final AirbyteMessage inputMessage) {
-    if (inputMessage.getType() == Type.RECORD) {
-      final AirbyteMessage message = Jsons.clone(inputMessage);
-      // Default behavior if namespaceDefinition is not set is to follow SOURCE
-      if (namespaceDefinition != null) {
-        if (namespaceDefinition.equals(NamespaceDefinitionType.DESTINATION)) {
-          message.getRecord().withNamespace(null);
-        } else if (namespaceDefinition.equals(NamespaceDefinitionType.CUSTOMFORMAT)) {
-          message.getRecord().withNamespace(formatNamespace(message.getRecord().getNamespace(), namespaceFormat));
-        }
-      }
-      message.getRecord().setStream(transformStreamName(message.getRecord().getStream(), streamPrefix));
-      return message;
+    if (inputMessage.getType() != Type.RECORD) {
+      return inputMessage;
+    }
+
+    final AirbyteRecordMessage inputRecord = inputMessage.getRecord();
+    final StreamTarget target = getStreamTarget(inputRecord.getNamespace(), inputRecord.getStream());
+    if (inputMessage instanceof RawRecordMessage) {
+      return ((RawRecordMessage) inputMessage).withEnvelope(target.name, target.namespace);
+    }
+
+    final AirbyteRecordMessage record = new AirbyteRecordMessage()
+        .withStream(target.name)
+        .withNamespace(target.namespace)
+        .withData(inputRecord.getData())
+        .withEmittedAt(inputRecord.getEmittedAt());
+    inputRecord.getAdditionalProperties().forEach(record::setAdditionalProperty);
+
+    final AirbyteMessage message = new AirbyteMessage()
+        .withType(inputMessage.getType())
+        .withLog(inputMessage.getLog())
+        .withSpec(inputMessage.getSpec())
+        .withConnectionStatus(inputMessage.getConnectionStatus())
+        .withCatalog(inputMessage.getCatalog())
+        .withRecord(record)
+        .withState(inputMessage.getState());
+    inputMessage.getAdditionalProperties().forEach(message::setAdditionalProperty);
+    return message;
+  }
+
+  private StreamTarget getStreamTarget(final String sourceNamespace, final String sourceStreamName) {
+    final Map<String, StreamTarget> namespaceTargets = sourceNamespace == null
+        ? noNamespaceStreamTargets
+        : streamTargets.computeIfAbsent(sourceNamespace, k -> new ConcurrentHashMap<>());
+    return namespaceTargets.computeIfAbsent(sourceStreamName, k -> new StreamTarget(
+        transformNamespace(sourceNamespace),
+        transformStreamName(sourceStreamName, streamPrefix)));
+  }
+
+  private String transformNamespace(final String sourceNamespace) {
+    // Default behavior if namespaceDefinition is not set is to follow SOURCE
+    if (namespaceDefinition == null) {
+      return sourceNamespace;
     }
-    return inputMessage;
+    return switch (namespaceDefinition) {
+      case DESTINATION -> null;
+      case CUSTOMFORMAT -> formatNamespace(sourceNamespace, namespaceFormat);
+      default -> sourceNamespace;
+    };
   }
 
   private static String formatNamespace(final String sourceNamespace, final String namespaceFormat) {
     String result = "";
     if (Strings.isNotBlank(namespaceFormat)) {
-      final String regex = Pattern.quote("${SOURCE_NAMESPACE}");
-      result = namespaceFormat.replaceAll(regex, Strings.isNotBlank(sourceNamespace) ? sourceNamespace : "");
+      result = namespaceFormat.replace(SOURCE_NAMESPACE_VARIABLE, Strings.isNotBlank(sourceNamespace) ? sourceNamespace : "");
     }
     if (Strings.isBlank(result)) {
       result = null;
@@ -97,4 +137,16 @@ public class NamespacingMapper implements Mapper<AirbyteMessage> {
     }
   }
 
+  private static class StreamTarget {
+
+    private final String namespace;
+    private final String name;
+
+    private StreamTarget(final String namespace, final String name) {
+      this.namespace = namespace;
+      this.name = name;
+    }
+
+  }
+
 }
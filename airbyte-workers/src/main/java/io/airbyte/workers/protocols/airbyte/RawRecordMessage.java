@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.protocols.airbyte;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonParser.NumberType;
+import com.fasterxml.jackson.core.JsonToken;
+import com.google.common.base.Utf8;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import java.io.IOException;
+import java.nio.CharBuffer;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A RECORD message of which only the envelope (stream and namespace) has been read. The record data
+ * is never materialized: the original line is forwarded as is to the destination, unless the
+ * envelope was changed on the way (e.g. by the {@link NamespacingMapper}), in which case the line is
+ * fully parsed and re-serialized with the new envelope.
+ */
+public class RawRecordMessage extends AirbyteMessage {
+
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+  private final String line;
+  private final long dataSizeInBytes;
+  private final String sourceStream;
+  private final String sourceNamespace;
+
+  private RawRecordMessage(final String line,
+                           final long dataSizeInBytes,
+                           final String sourceStream,
+                           final String sourceNamespace,
+                           final String stream,
+                           final String namespace) {
+    this.line = line;
+    this.dataSizeInBytes = dataSizeInBytes;
+    this.sourceStream = sourceStream;
+    this.sourceNamespace = sourceNamespace;
+    withType(Type.RECORD);
+    withRecord(new AirbyteRecordMessage().withStream(stream).withNamespace(namespace));
+  }
+
+  /**
+   * Reads the envelope of a line with a streaming parser, skipping over the record data.
+   *
+   * @param line line read from the source
+   * @return the raw record, or empty if the line is not a well-formed RECORD message holding only
+   *         the fields the worker knows how to pass through. such lines have to be fully parsed and
+   *         validated instead.
+   */
+  public static Optional<AirbyteMessage> tryParse(final String line) {
+    try (final JsonParser parser = JSON_FACTORY.createParser(line)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        return Optional.empty();
+      }
+
+      String type = null;
+      String stream = null;
+      String namespace = null;
+      boolean hasData = false;
+      long dataSizeInBytes = 0;
+      boolean hasEmittedAt = false;
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        final String field = parser.getCurrentName();
+        final JsonToken token = parser.nextToken();
+        if ("type".equals(field) && token == JsonToken.VALUE_STRING) {
+          type = parser.getText();
+        } else if ("record".equals(field) && token == JsonToken.START_OBJECT) {
+          while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String recordField = parser.getCurrentName();
+            final JsonToken recordToken = parser.nextToken();
+            switch (recordField) {
+              case "stream" -> {
+                if (recordToken != JsonToken.VALUE_STRING) {
+                  return Optional.empty();
+                }
+                stream = parser.getText();
+              }
+              case "namespace" -> {
+                if (recordToken != JsonToken.VALUE_STRING) {
+                  return Optional.empty();
+                }
+                namespace = parser.getText();
+              }
+              case "data" -> {
+                if (recordToken != JsonToken.START_OBJECT) {
+                  return Optional.empty();
+                }
+                final int dataStart = (int) parser.getTokenLocation().getCharOffset();
+                parser.skipChildren();
+                final int dataEnd = (int) parser.getCurrentLocation().getCharOffset();
+                dataSizeInBytes = Utf8.encodedLength(CharBuffer.wrap(line, dataStart, dataEnd));
+                hasData = true;
+              }
+              case "emitted_at" -> {
+                if (recordToken != JsonToken.VALUE_NUMBER_INT || parser.getNumberType() == NumberType.BIG_INTEGER) {
+                  return Optional.empty();
+                }
+                hasEmittedAt = true;
+              }
+              default -> parser.skipChildren();
+            }
+          }
+        } else {
+          // any other top level field is unusual for a record, let the full parser deal with it.
+          return Optional.empty();
+        }
+      }
+
+      // reject anything after the message, the full parser would drop it instead of forwarding it.
+      if (parser.currentToken() != JsonToken.END_OBJECT || parser.nextToken() != null) {
+        return Optional.empty();
+      }
+      if (!Type.RECORD.value().equals(type) || stream == null || !hasData || !hasEmittedAt) {
+        return Optional.empty();
+      }
+
+      return Optional.of(new RawRecordMessage(line, dataSizeInBytes, stream, namespace, stream, namespace));
+    } catch (final IOException e) {
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * @return a copy of this message that will be written to the destination with the given stream
+   *         and namespace.
+   */
+  public RawRecordMessage withEnvelope(final String stream, final String namespace) {
+    return new RawRecordMessage(line, dataSizeInBytes, sourceStream, sourceNamespace, stream, namespace);
+  }
+
+  @JsonIgnore
+  public String getLine() {
+    return line;
+  }
+
+  /**
+   * @return size of the record data as read from the source, in UTF-8 bytes. This is the size of
+   *         the serialized data of a fully parsed record, as long as the source writes compact json.
+   */
+  @JsonIgnore
+  public long getDataSizeInBytes() {
+    return dataSizeInBytes;
+  }
+
+  @JsonIgnore
+  public boolean isEnvelopeUnchanged() {
+    return Objects.equals(sourceStream, getRecord().getStream()) && Objects.equals(sourceNamespace, getRecord().getNamespace());
+  }
+
+  /**
+   * @return the line to send to the destination.
+   */
+  public String serialize() {
+    if (isEnvelopeUnchanged()) {
+      return line;
+    }
+
+    final AirbyteMessage message = Jsons.deserialize(line, AirbyteMessage.class);
+    message.getRecord()
+        .withStream(getRecord().getStream())
+        .withNamespace(getRecord().getNamespace());
+    return Jsons.serialize(message);
+  }
+
+}
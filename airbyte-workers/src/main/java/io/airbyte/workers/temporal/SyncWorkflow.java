@@ -127,6 +127,9 @@ public interface SyncWorkflow {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ReplicationActivityImpl.class);
 
+    private static final int REPLICATION_PIPELINE_BUFFER_SIZE = new EnvConfigs().getReplicationPipelineBufferSize();
+    private static final boolean REQUEST_FRAMED_SOURCE_OUTPUT = new EnvConfigs().getRequestFramedSourceOutput();
+
     private final ProcessFactory processFactory;
     private final SecretsHydrator secretsHydrator;
     private final Path workspaceRoot;
@@ -210,7 +213,8 @@ public interface SyncWorkflow {
             Math.toIntExact(sourceLauncherConfig.getAttemptId()),
             sourceLauncherConfig.getDockerImage(),
             processFactory,
-            syncInput.getResourceRequirements());
+            syncInput.getResourceRequirements(),
+            REQUEST_FRAMED_SOURCE_OUTPUT);
         final IntegrationLauncher destinationLauncher = new AirbyteIntegrationLauncher(
             destinationLauncherConfig.getJobId(),
             Math.toIntExact(destinationLauncherConfig.getAttemptId()),
@@ -230,7 +234,8 @@ public interface SyncWorkflow {
             new NamespacingMapper(syncInput.getNamespaceDefinition(), syncInput.getNamespaceFormat(), syncInput.getPrefix()),
             new DefaultAirbyteDestination(destinationLauncher),
             new AirbyteMessageTracker(),
-            new AirbyteMessageTracker());
+            new AirbyteMessageTracker(),
+            REPLICATION_PIPELINE_BUFFER_SIZE);
       };
     }
 
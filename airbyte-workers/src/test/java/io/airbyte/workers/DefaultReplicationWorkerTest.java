@@ -132,6 +132,52 @@ class DefaultReplicationWorkerTest {
     verify(destination).close();
   }
 
+  @Test
+  void testPipelined() throws Exception {
+    final ReplicationWorker worker = new DefaultReplicationWorker(
+        JOB_ID,
+        JOB_ATTEMPT,
+        source,
+        mapper,
+        destination,
+        sourceMessageTracker,
+        destinationMessageTracker,
+        1);
+
+    worker.run(syncInput, jobRoot);
+
+    verify(source).start(sourceConfig, jobRoot);
+    verify(destination).start(destinationConfig, jobRoot);
+    verify(sourceMessageTracker).accept(RECORD_MESSAGE1);
+    verify(sourceMessageTracker).accept(RECORD_MESSAGE2);
+    verify(destination).accept(RECORD_MESSAGE1);
+    verify(destination).accept(RECORD_MESSAGE2);
+    verify(destination).notifyEndOfStream();
+    verify(source).close();
+    verify(destination).close();
+  }
+
+  @Test
+  void testPipelinedFailsWhenStageFails() throws Exception {
+    doThrow(new IOException("induced exception")).when(destination).accept(RECORD_MESSAGE1);
+    when(source.isFinished()).thenReturn(false);
+    when(source.attemptRead()).thenReturn(Optional.of(RECORD_MESSAGE1));
+
+    final ReplicationWorker worker = new DefaultReplicationWorker(
+        JOB_ID,
+        JOB_ATTEMPT,
+        source,
+        mapper,
+        destination,
+        sourceMessageTracker,
+        destinationMessageTracker,
+        1);
+
+    final ReplicationOutput actual = Assertions.assertTimeout(Duration.ofSeconds(10), () -> worker.run(syncInput, jobRoot));
+
+    assertEquals(ReplicationStatus.FAILED, actual.getReplicationAttemptSummary().getStatus());
+  }
+
   @Test
   void testLoggingInThreads() throws IOException, WorkerException {
     // set up the mdc so that actually log to a file, so that we can verify that file logging captures
@@ -11,9 +11,13 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.collect.ImmutableMap;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.config.State;
+import io.airbyte.config.StreamSyncStats;
 import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.AirbyteRecordMessage;
 import io.airbyte.protocol.models.AirbyteStateMessage;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
 import org.testcontainers.shaded.com.google.common.base.Charsets;
 
@@ -34,6 +38,39 @@ class AirbyteMessageTrackerTest {
     assertEquals(3 * Jsons.serialize(message.getRecord().getData()).getBytes(Charsets.UTF_8).length, messageTracker.getBytesCount());
   }
 
+  @Test
+  public void testCountsRawRecordLikeParsedRecord() {
+    final AirbyteMessage record = AirbyteMessageUtils.createRecordMessage("stream", "name", "rüdolph");
+    final AirbyteMessage rawRecord = RawRecordMessage.tryParse(Jsons.serialize(record)).orElseThrow();
+
+    final AirbyteMessageTracker rawRecordTracker = new AirbyteMessageTracker();
+    rawRecordTracker.accept(rawRecord);
+    final AirbyteMessageTracker recordTracker = new AirbyteMessageTracker();
+    recordTracker.accept(record);
+
+    assertEquals(1, rawRecordTracker.getRecordCount());
+    assertEquals(Jsons.serialize(record.getRecord().getData()).getBytes(Charsets.UTF_8).length, rawRecordTracker.getBytesCount());
+    assertEquals(recordTracker.getBytesCount(), rawRecordTracker.getBytesCount());
+    assertEquals(recordTracker.getStreamStats(), rawRecordTracker.getStreamStats());
+  }
+
+  @Test
+  public void testCountsPerStream() {
+    final AirbyteMessage record1 = AirbyteMessageUtils.createRecordMessage("stream1", "name", "rudolph");
+    final AirbyteMessage record2 = AirbyteMessageUtils.createRecordMessage("stream2", "name", "rudolph");
+    final long recordBytes = Jsons.serialize(record1.getRecord().getData()).getBytes(Charsets.UTF_8).length;
+
+    final AirbyteMessageTracker messageTracker = new AirbyteMessageTracker();
+    messageTracker.accept(record1);
+    messageTracker.accept(record2);
+    messageTracker.accept(record1);
+
+    final Map<String, StreamSyncStats> streamStats = messageTracker.getStreamStats().stream()
+        .collect(Collectors.toMap(StreamSyncStats::getStreamName, Function.identity()));
+    assertEquals(new StreamSyncStats().withStreamName("stream1").withRecordsSynced(2L).withBytesSynced(2 * recordBytes), streamStats.get("stream1"));
+    assertEquals(new StreamSyncStats().withStreamName("stream2").withRecordsSynced(1L).withBytesSynced(recordBytes), streamStats.get("stream2"));
+  }
+
   @Test
   public void testRetainsLatestState() {
     final JsonNode oldStateValue = Jsons.jsonNode(ImmutableMap.builder().put("lastSync", "1598900000").build());
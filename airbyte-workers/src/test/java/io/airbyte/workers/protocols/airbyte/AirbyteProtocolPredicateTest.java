@@ -8,6 +8,7 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import io.airbyte.commons.json.Jsons;
+import io.airbyte.protocol.models.AirbyteLogMessage.Level;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -33,6 +34,25 @@ class AirbyteProtocolPredicateTest {
     assertFalse(predicate.test(Jsons.deserialize("{ \"fish\": \"tuna\"}")));
   }
 
+  @Test
+  void testValidEnvelope() {
+    assertTrue(AirbyteProtocolPredicate.isValidEnvelope(Jsons.jsonNode(AirbyteMessageUtils.createRecordMessage(STREAM_NAME, FIELD_NAME, "green"))));
+    assertTrue(AirbyteProtocolPredicate.isValidEnvelope(Jsons.jsonNode(AirbyteMessageUtils.createStateMessage("checkpoint", "1"))));
+    assertTrue(AirbyteProtocolPredicate.isValidEnvelope(Jsons.jsonNode(AirbyteMessageUtils.createLogMessage(Level.INFO, "hello"))));
+  }
+
+  @Test
+  void testInvalidEnvelopeFallsBackToSchema() {
+    // envelopes the structural check does not accept are still validated against the full schema.
+    final String recordWithNullNamespace = "{\"type\":\"RECORD\",\"record\":{\"stream\":\"s\",\"data\":{},\"emitted_at\":1,\"namespace\":null}}";
+    assertFalse(AirbyteProtocolPredicate.isValidEnvelope(Jsons.deserialize(recordWithNullNamespace)));
+    assertFalse(predicate.test(Jsons.deserialize(recordWithNullNamespace)));
+
+    final String connectionStatus = "{\"type\":\"CONNECTION_STATUS\",\"connectionStatus\":{\"status\":\"SUCCEEDED\"}}";
+    assertFalse(AirbyteProtocolPredicate.isValidEnvelope(Jsons.deserialize(connectionStatus)));
+    assertTrue(predicate.test(Jsons.deserialize(connectionStatus)));
+  }
+
   @Test
   void testConcatenatedValid() {
     final String concatenated =
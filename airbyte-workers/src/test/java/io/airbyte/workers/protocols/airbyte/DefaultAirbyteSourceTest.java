@@ -19,7 +19,9 @@ import com.google.common.collect.Lists;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.config.State;
 import io.airbyte.config.WorkerSourceConfig;
+import io.airbyte.protocol.models.AirbyteLogMessage;
 import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteMessageFraming;
 import io.airbyte.protocol.models.CatalogHelpers;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
 import io.airbyte.protocol.models.Field;
@@ -28,6 +30,8 @@ import io.airbyte.workers.WorkerConstants;
 import io.airbyte.workers.WorkerException;
 import io.airbyte.workers.process.IntegrationLauncher;
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
@@ -36,6 +40,7 @@ import java.nio.file.Path;
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -137,4 +142,49 @@ class DefaultAirbyteSourceTest {
     Assertions.assertThrows(WorkerException.class, tap::close);
   }
 
+  @Test
+  public void testReadsFramesAfterLogLines() throws Exception {
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    // a java source logs to stdout before it starts writing frames.
+    output.write("starting source\n".getBytes(StandardCharsets.UTF_8));
+    output.write((Jsons.serialize(AirbyteMessageUtils.createLogMessage(AirbyteLogMessage.Level.INFO, "reading")) + "\n")
+        .getBytes(StandardCharsets.UTF_8));
+    final DataOutputStream frames = new DataOutputStream(output);
+    AirbyteMessageFraming.writePreamble(frames);
+    for (final AirbyteMessage message : MESSAGES) {
+      AirbyteMessageFraming.writeFrame(frames, message);
+    }
+    // and again once it wrote the frames.
+    AirbyteMessageFraming.writeEndOfFrames(frames);
+    output.write("completed source\n".getBytes(StandardCharsets.UTF_8));
+    output.write((Jsons.serialize(AirbyteMessageUtils.createLogMessage(AirbyteLogMessage.Level.INFO, "done")) + "\n")
+        .getBytes(StandardCharsets.UTF_8));
+    when(process.getInputStream()).thenReturn(new ByteArrayInputStream(output.toByteArray()));
+
+    assertEquals(MESSAGES, readAll(new DefaultAirbyteStreamFactory()));
+  }
+
+  @Test
+  public void testReadsJsonLinesAfterLogLines() throws Exception {
+    final StringBuilder output = new StringBuilder("starting source\n");
+    for (final AirbyteMessage message : MESSAGES) {
+      output.append(Jsons.serialize(message)).append('\n');
+    }
+    when(process.getInputStream()).thenReturn(new ByteArrayInputStream(output.toString().getBytes(StandardCharsets.UTF_8)));
+
+    assertEquals(MESSAGES, readAll(new DefaultAirbyteStreamFactory()));
+  }
+
+  private List<AirbyteMessage> readAll(final AirbyteStreamFactory streamFactory) throws Exception {
+    final AirbyteSource source = new DefaultAirbyteSource(integrationLauncher, streamFactory, heartbeatMonitor);
+    source.start(SOURCE_CONFIG, jobRoot);
+
+    final List<AirbyteMessage> messages = Lists.newArrayList();
+    Optional<AirbyteMessage> message;
+    while ((message = source.attemptRead()).isPresent()) {
+      messages.add(message.get());
+    }
+    return messages;
+  }
+
 }
@@ -5,6 +5,8 @@
 package io.airbyte.workers.protocols.airbyte;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
@@ -21,6 +23,7 @@ import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.util.Collections;
+import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
@@ -102,6 +105,32 @@ class DefaultAirbyteStreamFactoryTest {
     verifyNoMoreInteractions(logger);
   }
 
+  @Test
+  public void testPassthroughRecord() {
+    final AirbyteMessage record1 = AirbyteMessageUtils.createRecordMessage(STREAM_NAME, FIELD_NAME, "green");
+    final String line = Jsons.serialize(record1);
+
+    final List<AirbyteMessage> messages = stringToMessageStream(line, true).collect(Collectors.toList());
+
+    assertEquals(1, messages.size());
+    assertTrue(messages.get(0) instanceof RawRecordMessage);
+    assertEquals(line, ((RawRecordMessage) messages.get(0)).getLine());
+    assertEquals(STREAM_NAME, messages.get(0).getRecord().getStream());
+    // the envelope is enough to pass the record through, nothing should be validated.
+    verifyNoInteractions(protocolPredicate);
+    verifyNoInteractions(logger);
+  }
+
+  @Test
+  public void testPassthroughFallsBackForOtherMessages() {
+    final AirbyteMessage state = AirbyteMessageUtils.createStateMessage("checkpoint", "1");
+
+    final List<AirbyteMessage> messages = stringToMessageStream(Jsons.serialize(state), true).collect(Collectors.toList());
+
+    assertEquals(List.of(state), messages);
+    assertFalse(messages.get(0) instanceof RawRecordMessage);
+  }
+
   @Test
   @Disabled
   public void testMissingNewLineBetweenValidRecords() {
@@ -118,9 +147,13 @@ class DefaultAirbyteStreamFactoryTest {
   }
 
   private Stream<AirbyteMessage> stringToMessageStream(String inputString) {
+    return stringToMessageStream(inputString, false);
+  }
+
+  private Stream<AirbyteMessage> stringToMessageStream(String inputString, boolean passthroughRecords) {
     InputStream inputStream = new ByteArrayInputStream(inputString.getBytes());
     final BufferedReader bufferedReader = new BufferedReader(new InputStreamReader(inputStream));
-    return new DefaultAirbyteStreamFactory(protocolPredicate, logger).create(bufferedReader);
+    return new DefaultAirbyteStreamFactory(protocolPredicate, logger, passthroughRecords).create(bufferedReader);
   }
 
 }
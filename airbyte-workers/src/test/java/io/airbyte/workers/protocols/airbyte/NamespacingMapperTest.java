@@ -5,6 +5,8 @@
 package io.airbyte.workers.protocols.airbyte;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.config.JobSyncConfig.NamespaceDefinitionType;
@@ -201,4 +203,32 @@ class NamespacingMapperTest {
     assertEquals(expectedMessage, actualMessage);
   }
 
+  @Test
+  void testRawRecordOnlyRewritesEnvelope() {
+    final NamespacingMapper mapper = new NamespacingMapper(NamespaceDefinitionType.CUSTOMFORMAT, "${SOURCE_NAMESPACE}_suffix", OUTPUT_PREFIX);
+    final String line = Jsons.serialize(RECORD_MESSAGE);
+    final RawRecordMessage rawRecord = (RawRecordMessage) RawRecordMessage.tryParse(line).orElseThrow();
+
+    final RawRecordMessage actualMessage = (RawRecordMessage) mapper.mapMessage(rawRecord);
+
+    assertEquals(OUTPUT_PREFIX + STREAM_NAME, actualMessage.getRecord().getStream());
+    assertEquals(INPUT_NAMESPACE + "_suffix", actualMessage.getRecord().getNamespace());
+    assertEquals(line, actualMessage.getLine());
+    // the input message is left untouched.
+    assertEquals(STREAM_NAME, rawRecord.getRecord().getStream());
+  }
+
+  @Test
+  void testRecordDataIsNotCloned() {
+    final NamespacingMapper mapper = new NamespacingMapper(NamespaceDefinitionType.DESTINATION, null, OUTPUT_PREFIX);
+    mapper.mapCatalog(CATALOG);
+
+    final AirbyteMessage actualMessage = mapper.mapMessage(RECORD_MESSAGE);
+
+    assertSame(RECORD_MESSAGE.getRecord().getData(), actualMessage.getRecord().getData());
+    assertEquals(OUTPUT_PREFIX + STREAM_NAME, actualMessage.getRecord().getStream());
+    assertNull(actualMessage.getRecord().getNamespace());
+    assertEquals(INPUT_NAMESPACE, RECORD_MESSAGE.getRecord().getNamespace());
+  }
+
 }
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.protocols.airbyte;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.protocol.models.AirbyteMessage;
+import org.junit.jupiter.api.Test;
+
+class RawRecordMessageTest {
+
+  private static final String STREAM_NAME = "user_preferences";
+  private static final String FIELD_NAME = "favorite_color";
+
+  @Test
+  void testParsesEnvelope() {
+    final AirbyteMessage record = AirbyteMessageUtils.createRecordMessage(STREAM_NAME, FIELD_NAME, "blue");
+    record.getRecord().withNamespace("public");
+    final String line = Jsons.serialize(record);
+
+    final RawRecordMessage rawRecord = (RawRecordMessage) RawRecordMessage.tryParse(line).orElseThrow();
+
+    assertEquals(AirbyteMessage.Type.RECORD, rawRecord.getType());
+    assertEquals(STREAM_NAME, rawRecord.getRecord().getStream());
+    assertEquals("public", rawRecord.getRecord().getNamespace());
+    assertTrue(rawRecord.isEnvelopeUnchanged());
+    assertSame(line, rawRecord.serialize());
+  }
+
+  @Test
+  void testRejectsUnusualLines() {
+    final AirbyteMessage record = AirbyteMessageUtils.createRecordMessage(STREAM_NAME, FIELD_NAME, "blue");
+
+    assertFalse(RawRecordMessage.tryParse("invalid line").isPresent());
+    assertFalse(RawRecordMessage.tryParse(Jsons.serialize(AirbyteMessageUtils.createStateMessage("checkpoint", "1"))).isPresent());
+    assertFalse(RawRecordMessage.tryParse(Jsons.serialize(record) + "{}").isPresent());
+    assertFalse(RawRecordMessage.tryParse("{\"type\":\"RECORD\",\"record\":{\"stream\":\"s\",\"emitted_at\":1}}").isPresent());
+    assertFalse(RawRecordMessage.tryParse("{\"type\":\"RECORD\",\"record\":{\"stream\":\"s\",\"data\":[],\"emitted_at\":1}}").isPresent());
+    assertFalse(RawRecordMessage.tryParse("{\"type\":\"RECORD\",\"record\":{\"stream\":\"s\",\"data\":{},\"emitted_at\":1},\"log\":{}}").isPresent());
+  }
+
+  @Test
+  void testSerializesChangedEnvelope() {
+    final AirbyteMessage record = AirbyteMessageUtils.createRecordMessage(STREAM_NAME, FIELD_NAME, "blue");
+    final RawRecordMessage rawRecord = (RawRecordMessage) RawRecordMessage.tryParse(Jsons.serialize(record)).orElseThrow();
+
+    final RawRecordMessage mapped = rawRecord.withEnvelope("prefix_" + STREAM_NAME, "output_namespace");
+
+    assertFalse(mapped.isEnvelopeUnchanged());
+    record.getRecord().withStream("prefix_" + STREAM_NAME).withNamespace("output_namespace");
+    assertEquals(record, Jsons.deserialize(mapped.serialize(), AirbyteMessage.class));
+  }
+
+}